@@ -4,11 +4,14 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
 import fr.atlasworld.cardinal.api.exception.data.DataLoadingException;
 import fr.atlasworld.cardinal.api.exception.data.DataSerializationException;
+import fr.atlasworld.cardinal.api.util.ByteBufferInputStream;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.util.Optional;
 
 /**
  * Holds the source of the data and prevents wasteful operations on memory when loading data elements.
@@ -31,6 +34,33 @@ public interface ResourceSource {
      */
     @NotNull InputStream openStream() throws DataLoadingException;
 
+    /**
+     * Retrieve a read-only view of the data, without copying it.
+     * <p>
+     * Only available when the source is stored uncompressed and can be accessed directly, such as entries of mapped datapacks.
+     * Otherwise {@link #openStream()} should be used.
+     * <br>
+     * Used by {@link #asJson()} when available.
+     *
+     * @return optional containing the view of the data, or an empty optional if not directly accessible.
+     * @throws DataLoadingException if an I/O error occurs while accessing the data.
+     */
+    default @NotNull Optional<ByteBuffer> openBuffer() throws DataLoadingException {
+        return Optional.empty();
+    }
+
+    /**
+     * Retrieve an identifier of the current content of the source, obtained without reading the data.
+     * <p>
+     * The identifier changes whenever the content changes, such as the checksum and size of an archive entry.
+     * Used to key caches of data derived from the source.
+     *
+     * @return optional containing the identifier, or an empty optional if the source cannot tell when it changes.
+     */
+    default @NotNull Optional<String> version() {
+        return Optional.empty();
+    }
+
     /**
      * Open the current source as a JSON.
      * <p>
@@ -45,7 +75,9 @@ public interface ResourceSource {
      * @throws DataSerializationException if the data could not be parsed as JSON.
      */
     default @NotNull JsonElement asJson() throws DataLoadingException, DataSerializationException {
-        try (InputStream stream = openStream();
+        // Parse straight from the data when directly accessible, skipping the archive stream.
+        Optional<ByteBuffer> buffer = openBuffer();
+        try (InputStream stream = buffer.isPresent() ? new ByteBufferInputStream(buffer.get()) : openStream();
              InputStreamReader reader = new InputStreamReader(stream)) {
 
             try {
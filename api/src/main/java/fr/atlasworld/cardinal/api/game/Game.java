@@ -40,6 +40,13 @@ public interface Game {
      */
     boolean canShareMap();
 
+    /**
+     * Retrieve where the update loop of containers of this game is executed.
+     *
+     * @return execution mode of the game containers.
+     */
+    @NotNull GameContainer.ExecutionMode executionMode();
+
     /**
      * Retrieve the dimension type from a world identifier.
      *
@@ -98,6 +105,16 @@ public interface Game {
          */
         @NotNull Builder canShareMap(boolean canShareMap);
 
+        /**
+         * Define where the update loop of the game containers is executed.
+         * <p>
+         * Defaults to {@link GameContainer.ExecutionMode#SERVER_TICK}.
+         *
+         * @param mode execution mode of the game containers.
+         * @return builder instance.
+         */
+        @NotNull Builder executionMode(@NotNull GameContainer.ExecutionMode mode);
+
         /**
          * Adds a dimension to the game.
          * <p>
@@ -183,4 +183,30 @@ public interface GameContainer {
             return this.joinable;
         }
     }
+
+    /**
+     * Defines where the update loop of a game container is executed.
+     */
+    enum ExecutionMode {
+
+        /**
+         * Game is updated from the server scheduler, alongside every other game on the main tick.
+         */
+        SERVER_TICK,
+
+        /**
+         * Game is updated from the scheduler of its joining instance, once the game has been initialized.
+         * <br>
+         * This ties the game updates to its instance's tick, keeping the logic close to the world it manipulates.
+         */
+        INSTANCE,
+
+        /**
+         * Game is updated on a dedicated game executor, in parallel with other games.
+         * <br>
+         * A slow update only delays this game, updates are skipped while the previous one is still running.
+         * Game logic using this mode must be thread-safe regarding other games and the server tick.
+         */
+        DEDICATED
+    }
 }
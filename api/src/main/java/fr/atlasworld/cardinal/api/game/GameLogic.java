@@ -14,6 +14,9 @@ public interface GameLogic {
 
     /**
      * Called when the game is initializing.
+     * <br>
+     * Called on the updating thread of the game, except for containers initialized ahead of time by the warm pool,
+     * which are initialized on a background thread before being handed out.
      *
      * @param ctx game context.
      */
@@ -78,6 +78,18 @@ public interface GameManager {
      */
     @NotNull GameContainer createGame(@NotNull Game game, @NotNull GameMap map);
 
+    /**
+     * Define how many containers of a game and map should be kept initialized ahead of time.
+     * <br>
+     * Warm containers are initialized in the background and handed out by {@link #createGame(Game, GameMap)},
+     * removing the world loading and initialization delay when players are redirected to a new game.
+     *
+     * @param game game of the containers.
+     * @param map  map the containers should use.
+     * @param size amount of containers to keep ready, {@code 0} disables the pool.
+     */
+    void configureWarmPool(@NotNull Game game, @NotNull GameMap map, int size);
+
     /**
      * Define the player redirector.
      *
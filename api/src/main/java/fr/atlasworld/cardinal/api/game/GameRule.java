@@ -3,8 +3,10 @@ package fr.atlasworld.cardinal.api.game;
 import com.google.common.base.Preconditions;
 import fr.atlasworld.cardinal.api.command.argument.RegistryBasedArgument;
 import fr.atlasworld.cardinal.api.registry.Registry;
+import fr.atlasworld.cardinal.api.registry.RegistryIndexed;
 import net.minestom.server.command.builder.arguments.Argument;
 import net.minestom.server.command.builder.arguments.ArgumentType;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -13,10 +15,12 @@ import org.jetbrains.annotations.Nullable;
  *
  * @param <T> type of value contained in the game rule.
  */
-public final class GameRule<T> {
+public final class GameRule<T> implements RegistryIndexed {
     private final Argument<@NotNull T> argument;
     private final @Nullable T defaultValue;
 
+    private volatile int registryId = -1;
+
     /**
      * Create a new game rule.
      *
@@ -57,6 +61,17 @@ public final class GameRule<T> {
         return this.defaultValue;
     }
 
+    @Override
+    public int registryId() {
+        return this.registryId;
+    }
+
+    @Override
+    @ApiStatus.Internal
+    public void bindRegistryId(int id) {
+        this.registryId = id;
+    }
+
     /**
      * Create a boolean type game rule.
      *
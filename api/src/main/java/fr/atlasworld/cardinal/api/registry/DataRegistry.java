@@ -1,28 +1,29 @@
 package fr.atlasworld.cardinal.api.registry;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.BiMap;
 import net.kyori.adventure.key.Key;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-
 /**
  * Specialized {@link Registry} used for data-driven entries, which can be cleared then repopulated when Cardinal is reloading.
  * <br><br>
  * The registry is intended for values being stored inside are data-driven if you want to store more traditional entries
  * that shouldn't be cleared or reloaded prefer using {@link SimpleRegistry}.
  * <br><br>
+ * Readers are served from the snapshot published on freeze, and never wait on a reload:
+ * the previous entries are served until the reloaded ones are published at once when the registry is frozen again.
+ * Loading tasks run through {@link #load(Runnable)} read the reloaded entries instead, so entries can reference
+ * entries registered earlier in the same reload.
+ * <br><br>
  * Any reference from the registry should <b>NEVER</b> be kept and always be retrieved from the registry
  * to allow for updated values to seamlessly be applied to already running processes.
  *
  * @param <T> type of values contained in the registry.
  */
 public class DataRegistry<T> extends SimpleRegistry<T> implements ReloadableRegistry<T> {
-    private final ReentrantReadWriteLock reloadLock = new ReentrantReadWriteLock();
+    private static final ThreadLocal<Boolean> LOADING = ThreadLocal.withInitial(() -> false);
 
     /**
      * Create a new data registry.
@@ -47,95 +48,34 @@ public class DataRegistry<T> extends SimpleRegistry<T> implements ReloadableRegi
         super(key, map);
     }
 
-    @Override
-    public void freezeRegistry() {
-        if (this.frozen.get())
-            throw new IllegalStateException("Registry has already been finalized.");
-
-        if (this.reloadLock.isWriteLocked())
-            this.reloadLock.writeLock().unlock();
-
-        this.frozen.set(true);
-    }
-
-    @Override
-    public boolean containsKey(@NotNull Key key) {
-        this.reloadLock.readLock().lock();
-        try {
-            return super.containsKey(key);
-        } finally {
-            this.reloadLock.readLock().unlock();
-        }
-    }
-
-    @Override
-    public boolean containsValue(@NotNull T value) {
-        this.reloadLock.readLock().lock();
-        try {
-            return super.containsValue(value);
-        } finally {
-            this.reloadLock.readLock().unlock();
-        }
-    }
-
-    @Override
-    public boolean isEmpty() {
-        this.reloadLock.readLock().lock();
-        try {
-            return super.isEmpty();
-        } finally {
-            this.reloadLock.readLock().unlock();
-        }
-    }
-
-    @Override
-    public Optional<T> retrieveValue(@NotNull Key key) {
-        this.reloadLock.readLock().lock();
-        try {
-            return super.retrieveValue(key);
-        } finally {
-            this.reloadLock.readLock().unlock();
-        }
-    }
-
-    @Override
-    public Optional<Key> retrieveKey(@NotNull T value) {
-        this.reloadLock.readLock().lock();
-        try {
-            return super.retrieveKey(value);
-        } finally {
-            this.reloadLock.readLock().unlock();
-        }
-    }
+    /**
+     * Run a loading task, reads it makes on data registries being reloaded see the entries registered so far
+     * instead of the previously published entries.
+     * <br>
+     * Frozen registries are still read from their published snapshot.
+     *
+     * @param task task registering entries.
+     */
+    @ApiStatus.Internal
+    public static void load(@NotNull Runnable task) {
+        Preconditions.checkNotNull(task, "Task cannot be null!");
 
-    @Override
-    public @NotNull Set<T> values() {
-        this.reloadLock.readLock().lock();
-        try {
-            return super.values();
-        } finally {
-            this.reloadLock.readLock().unlock();
+        if (LOADING.get()) {
+            task.run();
+            return;
         }
-    }
 
-    @Override
-    public @NotNull Set<Key> keys() {
-        this.reloadLock.readLock().lock();
+        LOADING.set(true);
         try {
-            return super.keys();
+            task.run();
         } finally {
-            this.reloadLock.readLock().unlock();
+            LOADING.remove();
         }
     }
 
     @Override
-    public Set<Map.Entry<Key, T>> entries() {
-        this.reloadLock.readLock().lock();
-        try {
-            return super.entries();
-        } finally {
-            this.reloadLock.readLock().unlock();
-        }
+    protected boolean readsWorkingEntries() {
+        return !this.frozen.get() && LOADING.get();
     }
 
     /**
@@ -144,12 +84,13 @@ public class DataRegistry<T> extends SimpleRegistry<T> implements ReloadableRegi
     @Override
     @ApiStatus.Internal
     public void reload() {
-        this.reloadLock.writeLock().lock(); // Prevent any threads from reading the registry during reload.
+        this.lock.writeLock().lock();
         try {
+            // Readers keep being served by the published snapshot until the registry is frozen again.
             this.entries.clear();
             this.frozen.set(false);
-        } catch (Throwable e) {
-            this.reloadLock.readLock().unlock();
+        } finally {
+            this.lock.writeLock().unlock();
         }
     }
 }
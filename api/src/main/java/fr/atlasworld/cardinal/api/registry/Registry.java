@@ -99,6 +99,24 @@ public interface Registry<T> {
      */
     Optional<Key> retrieveKey(@NotNull T value);
 
+    /**
+     * Retrieve the numeric id of a value in this registry.
+     * <br><br>
+     * Ids are dense, starting at {@code 0}, assigned in key order, and stay stable as long as the registry isn't reloaded.
+     *
+     * @param value value to look for.
+     * @return the id of the value, or {@code -1} if the value is not present in the registry.
+     */
+    int retrieveId(@NotNull T value);
+
+    /**
+     * Retrieve the value from this registry using its numeric id.
+     *
+     * @param id id of the value, as returned by {@link #retrieveId(Object)}.
+     * @return optional containing the value, empty optional if no value is registered with the id.
+     */
+    Optional<T> retrieveValue(int id);
+
     /**
      * Retrieve the entry from this registry.
      * <br><br>
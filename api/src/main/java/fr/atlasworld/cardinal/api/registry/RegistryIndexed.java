@@ -0,0 +1,29 @@
+package fr.atlasworld.cardinal.api.registry;
+
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Value that remembers the id it was given by its {@link Registry}.
+ * <br><br>
+ * Registries bind the id when they are frozen, allowing hot lookups to resolve a fixed array slot
+ * instead of going through the registry. A value implementing this should only be registered in a single registry.
+ */
+public interface RegistryIndexed {
+
+    /**
+     * Retrieve the id bound to this value.
+     *
+     * @return the id of this value, or {@code -1} if the value has not been registered yet.
+     */
+    int registryId();
+
+    /**
+     * Binds the id of this value.
+     * <br><br>
+     * Internal use only, this is only called by the {@link Registry} containing the value.
+     *
+     * @param id id of the value in its registry.
+     */
+    @ApiStatus.Internal
+    void bindRegistryId(int id);
+}
@@ -15,8 +15,8 @@ public interface ReloadableRegistry<T> extends Registry<T> {
      * This should not be called directly, and pass it to cardinal to handle it instead,
      * manually calling this method even when the plugin is reloading, will never cleanly handle the re-freezing of the registry.
      * <br>
-     * <b>Warning:</b> the thread calling this method should be the same one that calls the {@link #freezeRegistry()} method,
-     * if not done the method will throw an {@link IllegalMonitorStateException}.
+     * Until {@link #freezeRegistry()} is called again, readers are still served the entries from before the reload,
+     * except loading tasks run through {@link DataRegistry#load(Runnable)}.
      */
     @ApiStatus.Internal
     void reload();
@@ -4,11 +4,14 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Supplier;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
+import com.google.common.collect.ImmutableBiMap;
+import com.google.common.collect.ImmutableMap;
 import com.google.errorprone.annotations.OverridingMethodsMustInvokeSuper;
 import com.google.errorprone.annotations.ThreadSafe;
 import net.kyori.adventure.key.Key;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Comparator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -17,6 +20,9 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Simple implementation of a registry.
+ * <p>
+ * Once frozen, the registry publishes an immutable snapshot of its entries, reads are then served from
+ * the snapshot without any locking.
  *
  * @param <T> type of values contained in the registry.
  */
@@ -28,6 +34,8 @@ public class SimpleRegistry<T> implements Registry<T> {
     protected final AtomicBoolean frozen;
     protected final ReentrantReadWriteLock lock;
 
+    private volatile Snapshot<T> snapshot;
+
     /**
      * Constructs an instance of the {@code SimpleRegistry} with a specified {@link Key}.
      *
@@ -97,6 +105,7 @@ public class SimpleRegistry<T> implements Registry<T> {
         if (this.frozen.get())
             throw new IllegalStateException("Registry has already been finalized.");
 
+        this.publishSnapshot();
         this.frozen.set(true);
     }
 
@@ -109,33 +118,75 @@ public class SimpleRegistry<T> implements Registry<T> {
     public boolean containsKey(@NotNull Key key) {
         Preconditions.checkNotNull(key, "Key cannot be null!");
 
-        return this.executeRead(() -> this.entries.containsKey(key));
+        Snapshot<T> snapshot = this.readableSnapshot();
+        if (snapshot != null)
+            return snapshot.entries().containsKey(key);
+
+        return this.readUnpublished(() -> this.entries.containsKey(key));
     }
 
     @Override
     public boolean containsValue(@NotNull T value) {
         Preconditions.checkNotNull(key, "Value cannot be null!");
 
-        return this.executeRead(() -> this.entries.containsValue(value));
+        Snapshot<T> snapshot = this.readableSnapshot();
+        if (snapshot != null)
+            return snapshot.ids().containsKey(value);
+
+        return this.readUnpublished(() -> this.entries.containsValue(value));
     }
 
     @Override
     public boolean isEmpty() {
-        return this.executeRead(this.entries::isEmpty);
+        Snapshot<T> snapshot = this.readableSnapshot();
+        if (snapshot != null)
+            return snapshot.values().length == 0;
+
+        return this.readUnpublished(this.entries::isEmpty);
     }
 
     @Override
     public Optional<T> retrieveValue(@NotNull Key key) {
         Preconditions.checkNotNull(key, "Key cannot be null!");
 
-        return this.executeRead(() -> Optional.ofNullable(this.entries.get(key)));
+        Snapshot<T> snapshot = this.readableSnapshot();
+        if (snapshot != null)
+            return Optional.ofNullable(snapshot.entries().get(key));
+
+        return this.readUnpublished(() -> Optional.ofNullable(this.entries.get(key)));
     }
 
     @Override
     public Optional<Key> retrieveKey(@NotNull T value) {
         Preconditions.checkNotNull(key, "Value cannot be null!");
 
-        return this.executeRead(() -> Optional.ofNullable(this.entries.inverse().get(value)));
+        Snapshot<T> snapshot = this.readableSnapshot();
+        if (snapshot != null)
+            return Optional.ofNullable(snapshot.entries().inverse().get(value));
+
+        return this.readUnpublished(() -> Optional.ofNullable(this.entries.inverse().get(value)));
+    }
+
+    @Override
+    public int retrieveId(@NotNull T value) {
+        Preconditions.checkNotNull(value, "Value cannot be null!");
+
+        Snapshot<T> snapshot = this.readableSnapshot();
+        if (snapshot == null)
+            return -1; // Ids are only assigned once the registry is frozen.
+
+        Integer id = snapshot.ids().get(value);
+        return id != null ? id : -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<T> retrieveValue(int id) {
+        Snapshot<T> snapshot = this.readableSnapshot();
+        if (snapshot == null || id < 0 || id >= snapshot.values().length)
+            return Optional.empty();
+
+        return Optional.of((T) snapshot.values()[id]);
     }
 
     @Override
@@ -145,17 +196,86 @@ public class SimpleRegistry<T> implements Registry<T> {
 
     @Override
     public @NotNull Set<T> values() {
-        return this.executeRead(this.entries::values);
+        Snapshot<T> snapshot = this.readableSnapshot();
+        if (snapshot != null)
+            return snapshot.entries().values();
+
+        return this.readUnpublished(this.entries::values);
     }
 
     @Override
     public @NotNull Set<Key> keys() {
-        return this.executeRead(this.entries::keySet);
+        Snapshot<T> snapshot = this.readableSnapshot();
+        if (snapshot != null)
+            return snapshot.entries().keySet();
+
+        return this.readUnpublished(this.entries::keySet);
     }
 
     @Override
     public Set<Map.Entry<Key, T>> entries() {
-        return this.executeRead(this.entries::entrySet);
+        Snapshot<T> snapshot = this.readableSnapshot();
+        if (snapshot != null)
+            return snapshot.entries().entrySet();
+
+        return this.readUnpublished(this.entries::entrySet);
+    }
+
+    /**
+     * Whether the current thread reads the working entries of the registry instead of its published snapshot.
+     *
+     * @return true to bypass the snapshot.
+     */
+    protected boolean readsWorkingEntries() {
+        return false;
+    }
+
+    private Snapshot<T> readableSnapshot() {
+        return this.readsWorkingEntries() ? null : this.snapshot;
+    }
+
+    /**
+     * Reads the working entries of the registry, used when no snapshot has been published yet.
+     *
+     * @param supplier read to perform.
+     * @return result of the read.
+     * @param <E> type of the result.
+     */
+    protected <E> E readUnpublished(Supplier<E> supplier) {
+        return this.executeRead(supplier);
+    }
+
+    /**
+     * Builds an immutable snapshot of the current entries and publishes it to readers.
+     * <br>
+     * Ids are assigned in key order, so they don't depend on the order entries were registered in.
+     * Values implementing {@link RegistryIndexed} get their id bound.
+     * <br>
+     * The previous snapshot, if any, keeps being served until the new one is fully built.
+     */
+    protected final void publishSnapshot() {
+        this.lock.readLock().lock();
+        try {
+            ImmutableBiMap.Builder<Key, T> entries = ImmutableBiMap.builderWithExpectedSize(this.entries.size());
+            ImmutableMap.Builder<T, Integer> ids = ImmutableMap.builderWithExpectedSize(this.entries.size());
+            Object[] values = new Object[this.entries.size()];
+
+            int id = 0;
+            for (Map.Entry<Key, T> entry : this.entries.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey(Comparator.comparing(Key::asString))).toList()) {
+                T value = entry.getValue();
+                if (value instanceof RegistryIndexed indexed)
+                    indexed.bindRegistryId(id);
+
+                entries.put(entry.getKey(), value);
+                ids.put(value, id);
+                values[id++] = value;
+            }
+
+            this.snapshot = new Snapshot<>(entries.buildOrThrow(), ids.buildOrThrow(), values);
+        } finally {
+            this.lock.readLock().unlock();
+        }
     }
 
     protected final <E> E executeRead(Supplier<E> supplier) {
@@ -166,4 +286,7 @@ public class SimpleRegistry<T> implements Registry<T> {
             this.lock.readLock().unlock();
         }
     }
+
+    private record Snapshot<T>(@NotNull ImmutableBiMap<Key, T> entries, @NotNull ImmutableMap<T, Integer> ids, @NotNull Object[] values) {
+    }
 }
@@ -46,4 +46,25 @@ public interface GameWorldFormat {
      * @return a blank chunk loader, where data can be written to.
      */
     @NotNull IChunkLoader supplyBlankLoader(@NotNull DimensionType dimension);
+
+    /**
+     * Whether the light of the chunks saved in the loader is kept by {@link #save(IChunkLoader)} and restored by {@link #load(InputStream)}.
+     * <br>
+     * Worlds of formats storing light are lit once, then saved with their light baked in.
+     *
+     * @return true if the format stores the sky and block light of the chunks.
+     */
+    default boolean storesLight() {
+        return false;
+    }
+
+    /**
+     * Retrieve the chunks stored in the loader, used to bake the light of the whole world.
+     *
+     * @param loader loader of the world.
+     * @return chunk indexes, as encoded by {@link net.minestom.server.coordinate.CoordConversion#chunkIndex(int, int)}.
+     */
+    default long @NotNull [] chunks(@NotNull IChunkLoader loader) {
+        return new long[0];
+    }
 }
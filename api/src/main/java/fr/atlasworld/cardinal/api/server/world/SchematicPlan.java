@@ -0,0 +1,344 @@
+package fr.atlasworld.cardinal.api.server.world;
+
+import com.google.common.base.Preconditions;
+import net.hollowcube.schem.Rotation;
+import net.hollowcube.schem.Schematic;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.generator.GenerationUnit;
+import net.minestom.server.instance.generator.UnitModifier;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled placement form of a {@link Schematic} for a single rotation.
+ * <br><br>
+ * Blocks are resolved once and stored as palette-indexed runs along the X axis,
+ * sorted section by section (relative to the placement origin) so pasting touches one section at a time.
+ * Block states are rotated with the plan, and air is kept unless compiled with {@code skipAir}.
+ */
+public final class SchematicPlan {
+    private static final List<String> HORIZONTAL = List.of("north", "east", "south", "west"); // Clockwise order.
+    private static final List<String> SHAPE_ORDER = List.of("north", "south", "east", "west");
+    private static final int RUN_X = 0, RUN_Y = 1, RUN_Z = 2, RUN_LENGTH = 3, RUN_PALETTE = 4, RUN_STRIDE = 5;
+
+    private final Block[] palette;
+    private final int[] runs; // Flattened runs of RUN_STRIDE ints.
+    private final int blockCount;
+    private final Vec min;
+    private final Vec max;
+
+    private SchematicPlan(Block[] palette, int[] runs, int blockCount, Vec min, Vec max) {
+        this.palette = palette;
+        this.runs = runs;
+        this.blockCount = blockCount;
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Compile a schematic into a placement plan, air included so placing the plan clears the blocks it covers.
+     *
+     * @param schematic schematic to compile.
+     * @param rotation  rotation to bake into the plan, around the placement origin.
+     * @return compiled plan.
+     */
+    public static @NotNull SchematicPlan compile(@NotNull Schematic schematic, @NotNull Rotation rotation) {
+        return compile(schematic, rotation, false);
+    }
+
+    /**
+     * Compile a schematic into a placement plan.
+     * <br>
+     * Block states are rotated along with their positions, see {@link #rotate(Block, Rotation)}.
+     *
+     * @param schematic schematic to compile.
+     * @param rotation  rotation to bake into the plan, around the placement origin.
+     * @param skipAir   whether air is left out, placing the plan then never clears the blocks already present.
+     * @return compiled plan.
+     */
+    public static @NotNull SchematicPlan compile(@NotNull Schematic schematic, @NotNull Rotation rotation, boolean skipAir) {
+        Preconditions.checkNotNull(schematic, "Schematic cannot be null!");
+        Preconditions.checkNotNull(rotation, "Rotation cannot be null!");
+
+        final int width = schematic.size().blockX(), height = schematic.size().blockY(), length = schematic.size().blockZ();
+        final Point offset = schematic.offset();
+        final byte[] blocks = schematic.blocks();
+
+        // Rotated once per palette entry, instead of once per block.
+        final Block[] palette = schematic.palette().clone();
+        for (int i = 0; i < palette.length; i++) {
+            if (palette[i] != null)
+                palette[i] = rotate(palette[i], rotation);
+        }
+
+        // Decode the var-int palette indices, stored in Y, Z, X order.
+        int[] positions = new int[width * height * length * 4];
+        int count = 0;
+        int cursor = 0;
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+        for (int y = 0; y < height; y++) {
+            for (int z = 0; z < length; z++) {
+                for (int x = 0; x < width; x++) {
+                    int paletteIndex = 0;
+                    int shift = 0;
+                    byte read;
+                    do {
+                        read = blocks[cursor++];
+                        paletteIndex |= (read & 0x7F) << shift;
+                        shift += 7;
+                    } while ((read & 0x80) != 0);
+
+                    Block block = palette[paletteIndex];
+                    if (block == null || (skipAir && block.isAir()))
+                        continue;
+
+                    final int relX = x + offset.blockX(), relY = y + offset.blockY(), relZ = z + offset.blockZ();
+                    final int rotatedX = switch (rotation) {
+                        case NONE -> relX;
+                        case CLOCKWISE_90 -> -relZ;
+                        case CLOCKWISE_180 -> -relX;
+                        case CLOCKWISE_270 -> relZ;
+                    };
+                    final int rotatedZ = switch (rotation) {
+                        case NONE -> relZ;
+                        case CLOCKWISE_90 -> relX;
+                        case CLOCKWISE_180 -> -relZ;
+                        case CLOCKWISE_270 -> -relX;
+                    };
+
+                    final int index = count++ * 4;
+                    positions[index] = rotatedX;
+                    positions[index + 1] = relY;
+                    positions[index + 2] = rotatedZ;
+                    positions[index + 3] = paletteIndex;
+
+                    minX = Math.min(minX, rotatedX);
+                    minY = Math.min(minY, relY);
+                    minZ = Math.min(minZ, rotatedZ);
+                    maxX = Math.max(maxX, rotatedX);
+                    maxY = Math.max(maxY, relY);
+                    maxZ = Math.max(maxZ, rotatedZ);
+                }
+            }
+        }
+
+        if (count == 0)
+            return new SchematicPlan(palette, new int[0], 0, Vec.ZERO, Vec.ZERO);
+
+        // Sort by section, then Y, Z and X so contiguous blocks on X end up next to each other.
+        // Positions are unique, each one is ranked in that order then packed with its index into a primitive key.
+        final int sectionMinX = minX >> 4, sectionMinY = minY >> 4, sectionMinZ = minZ >> 4;
+        final long sectionsX = (maxX >> 4) - sectionMinX + 1, sectionsZ = (maxZ >> 4) - sectionMinZ + 1;
+        final int indexBits = 32 - Integer.numberOfLeadingZeros(count);
+        final long maxRank = (((maxY >> 4) - sectionMinY + 1) * sectionsZ * sectionsX) << 12;
+        Preconditions.checkArgument(64 - Long.numberOfLeadingZeros(maxRank) + indexBits <= 63, "Schematic is too large to be compiled!");
+
+        long[] order = new long[count];
+        for (int i = 0; i < count; i++) {
+            final int index = i * 4;
+            final int x = positions[index], y = positions[index + 1], z = positions[index + 2];
+            final long section = (((y >> 4) - sectionMinY) * sectionsZ + ((z >> 4) - sectionMinZ)) * sectionsX + ((x >> 4) - sectionMinX);
+            final long rank = (section << 12) | ((y & 0xF) << 8) | ((z & 0xF) << 4) | (x & 0xF);
+            order[i] = (rank << indexBits) | i;
+        }
+        Arrays.sort(order);
+
+        final int indexMask = (1 << indexBits) - 1;
+        int[] runs = new int[count * RUN_STRIDE];
+        int runCount = 0;
+        int previous = -1;
+        for (long key : order) {
+            final int index = ((int) key & indexMask) * 4;
+            final int x = positions[index], y = positions[index + 1], z = positions[index + 2], paletteIndex = positions[index + 3];
+
+            if (previous != -1) {
+                final int run = previous * RUN_STRIDE;
+                final boolean sameSection = (runs[run + RUN_X] >> 4) == (x >> 4);
+                if (sameSection && runs[run + RUN_Y] == y && runs[run + RUN_Z] == z && runs[run + RUN_PALETTE] == paletteIndex
+                        && runs[run + RUN_X] + runs[run + RUN_LENGTH] == x) {
+                    runs[run + RUN_LENGTH]++;
+                    continue;
+                }
+            }
+
+            final int run = runCount * RUN_STRIDE;
+            runs[run + RUN_X] = x;
+            runs[run + RUN_Y] = y;
+            runs[run + RUN_Z] = z;
+            runs[run + RUN_LENGTH] = 1;
+            runs[run + RUN_PALETTE] = paletteIndex;
+            previous = runCount++;
+        }
+
+        return new SchematicPlan(palette, Arrays.copyOf(runs, runCount * RUN_STRIDE), count,
+                new Vec(minX, minY, minZ), new Vec(maxX + 1, maxY + 1, maxZ + 1));
+    }
+
+    /**
+     * Rotate the state of a block clockwise around the Y axis.
+     * <br>
+     * Handles the {@code facing}, {@code axis}, {@code rotation} and rail {@code shape} properties,
+     * and the {@code north}, {@code east}, {@code south} and {@code west} connection properties.
+     *
+     * @param block    block to rotate.
+     * @param rotation rotation to apply.
+     * @return rotated block, or the same block if it has no orientation.
+     */
+    public static @NotNull Block rotate(@NotNull Block block, @NotNull Rotation rotation) {
+        Preconditions.checkNotNull(block, "Block cannot be null!");
+        Preconditions.checkNotNull(rotation, "Rotation cannot be null!");
+
+        final int steps = switch (rotation) {
+            case NONE -> 0;
+            case CLOCKWISE_90 -> 1;
+            case CLOCKWISE_180 -> 2;
+            case CLOCKWISE_270 -> 3;
+        };
+        final Map<String, String> properties = block.properties();
+        if (steps == 0 || properties.isEmpty())
+            return block;
+
+        Map<String, String> rotated = new HashMap<>();
+        properties.forEach((property, value) -> {
+            switch (property) {
+                case "facing" -> rotated.put(property, rotateDirection(value, steps));
+                case "axis" -> rotated.put(property, steps % 2 == 0 ? value : switch (value) {
+                    case "x" -> "z";
+                    case "z" -> "x";
+                    default -> value;
+                });
+                case "rotation" -> rotated.put(property, String.valueOf((Integer.parseInt(value) + steps * 4) & 0xF));
+                case "shape" -> rotated.put(property, rotateShape(value, steps));
+                case "north", "east", "south", "west" -> rotated.put(rotateDirection(property, steps), value);
+                default -> {
+                }
+            }
+        });
+
+        try {
+            return block.withProperties(rotated);
+        } catch (IllegalArgumentException ex) {
+            return block; // Not an orientation, such as a property sharing its name with one.
+        }
+    }
+
+    private static @NotNull String rotateDirection(@NotNull String direction, int steps) {
+        final int index = HORIZONTAL.indexOf(direction);
+        return index == -1 ? direction : HORIZONTAL.get((index + steps) & 3);
+    }
+
+    // Rail shapes, such as 'north_east' or 'ascending_west', stair shapes have no direction and are kept.
+    private static @NotNull String rotateShape(@NotNull String shape, int steps) {
+        String[] parts = shape.split("_");
+        if (parts.length == 2 && HORIZONTAL.contains(parts[0]) && HORIZONTAL.contains(parts[1])) {
+            String first = rotateDirection(parts[0], steps), second = rotateDirection(parts[1], steps);
+            // Rails name north and south first, then east and west.
+            return SHAPE_ORDER.indexOf(first) <= SHAPE_ORDER.indexOf(second) ? first + "_" + second : second + "_" + first;
+        }
+
+        if (parts.length == 2 && parts[0].equals("ascending"))
+            return "ascending_" + rotateDirection(parts[1], steps);
+
+        return shape;
+    }
+
+    /**
+     * Place the plan using a block setter, this includes {@link net.minestom.server.instance.batch.AbsoluteBlockBatch}.
+     *
+     * @param setter setter to place the blocks with.
+     * @param origin placement origin.
+     */
+    public void apply(@NotNull Block.Setter setter, @NotNull Point origin) {
+        Preconditions.checkNotNull(setter, "Setter cannot be null!");
+        Preconditions.checkNotNull(origin, "Origin cannot be null!");
+
+        final int originX = origin.blockX(), originY = origin.blockY(), originZ = origin.blockZ();
+        final int[] runs = this.runs;
+        for (int run = 0; run < runs.length; run += RUN_STRIDE) {
+            final Block block = this.palette[runs[run + RUN_PALETTE]];
+            final int x = originX + runs[run + RUN_X], y = originY + runs[run + RUN_Y], z = originZ + runs[run + RUN_Z];
+            final int length = runs[run + RUN_LENGTH];
+            for (int i = 0; i < length; i++)
+                setter.setBlock(x + i, y, z, block);
+        }
+    }
+
+    /**
+     * Place the plan inside a generation unit.
+     * <br>
+     * Runs are filled in bulk when the plan fits in the unit, otherwise the unit is forked to place the overflowing blocks.
+     *
+     * @param unit   unit to place the plan in.
+     * @param origin placement origin.
+     */
+    public void apply(@NotNull GenerationUnit unit, @NotNull Point origin) {
+        Preconditions.checkNotNull(unit, "Unit cannot be null!");
+        Preconditions.checkNotNull(origin, "Origin cannot be null!");
+
+        final Point start = unit.absoluteStart(), end = unit.absoluteEnd();
+        final Point min = origin.add(this.min), max = origin.add(this.max);
+        final boolean contained = min.blockX() >= start.blockX() && min.blockY() >= start.blockY() && min.blockZ() >= start.blockZ()
+                && max.blockX() <= end.blockX() && max.blockY() <= end.blockY() && max.blockZ() <= end.blockZ();
+
+        if (!contained) {
+            unit.fork(setter -> this.apply(setter, origin));
+            return;
+        }
+
+        final UnitModifier modifier = unit.modifier();
+        final int originX = origin.blockX(), originY = origin.blockY(), originZ = origin.blockZ();
+        final int[] runs = this.runs;
+        for (int run = 0; run < runs.length; run += RUN_STRIDE) {
+            final Block block = this.palette[runs[run + RUN_PALETTE]];
+            final int x = originX + runs[run + RUN_X], y = originY + runs[run + RUN_Y], z = originZ + runs[run + RUN_Z];
+            final int length = runs[run + RUN_LENGTH];
+            if (length == 1)
+                modifier.setBlock(x, y, z, block);
+            else
+                modifier.fill(new Vec(x, y, z), new Vec(x + length, y + 1, z + 1), block);
+        }
+    }
+
+    /**
+     * Retrieve the amount of blocks placed by the plan.
+     *
+     * @return amount of blocks placed.
+     */
+    public int blockCount() {
+        return this.blockCount;
+    }
+
+    /**
+     * Retrieve the amount of runs the plan is made of.
+     *
+     * @return amount of runs.
+     */
+    public int runCount() {
+        return this.runs.length / RUN_STRIDE;
+    }
+
+    /**
+     * Retrieve the minimum corner of the plan, relative to the placement origin.
+     *
+     * @return inclusive minimum corner.
+     */
+    public @NotNull Vec min() {
+        return this.min;
+    }
+
+    /**
+     * Retrieve the maximum corner of the plan, relative to the placement origin.
+     *
+     * @return exclusive maximum corner.
+     */
+    public @NotNull Vec max() {
+        return this.max;
+    }
+}
@@ -1,5 +1,6 @@
 package fr.atlasworld.cardinal.api.server.world;
 
+import net.hollowcube.schem.Rotation;
 import net.hollowcube.schem.Schematic;
 import net.kyori.adventure.key.Key;
 import org.jetbrains.annotations.NotNull;
@@ -38,6 +39,28 @@ public interface StructurePool {
      */
     Optional<Schematic> retrieveStructure(@NotNull Key key);
 
+    /**
+     * Resolve the placement plan of a random structure from the pool.
+     * <br><br>
+     * Plans are compiled once per structure and rotation, then cached alongside the loaded schematic.
+     *
+     * @param random   random generator to use to determine the structure.
+     * @param rotation rotation of the structure.
+     *
+     * @return placement plan of a random schematic of the pool.
+     */
+    @NotNull SchematicPlan resolvePlan(@NotNull Random random, @NotNull Rotation rotation);
+
+    /**
+     * Retrieve the placement plan of a specific structure from the pool.
+     *
+     * @param key      key of the structure to retrieve.
+     * @param rotation rotation of the structure.
+     *
+     * @return optional containing the placement plan if present, empty otherwise.
+     */
+    Optional<SchematicPlan> retrievePlan(@NotNull Key key, @NotNull Rotation rotation);
+
     /**
      * Retrieve all the structures in the pool.
      * <br><br>
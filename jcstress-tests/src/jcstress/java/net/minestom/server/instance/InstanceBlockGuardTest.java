@@ -0,0 +1,37 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.LL_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+@JCStressTest
+@Outcome(id = "minecraft:stone, true", expect = ACCEPTABLE)
+@Outcome(id = "minecraft:dirt, false", expect = ACCEPTABLE)
+@Outcome(expect = FORBIDDEN, desc = "The block and its handler come from different writes")
+@State
+public class InstanceBlockGuardTest extends InstanceWriteState {
+    public InstanceBlockGuardTest() {
+        super(1);
+    }
+
+    // Same position behind the recursion guard, one write takes the instance lock and the other only the chunk lock
+    @Actor
+    public void actor1() {
+        instance.setBlock(0, 0, 0, Block.STONE.withHandler(HANDLER));
+    }
+
+    @Actor
+    public void actor2() {
+        instance.setBlock(0, 0, 0, Block.DIRT);
+    }
+
+    @Arbiter
+    public void arbiter(LL_Result r) {
+        final Block block = instance.getBlock(0, 0, 0);
+        r.r1 = block.name();
+        r.r2 = block.handler() == HANDLER;
+    }
+}
@@ -0,0 +1,35 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.LL_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+@JCStressTest
+@Outcome(id = "minecraft:stone, minecraft:dirt", expect = ACCEPTABLE)
+@Outcome(expect = FORBIDDEN, desc = "A write to another chunk has been lost")
+@State
+public class InstanceChunkWriteTest extends InstanceWriteState {
+    public InstanceChunkWriteTest() {
+        super(2);
+    }
+
+    // Plain blocks in different chunks, both writes only lock their own chunk
+    @Actor
+    public void actor1() {
+        instance.setBlock(0, 0, 0, Block.STONE);
+    }
+
+    @Actor
+    public void actor2() {
+        instance.setBlock(16, 0, 0, Block.DIRT);
+    }
+
+    @Arbiter
+    public void arbiter(LL_Result r) {
+        r.r1 = instance.getBlock(0, 0, 0).name();
+        r.r2 = instance.getBlock(16, 0, 0).name();
+    }
+}
@@ -0,0 +1,37 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.LLL_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+@JCStressTest
+@Outcome(id = "minecraft:stone, true, minecraft:dirt", expect = ACCEPTABLE)
+@Outcome(expect = FORBIDDEN, desc = "A write or its handler has been lost")
+@State
+public class InstanceHandlerWriteTest extends InstanceWriteState {
+    public InstanceHandlerWriteTest() {
+        super(LightingChunk::new, 2);
+    }
+
+    // Takes the instance lock, while the other write only locks its chunk and invalidates the light of this one
+    @Actor
+    public void actor1() {
+        instance.setBlock(15, 0, 0, Block.STONE.withHandler(HANDLER));
+    }
+
+    @Actor
+    public void actor2() {
+        instance.setBlock(16, 0, 0, Block.DIRT);
+    }
+
+    @Arbiter
+    public void arbiter(LLL_Result r) {
+        final Block handled = instance.getBlock(15, 0, 0);
+        r.r1 = handled.name();
+        r.r2 = handled.handler() == HANDLER;
+        r.r3 = instance.getBlock(16, 0, 0).name();
+    }
+}
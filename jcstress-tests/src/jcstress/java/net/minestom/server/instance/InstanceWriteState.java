@@ -0,0 +1,32 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.utils.chunk.ChunkSupplier;
+import net.minestom.server.world.DimensionType;
+
+import java.util.UUID;
+
+/**
+ * Shared state of the instance write tests, a fresh instance with the given chunks loaded along the x axis.
+ */
+abstract class InstanceWriteState {
+    static {
+        MinecraftServer.init();
+    }
+
+    static final BlockHandler HANDLER = BlockHandler.Dummy.get("minestom:jcstress");
+
+    final InstanceContainer instance = new InstanceContainer(UUID.randomUUID(), DimensionType.OVERWORLD, ChunkLoader.noop());
+
+    InstanceWriteState(ChunkSupplier chunkSupplier, int chunkCount) {
+        instance.setChunkSupplier(chunkSupplier);
+        for (int chunkX = 0; chunkX < chunkCount; chunkX++) {
+            instance.loadChunk(chunkX, 0).join();
+        }
+    }
+
+    InstanceWriteState(int chunkCount) {
+        this(DynamicChunk::new, chunkCount);
+    }
+}
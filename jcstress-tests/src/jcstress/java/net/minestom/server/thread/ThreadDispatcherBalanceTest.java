@@ -0,0 +1,74 @@
+package net.minestom.server.thread;
+
+import net.minestom.server.Tickable;
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+
+@JCStressTest
+@Outcome(id = "101, 101", expect = ACCEPTABLE)
+@State
+public class ThreadDispatcherBalanceTest {
+    private final ThreadDispatcher<World, Element> dispatcher = ThreadDispatcher.dispatcher(new ThreadProvider<>() {
+        @Override
+        public int findThread(World partition) {
+            return 0;
+        }
+
+        @Override
+        public RefreshType refreshType() {
+            return RefreshType.BALANCED;
+        }
+    }, 2);
+    private final World world1 = new World(1);
+    private final World world2 = new World(2);
+    private final Element element1 = new Element();
+    private final Element element2 = new Element();
+
+    record World(int id) {
+    }
+
+    static final class Element implements Tickable, AcquirableSource<Element> {
+        final Acquirable<Element> acquirable = Acquirable.unassigned(this);
+        int value;
+
+        @Override
+        public void tick(long time) {
+            // Fails if the element was not moved along with its partition
+            if (acquirable.assignedThread() != Thread.currentThread()) return;
+            value++;
+        }
+
+        @Override
+        public Acquirable<? extends Element> acquirable() {
+            return acquirable;
+        }
+    }
+
+    {
+        dispatcher.createPartition(world1);
+        dispatcher.createPartition(world2);
+        dispatcher.updateElement(element1, world1);
+        dispatcher.updateElement(element2, world2);
+        dispatcher.start();
+        dispatcher.updateAndAwait(0);
+    }
+
+    @Actor
+    public void ticker() {
+        for (int i = 0; i < 100; i++) dispatcher.updateAndAwait(0);
+    }
+
+    @Actor
+    public void balancer() {
+        for (int i = 0; i < 100; i++) dispatcher.refreshThreads();
+    }
+
+    @Arbiter
+    public void arbiter(II_Result r) {
+        r.r1 = element1.value;
+        r.r2 = element2.value;
+        dispatcher.shutdown();
+    }
+}
@@ -0,0 +1,75 @@
+package net.minestom.server.event;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RoutedNodeBenchmark {
+    private static final EventFilter<ArenaEvent, Arena> ARENA = EventFilter.from(ArenaEvent.class, Arena.class, ArenaEvent::arena);
+
+    // Amount of games running at the same time, each owning a single arena
+    @Param({"1", "10", "100", "500"})
+    public int games;
+
+    private EventNode<Event> filtered;
+    private EventNode<Event> routed;
+    private ArenaEvent[] events;
+
+    record Arena(int id) {
+    }
+
+    record ArenaEvent(Arena arena) implements Event {
+    }
+
+    @Setup
+    public void setup() {
+        filtered = EventNode.all("filtered");
+        Map<Arena, EventNode<Event>> routes = new HashMap<>();
+        routed = EventNode.all("routed");
+        var router = EventNode.router("router", ARENA, event -> {
+            var node = routes.get(event.arena());
+            if (node != null) node.call(event);
+        });
+        routed.addChild(router);
+
+        events = new ArenaEvent[games];
+        for (int i = 0; i < games; i++) {
+            final Arena arena = new Arena(i);
+            events[i] = new ArenaEvent(arena);
+
+            // One predicate node per game, tested against every event
+            var child = EventNode.type("game-" + i, ARENA, (event, handler) -> handler.equals(arena));
+            child.addListener(ArenaEvent.class, e -> {
+                // Empty
+            });
+            filtered.addChild(child);
+
+            // One detached node per game, reached with a single lookup
+            var route = EventNode.all("game-" + i);
+            route.addListener(ArenaEvent.class, e -> {
+                // Empty
+            });
+            routes.put(arena, route);
+            router.addRoute(route);
+        }
+    }
+
+    @Benchmark
+    public void filtered() {
+        filtered.call(events[ThreadLocalRandom.current().nextInt(games)]);
+    }
+
+    @Benchmark
+    public void routed() {
+        routed.call(events[ThreadLocalRandom.current().nextInt(games)]);
+    }
+}
@@ -0,0 +1,100 @@
+package net.minestom.server.instance.anvil;
+
+import net.kyori.adventure.nbt.BinaryTagIO;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class AnvilRegionBenchmark {
+    // Vanilla world shipped with the tests, can be replaced to benchmark another world
+    private static final Path WORLD = Path.of(System.getProperty("anvil.benchmark.world",
+            "../src/test/resources/net/minestom/server/instance/anvil_vanilla_sample"));
+    private static final int REGION_X = 2, REGION_Z = 0;
+    private static final int REGION_CHUNKS = 32 * 32;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    Path world;
+    RegionFile region;
+    Instance instance;
+
+    @Setup
+    public void setup() throws IOException {
+        MinecraftServer.init();
+        this.instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+        // Work on a copy, region files are opened for writing
+        this.world = Files.createTempDirectory("minestom-anvil-benchmark");
+        final String fileName = RegionFile.getFileName(REGION_X, REGION_Z);
+        Files.createDirectories(world.resolve("region"));
+        Files.copy(WORLD.resolve("region").resolve(fileName), world.resolve("region").resolve(fileName));
+        this.region = new RegionFile(world.resolve("region").resolve(fileName));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        region.close();
+    }
+
+    @Benchmark
+    public void decodeTree(Blackhole blackhole) {
+        chunks().forEach(index -> {
+            try (InputStream stream = region.readChunkData(chunkX(index), chunkZ(index))) {
+                if (stream != null) blackhole.consume(BinaryTagIO.unlimitedReader().read(stream));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Benchmark
+    public void decodeStreaming(Blackhole blackhole) {
+        chunks().forEach(index -> {
+            try (InputStream stream = region.readChunkData(chunkX(index), chunkZ(index))) {
+                if (stream != null) blackhole.consume(AnvilChunkReader.read(stream));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Benchmark
+    public void loadRegion(Blackhole blackhole) {
+        final AnvilLoader loader = new AnvilLoader(world);
+        final Chunk[] chunks = new Chunk[REGION_CHUNKS];
+        chunks().forEach(index -> chunks[index] = loader.loadChunk(instance, chunkX(index), chunkZ(index)));
+        for (Chunk chunk : chunks) {
+            blackhole.consume(chunk);
+            // Closes the region once every chunk is unloaded
+            if (chunk != null) loader.unloadChunk(chunk);
+        }
+    }
+
+    private IntStream chunks() {
+        final IntStream stream = IntStream.range(0, REGION_CHUNKS);
+        return parallel ? stream.parallel() : stream;
+    }
+
+    private static int chunkX(int index) {
+        return REGION_X * 32 + (index & 31);
+    }
+
+    private static int chunkZ(int index) {
+        return REGION_Z * 32 + (index >> 5);
+    }
+}
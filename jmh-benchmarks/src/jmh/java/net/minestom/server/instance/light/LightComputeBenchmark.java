@@ -97,6 +97,30 @@ public class LightComputeBenchmark {
         blackhole.consume(queue);
     }
 
+    @Benchmark
+    public void buildInternalQueue_mixedGlowStone_scratch(Blackhole blackhole) {
+        var queue = BlockLight.buildInternalQueue(mixedGlowstonePalette, LightCompute.scratchQueue());
+        blackhole.consume(queue);
+    }
+
+    @Benchmark
+    public void compute_glowstone(Blackhole blackhole) {
+        var queue = BlockLight.buildInternalQueue(glowstonePalette, LightCompute.scratchQueue());
+        blackhole.consume(LightCompute.compute(glowstonePalette, queue));
+    }
+
+    @Benchmark
+    public void compute_mixedGlowStone(Blackhole blackhole) {
+        var queue = BlockLight.buildInternalQueue(mixedGlowstonePalette, LightCompute.scratchQueue());
+        blackhole.consume(LightCompute.compute(mixedGlowstonePalette, queue));
+    }
+
+    @Benchmark
+    public void computeScratch_mixedGlowStone(Blackhole blackhole) {
+        var queue = BlockLight.buildInternalQueue(mixedGlowstonePalette, LightCompute.scratchQueue());
+        blackhole.consume(LightCompute.computeScratch(mixedGlowstonePalette, queue));
+    }
+
     @Benchmark
     public void bake_emptyContent(Blackhole blackhole) {
         byte[] result = LightCompute.bake(LightCompute.EMPTY_CONTENT, LightCompute.EMPTY_CONTENT);
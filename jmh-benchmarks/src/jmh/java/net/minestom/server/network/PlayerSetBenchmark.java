@@ -0,0 +1,122 @@
+package net.minestom.server.network;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.player.GameProfile;
+import net.minestom.server.network.player.PlayerConnection;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PlayerSetBenchmark {
+    // Players moved to the play state by a single tick during the storm
+    private static final int LOGINS_PER_TICK = 50;
+
+    @Param({"100", "1000", "5000"})
+    public int players;
+
+    Player[] profiles;
+    PlayerSet indexed;
+    Set<Player> copyOnWrite;
+
+    static final class BenchmarkConnection extends PlayerConnection {
+        @Override
+        public void sendPacket(SendablePacket packet) {
+        }
+
+        @Override
+        public SocketAddress getRemoteAddress() {
+            return new InetSocketAddress("localhost", 25565);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        this.profiles = new Player[players];
+        for (int i = 0; i < players; i++) {
+            profiles[i] = new Player(new BenchmarkConnection(), new GameProfile(UUID.randomUUID(), "Player" + i));
+        }
+        this.indexed = new PlayerSet(true);
+        this.copyOnWrite = new CopyOnWriteArraySet<>();
+        for (Player player : profiles) {
+            indexed.add(player);
+            copyOnWrite.add(player);
+        }
+    }
+
+    @Benchmark
+    public void loginStormIndexed(Blackhole blackhole) {
+        loginStorm(new PlayerSet(true), blackhole);
+    }
+
+    @Benchmark
+    public void loginStormCopyOnWrite(Blackhole blackhole) {
+        loginStorm(new CopyOnWriteArraySet<>(), blackhole);
+    }
+
+    // Every player joins then leaves, the set is iterated once per tick like the keep alive loop
+    private void loginStorm(Set<Player> set, Blackhole blackhole) {
+        for (int i = 0; i < players; i++) {
+            set.add(profiles[i]);
+            if (i % LOGINS_PER_TICK == 0) set.forEach(blackhole::consume);
+        }
+        for (Player player : profiles) set.remove(player);
+    }
+
+    @Benchmark
+    public Player lookupUuidIndexed() {
+        return indexed.byUuid(randomPlayer().getUuid());
+    }
+
+    @Benchmark
+    public Player lookupUuidCopyOnWrite() {
+        final UUID uuid = randomPlayer().getUuid();
+        for (Player player : copyOnWrite) {
+            if (player.getUuid().equals(uuid)) return player;
+        }
+        return null;
+    }
+
+    @Benchmark
+    public Player lookupUsernameIndexed() {
+        return indexed.byUsername(randomPlayer().getUsername().toUpperCase());
+    }
+
+    @Benchmark
+    public Player lookupUsernameCopyOnWrite() {
+        final String username = randomPlayer().getUsername().toUpperCase();
+        for (Player player : copyOnWrite) {
+            if (player.getUsername().equalsIgnoreCase(username)) return player;
+        }
+        return null;
+    }
+
+    @Benchmark
+    public void iterateIndexed(Blackhole blackhole) {
+        indexed.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void iterateCopyOnWrite(Blackhole blackhole) {
+        copyOnWrite.forEach(blackhole::consume);
+    }
+
+    private Player randomPlayer() {
+        return profiles[ThreadLocalRandom.current().nextInt(players)];
+    }
+}
@@ -0,0 +1,69 @@
+package net.minestom.server.thread;
+
+import net.minestom.server.Tickable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ThreadDispatcherBalanceBenchmark {
+    private static final int THREAD_COUNT = 4;
+    private static final int PARTITION_COUNT = 64;
+
+    @Param({"NEVER", "BALANCED"})
+    public ThreadProvider.RefreshType refreshType;
+
+    // Every heavy partition hashes to the same thread, simulating an unlucky arena layout
+    @Param({"4", "8"})
+    public int heavyPartitions;
+
+    ThreadDispatcher<Region, Tickable> dispatcher;
+
+    record Region(int id, long work) implements Tickable {
+        @Override
+        public void tick(long time) {
+            Blackhole.consumeCPU(work);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        this.dispatcher = ThreadDispatcher.dispatcher(new ThreadProvider<>() {
+            @Override
+            public int findThread(Region partition) {
+                return partition.id() < heavyPartitions ? 0 : partition.id();
+            }
+
+            @Override
+            public RefreshType refreshType() {
+                return refreshType;
+            }
+        }, THREAD_COUNT);
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            dispatcher.createPartition(new Region(i, i < heavyPartitions ? 20_000 : 500));
+        }
+        dispatcher.start();
+        // Let the dispatcher measure and settle
+        for (int i = 0; i < 20; i++) {
+            dispatcher.updateAndAwait(System.nanoTime());
+            dispatcher.refreshThreads();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Benchmark
+    public void tick() {
+        dispatcher.updateAndAwait(System.nanoTime());
+        dispatcher.refreshThreads();
+    }
+}
@@ -15,6 +15,10 @@ public class SchedulerTickBenchmark {
     @Param({"0", "1", "5"})
     public int tickTasks;
 
+    // Repeating tasks spread over a minute of ticks, only a fraction of them runs every tick
+    @Param({"0", "10000", "100000", "1000000"})
+    public int delayedTasks;
+
     Scheduler scheduler;
 
     @Setup
@@ -24,10 +28,31 @@ public class SchedulerTickBenchmark {
             this.scheduler.scheduleTask(() -> {
             }, TaskSchedule.nextTick(), TaskSchedule.nextTick());
         }
+        for (int i = 0; i < this.delayedTasks; i++) {
+            final TaskSchedule schedule = TaskSchedule.tick(1 + i % 1200);
+            this.scheduler.scheduleTask(() -> {
+            }, schedule, schedule);
+        }
+        // Move the submissions into the scheduler
+        this.scheduler.process();
     }
 
     @Benchmark
     public void call() {
         this.scheduler.processTick();
     }
+
+    @Benchmark
+    public void scheduleAndCall() {
+        this.scheduler.scheduleTask(() -> {
+        }, TaskSchedule.tick(20), TaskSchedule.stop());
+        this.scheduler.processTick();
+    }
+
+    @Benchmark
+    public void scheduleAndCancel() {
+        this.scheduler.scheduleTask(() -> {
+        }, TaskSchedule.tick(20), TaskSchedule.stop()).cancel();
+        this.scheduler.processTick();
+    }
 }
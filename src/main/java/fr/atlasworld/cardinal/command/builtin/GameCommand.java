@@ -13,6 +13,8 @@ import fr.atlasworld.cardinal.api.game.GameRule;
 import fr.atlasworld.cardinal.api.registry.CardinalRegistries;
 import fr.atlasworld.cardinal.api.registry.Registry;
 import fr.atlasworld.cardinal.api.server.entity.CardinalPlayer;
+import fr.atlasworld.cardinal.game.GameContainerImpl;
+import fr.atlasworld.cardinal.game.GameTickAccounting;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.event.ClickEvent;
@@ -237,6 +239,13 @@ public final class GameCommand extends Command {
         hoverText = hoverText.append(Component.text("Players: ", NamedTextColor.GRAY).append(Component.text("unsupported", NamedTextColor.WHITE)))
                 .appendNewline();
 
+        if (container instanceof GameContainerImpl impl) {
+            GameTickAccounting accounting = impl.tickAccounting();
+            hoverText = hoverText.append(Component.text("Tick: ", NamedTextColor.GRAY).append(Component.text(
+                    String.format("%.2fms avg, %.2fms max", accounting.averageMillis(), accounting.maxMillis()), NamedTextColor.WHITE)))
+                    .appendNewline();
+        }
+
         if (container.state().isJoinable())
             hoverText = hoverText.appendNewline().append(Component.text("Click to join the game.", NamedTextColor.GRAY));
 
@@ -35,6 +35,9 @@ public class ServerConfiguration {
         CONFIG_SPEC.defineInRange("game.render-distance", 12, 0, 32);
         CONFIG_SPEC.defineInRange("game.entity-distance", 7, 0, 32);
         CONFIG_SPEC.define("game.ticking-threads", -1);
+        CONFIG_SPEC.define("game.instance-thread-affinity", true);
+        CONFIG_SPEC.defineInRange("game.warm-pool-size", 0, 0, 64);
+        CONFIG_SPEC.define("game.preload-structures", true);
 
         // Web Server
         CONFIG_SPEC.define("web-server.base-url", "http://localhost:8080/");
@@ -76,6 +79,7 @@ public class ServerConfiguration {
         System.setProperty("minestom.chunk-view-distance", String.valueOf(this.renderDistance()));
         System.setProperty("minestom.entity-view-distance", String.valueOf(this.entityDistance()));
         System.setProperty("minestom.dispatcher-threads", String.valueOf(this.tickingThreads()));
+        System.setProperty("minestom.dispatcher-instance-affinity", String.valueOf(this.instanceThreadAffinity()));
 
         if (this.experimentalNetworking()) {
             LOGGER.warn("Experimental networking is enabled.");
@@ -123,6 +127,18 @@ public class ServerConfiguration {
         return tickingThreads;
     }
 
+    public boolean instanceThreadAffinity() {
+        return this.configuration.get("game.instance-thread-affinity");
+    }
+
+    public int warmPoolSize() {
+        return this.configuration.getInt("game.warm-pool-size");
+    }
+
+    public boolean preloadStructures() {
+        return this.configuration.get("game.preload-structures");
+    }
+
     public boolean experimentalNetworking() {
         return this.configuration.get("network.experimental-networking");
     }
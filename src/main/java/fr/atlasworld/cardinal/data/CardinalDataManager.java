@@ -4,15 +4,18 @@ import com.google.common.base.Preconditions;
 import fr.atlasworld.cardinal.CardinalServer;
 import fr.atlasworld.cardinal.api.data.*;
 import fr.atlasworld.cardinal.api.plugin.Plugin;
+import fr.atlasworld.cardinal.api.registry.DataRegistry;
 import fr.atlasworld.cardinal.api.registry.Registry;
 import fr.atlasworld.cardinal.api.registry.ReloadableRegistry;
 import fr.atlasworld.cardinal.bootstrap.Main;
 import fr.atlasworld.cardinal.data.source.AbstractDataEntry;
 import fr.atlasworld.cardinal.data.source.EmbeddedDataSource;
+import fr.atlasworld.cardinal.data.source.MappedZipArchive;
 import fr.atlasworld.cardinal.data.source.PackDataSource;
 import fr.atlasworld.cardinal.plugin.CardinalPluginManager;
 import fr.atlasworld.cardinal.plugin.PluginClassLoader;
 import fr.atlasworld.cardinal.registry.CardinalRegistries;
+import fr.atlasworld.cardinal.registry.MinestomBackedRegistry;
 import fr.atlasworld.cardinal.util.Logging;
 import net.kyori.adventure.key.Key;
 import org.jetbrains.annotations.NotNull;
@@ -22,14 +25,16 @@ import org.slf4j.Logger;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.zip.ZipFile;
+import java.util.concurrent.ForkJoinPool;
 
 public class CardinalDataManager implements DataManager {
     public static final String META_ENTRY_EXTENSION = "meta";
 
     private static final File DATA_DIRECTORY = new File("datapacks");
     private static final Logger LOGGER = Logging.logger();
+    private static final ForkJoinPool LOADER = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
 
     static {
         if (!DATA_DIRECTORY.isDirectory())
@@ -41,59 +46,81 @@ public class CardinalDataManager implements DataManager {
     private final CardinalServer server;
     private final Map<Datapack, DataSource> loadedPacks;
 
-    private final Map<String, DataEntry> loadedDataEntries;
+    // Sources sorted by priority, indexed data types resolve their entries lazily through them.
+    private volatile List<DataSource> sortedSources;
+    private final Map<String, Optional<DataEntry>> resolvedEntries;
 
     public CardinalDataManager(CardinalServer server, CardinalPluginManager pluginManager) {
         this.server = server;
         this.pluginManager = pluginManager;
 
         this.loadedPacks = new HashMap<>();
-        this.loadedDataEntries = new ConcurrentHashMap<>();
+        this.sortedSources = List.of();
+        this.resolvedEntries = new ConcurrentHashMap<>();
     }
 
     public void load(boolean reload) {
         if (reload) {
             this.loadedPacks.clear();
-            this.loadedDataEntries.clear();
+            this.resolvedEntries.clear();
         }
 
         LOGGER.info("Collecting datapacks..");
         this.collectDatapacks();
+        this.sortedSources = this.loadedPacks.values().stream()
+                .sorted(Comparator.comparingInt(DataSource::priority).reversed())
+                .toList();
 
         LOGGER.info("Loading data...");
+        final long start = System.currentTimeMillis();
         Map<DataType<?>, List<DataEntry>> entriesByType = this.collectEntries();
 
-        entriesByType.entrySet().stream()
-                .filter(entry -> this.shouldRegisterEntry(reload, entry.getKey()))
-                .sorted(Comparator.<Map.Entry<DataType<?>, List<DataEntry>>>comparingInt(entry -> entry.getKey().priority()).reversed())
-                .forEach(entry -> {
-                    LOGGER.debug("Loading data of type '{}'...", entry.getKey().type());
-                    entry.getValue().forEach(dataEntry -> this.handleDataEntry(dataEntry, entry.getKey()));
-                });
+        // Data types of the same priority don't depend on each other and are loaded together,
+        // a priority tier only starts once every higher priority tier is done.
+        TreeMap<Integer, List<DataType<?>>> tiers = new TreeMap<>(Comparator.reverseOrder());
+        entriesByType.keySet().stream()
+                .filter(type -> this.shouldRegisterEntry(reload, type))
+                .forEach(type -> tiers.computeIfAbsent(type.priority(), k -> new ArrayList<>()).add(type));
+
+        for (List<DataType<?>> tier : tiers.values()) {
+            CompletableFuture.allOf(tier.stream()
+                    .map(type -> CompletableFuture.runAsync(() -> this.loadType(type, entriesByType.get(type)), LOADER))
+                    .toArray(CompletableFuture[]::new)).join();
+        }
+
+        // Entries resolved during loading are not needed anymore.
+        this.resolvedEntries.clear();
+        LOGGER.info("Loaded data in {}ms.", System.currentTimeMillis() - start);
+    }
+
+    private void loadType(DataType<?> type, List<DataEntry> entries) {
+        LOGGER.debug("Loading data of type '{}'...", type.type());
+
+        // Minestom's registries are not safe to register to concurrently.
+        if (type.registry() instanceof MinestomBackedRegistry<?>) {
+            DataRegistry.load(() -> entries.forEach(dataEntry -> this.handleDataEntry(dataEntry, type)));
+            return;
+        }
+
+        // Entries may reference entries loaded by a previous tier of this same reload.
+        entries.parallelStream().forEach(dataEntry -> DataRegistry.load(() -> this.handleDataEntry(dataEntry, type))); // Runs inside the loader pool.
     }
 
     private Map<DataType<?>, List<DataEntry>> collectEntries() {
         final HashMap<DataType<?>, List<DataEntry>> entriesByType = new HashMap<>();
+        final Set<String> collectedPaths = new HashSet<>();
 
-        this.loadedPacks.values().stream()
-                .sorted(Comparator.comparingInt(DataSource::priority).reversed())
-                .forEach(source -> {
-                    for (DataEntry entry : source.dataEntries()) {
-                        Optional<DataType<?>> type = determineEntryType(entry);
-
-                        if (type.isEmpty()) continue;
-                        if (type.get().indexed()) {
-                            // Indexed data types need access to all available entries of that type directly,
-                            // se we load them all no matter if they're actually used or not.
-                            //
-                            // It's not a big issue but could be improved to only have them available temporarily
-                            // while the indexed data type only loads the entries it accessed.
-                            this.loadedDataEntries.put(entry.fullPath(), entry);
-                        }
-
-                        entriesByType.computeIfAbsent(type.get(), k -> new ArrayList<>()).add(entry);
-                    }
-                });
+        for (DataSource source : this.sortedSources) {
+            for (DataEntry entry : source.dataEntries()) {
+                if (!collectedPaths.add(entry.fullPath()))
+                    continue; // Overridden by a source of higher priority.
+
+                Optional<DataType<?>> type = determineEntryType(entry);
+                if (type.isEmpty()) continue;
+
+                entriesByType.computeIfAbsent(type.get(), k -> new ArrayList<>()).add(entry);
+            }
+        }
 
         return entriesByType;
     }
@@ -118,10 +145,8 @@ public class CardinalDataManager implements DataManager {
             return Optional.empty();
         }
 
-        if (dataType.get().indexed()) { // Those
-            this.loadedDataEntries.put(entry.fullPath(), entry);
+        if (dataType.get().indexed()) // Opened on demand by the index file.
             return Optional.empty();
-        }
 
         LOGGER.trace("Found data '{}' entry: {}", dataType.get().type(), entry.fullPath());
         return dataType;
@@ -138,7 +163,17 @@ public class CardinalDataManager implements DataManager {
         Preconditions.checkArgument(!path.isEmpty(), "Path cannot be empty!");
 
         String entryPath = AbstractDataEntry.DATA_DIR + key.namespace() + "/" + path + "/" + key.value() + "." + extensions;
-        return this.loadedDataEntries.get(entryPath);
+        return this.resolvedEntries.computeIfAbsent(entryPath, this::lookupEntry).orElse(null);
+    }
+
+    private Optional<DataEntry> lookupEntry(@NotNull String path) {
+        for (DataSource source : this.sortedSources) {
+            Optional<DataEntry> entry = source.dataEntry(path);
+            if (entry.isPresent())
+                return entry;
+        }
+
+        return Optional.empty();
     }
 
     @Override
@@ -184,9 +219,9 @@ public class CardinalDataManager implements DataManager {
         Set<File> datapackCandidate = this.searchDatapackFiles();
         for (File candidate : datapackCandidate) {
             try {
-                ZipFile zipFile = new ZipFile(candidate);
+                MappedZipArchive archive = MappedZipArchive.open(candidate);
 
-                PackDataSource source = new PackDataSource(zipFile);
+                PackDataSource source = new PackDataSource(archive);
                 this.loadedPacks.put(source.datapack(), source);
 
                 LOGGER.info("Found datapack '{}'", candidate.getName());
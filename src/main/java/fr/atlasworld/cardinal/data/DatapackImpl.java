@@ -2,22 +2,19 @@ package fr.atlasworld.cardinal.data;
 
 import com.google.common.base.Preconditions;
 import com.google.gson.*;
+import fr.atlasworld.cardinal.data.source.MappedZipArchive;
 import fr.atlasworld.cardinal.api.data.DataSource;
 import fr.atlasworld.cardinal.api.data.Datapack;
 import fr.atlasworld.cardinal.api.util.Serializers;
 import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.util.Enumeration;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
 
 public class DatapackImpl implements Datapack {
     public static final String PACK_META = "pack.json";
@@ -28,18 +25,25 @@ public class DatapackImpl implements Datapack {
     private final @NotNull Component description;
     private final @NotNull Set<Component> authors;
 
-    private final ZipFile file;
+    private final MappedZipArchive file;
     private final DataSource source;
 
-    public DatapackImpl(@NotNull ZipFile file, @NotNull DataSource source) throws JsonParseException, IOException {
+    public DatapackImpl(@NotNull MappedZipArchive file, @NotNull DataSource source) throws JsonParseException, IOException {
         Preconditions.checkNotNull(file);
         Preconditions.checkNotNull(source);
 
         this.file = file;
         this.source = source;
 
-        ZipEntry metaEntry = file.getEntry(PACK_META);
-        try (InputStream stream = file.getInputStream(metaEntry); InputStreamReader reader = new InputStreamReader(stream)) {
+        int metaEntry = file.find(PACK_META);
+        if (metaEntry < 0) {
+            if (file.find(VANILLA_META) >= 0)
+                throw new UnsupportedOperationException("Vanilla datapacks are not supported.");
+
+            throw new FileNotFoundException("Datapack metadata file not found.");
+        }
+
+        try (InputStream stream = file.open(metaEntry); InputStreamReader reader = new InputStreamReader(stream)) {
             try {
                 JsonObject metaObject = JsonParser.parseReader(reader).getAsJsonObject();
 
@@ -51,28 +55,15 @@ public class DatapackImpl implements Datapack {
             } catch (Throwable ex) {
                 throw new JsonSyntaxException("Failed to parse datapack metadata", ex);
             }
-        } catch (NullPointerException ex) {
-            if (file.getEntry(VANILLA_META) != null)
-                throw new UnsupportedOperationException("Vanilla datapacks are not supported.");
-
-            throw new FileNotFoundException("Datapack metadata file not found.");
         }
     }
 
-    public @NotNull Enumeration<? extends ZipEntry> entries() {
-        return this.file.entries();
-    }
-
-    public @Nullable InputStream openStream(@NotNull ZipEntry entry) throws IOException {
-        return this.file.getInputStream(entry);
-    }
-
-    public @Nullable ZipEntry getEntry(@NotNull String name) {
-        return this.file.getEntry(name);
+    public @NotNull MappedZipArchive archive() {
+        return this.file;
     }
 
     public @NotNull String filename() {
-        return this.file.getName();
+        return this.file.name();
     }
 
     @Override
@@ -105,7 +96,7 @@ public class DatapackImpl implements Datapack {
         return "DatapackImpl{" +
                 "name=" + Serializers.PLAIN_TEXT.serialize(this.name) +
                 ", version='" + this.version + '\'' +
-                ", file=" + this.file.getName() +
+                ", file=" + this.file.name() +
                 '}';
     }
 }
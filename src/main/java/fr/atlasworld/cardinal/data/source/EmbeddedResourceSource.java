@@ -8,6 +8,10 @@ import org.jetbrains.annotations.NotNull;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.util.Optional;
+import java.util.jar.JarEntry;
 
 public final class EmbeddedResourceSource implements ResourceSource {
     private final ClassLoader loader;
@@ -39,4 +43,24 @@ public final class EmbeddedResourceSource implements ResourceSource {
             throw new DataLoadingException("Failed to load resource: " + this.entry, ex);
         }
     }
+
+    @Override
+    public @NotNull Optional<String> version() {
+        URL resource = this.loader.getResource(this.entry);
+        if (resource == null)
+            return Optional.empty();
+
+        try {
+            // Plugins are packaged as jars, their entries carry a checksum.
+            if (resource.openConnection() instanceof JarURLConnection connection) {
+                JarEntry entry = connection.getJarEntry();
+                if (entry != null && entry.getCrc() != -1)
+                    return Optional.of(Long.toHexString(entry.getCrc()) + "-" + entry.getSize());
+            }
+        } catch (IOException ignored) {
+            // Cannot tell, the caller falls back to reading the data.
+        }
+
+        return Optional.empty();
+    }
 }
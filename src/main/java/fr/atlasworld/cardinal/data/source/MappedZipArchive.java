@@ -0,0 +1,261 @@
+package fr.atlasworld.cardinal.data.source;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.cardinal.api.util.ByteBufferInputStream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Read-only, memory-mapped view of a ZIP archive.
+ * <br><br>
+ * Only the central directory is read when opening the archive, it is turned into a sorted path index
+ * so looking up an entry is a binary search and no per-entry object is allocated.
+ * Stored entries are served as slices of the mapping, deflated entries are only inflated when opened.
+ */
+public final class MappedZipArchive {
+    private static final int END_HEADER_SIGNATURE = 0x06054b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+
+    private static final int END_HEADER_SIZE = 22;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+
+    private static final int METHOD_STORED = 0;
+    private static final int METHOD_DEFLATED = 8;
+
+    private final String name;
+    private final ByteBuffer buffer;
+
+    // Sorted path index, every array shares the same index.
+    private final String[] paths;
+    private final int[] methods;
+    private final int[] compressedSizes;
+    private final int[] sizes;
+    private final int[] crcs;
+    private final int[] headerOffsets;
+
+    private MappedZipArchive(String name, ByteBuffer buffer, String[] paths, int[] methods,
+                             int[] compressedSizes, int[] sizes, int[] crcs, int[] headerOffsets) {
+        this.name = name;
+        this.buffer = buffer;
+        this.paths = paths;
+        this.methods = methods;
+        this.compressedSizes = compressedSizes;
+        this.sizes = sizes;
+        this.crcs = crcs;
+        this.headerOffsets = headerOffsets;
+    }
+
+    /**
+     * Map and index an archive.
+     *
+     * @param file archive file.
+     * @return the mapped archive.
+     * @throws IOException if the file could not be mapped or is not a supported ZIP archive.
+     */
+    public static @NotNull MappedZipArchive open(@NotNull File file) throws IOException {
+        Preconditions.checkNotNull(file, "File cannot be null!");
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE)
+                throw new ZipException("Archive is too large to be mapped: " + file);
+
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        final int end = findEndHeader(buffer);
+        final int count = Short.toUnsignedInt(buffer.getShort(end + 10));
+        final long directoryOffset = Integer.toUnsignedLong(buffer.getInt(end + 16));
+        if (count == 0xFFFF || directoryOffset == 0xFFFFFFFFL)
+            throw new ZipException("ZIP64 archives are not supported: " + file);
+
+        String[] paths = new String[count];
+        int[] rawIndex = new int[count * 5];
+        int valid = 0;
+
+        int cursor = (int) directoryOffset;
+        for (int i = 0; i < count; i++) {
+            if (buffer.getInt(cursor) != CENTRAL_HEADER_SIGNATURE)
+                throw new ZipException("Invalid central directory in archive: " + file);
+
+            final int flags = Short.toUnsignedInt(buffer.getShort(cursor + 8));
+            final int method = Short.toUnsignedInt(buffer.getShort(cursor + 10));
+            final int crc = buffer.getInt(cursor + 16);
+            final int compressedSize = buffer.getInt(cursor + 20);
+            final int size = buffer.getInt(cursor + 24);
+            final int nameLength = Short.toUnsignedInt(buffer.getShort(cursor + 28));
+            final int extraLength = Short.toUnsignedInt(buffer.getShort(cursor + 30));
+            final int commentLength = Short.toUnsignedInt(buffer.getShort(cursor + 32));
+            final int headerOffset = buffer.getInt(cursor + 42);
+
+            byte[] nameBytes = new byte[nameLength];
+            buffer.get(cursor + CENTRAL_HEADER_SIZE, nameBytes);
+            String path = new String(nameBytes, StandardCharsets.UTF_8);
+
+            cursor += CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+
+            // Skip directories, encrypted entries and unsupported compression methods.
+            if (path.endsWith("/") || (flags & 1) != 0 || (method != METHOD_STORED && method != METHOD_DEFLATED))
+                continue;
+
+            paths[valid] = path;
+            rawIndex[valid * 5] = method;
+            rawIndex[valid * 5 + 1] = compressedSize;
+            rawIndex[valid * 5 + 2] = size;
+            rawIndex[valid * 5 + 3] = headerOffset;
+            rawIndex[valid * 5 + 4] = crc;
+            valid++;
+        }
+
+        Integer[] order = new Integer[valid];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, Comparator.comparing(i -> paths[i]));
+
+        String[] sortedPaths = new String[valid];
+        int[] methods = new int[valid], compressedSizes = new int[valid], sizes = new int[valid], crcs = new int[valid], headerOffsets = new int[valid];
+        for (int i = 0; i < valid; i++) {
+            final int source = order[i];
+            sortedPaths[i] = paths[source];
+            methods[i] = rawIndex[source * 5];
+            compressedSizes[i] = rawIndex[source * 5 + 1];
+            sizes[i] = rawIndex[source * 5 + 2];
+            headerOffsets[i] = rawIndex[source * 5 + 3];
+            crcs[i] = rawIndex[source * 5 + 4];
+        }
+
+        return new MappedZipArchive(file.getName(), buffer, sortedPaths, methods, compressedSizes, sizes, crcs, headerOffsets);
+    }
+
+    private static int findEndHeader(ByteBuffer buffer) throws ZipException {
+        final int last = buffer.capacity() - END_HEADER_SIZE;
+        final int first = Math.max(0, last - MAX_COMMENT_SIZE);
+        for (int position = last; position >= first; position--) {
+            if (buffer.getInt(position) == END_HEADER_SIGNATURE)
+                return position;
+        }
+
+        throw new ZipException("End of central directory not found, not a ZIP archive.");
+    }
+
+    /**
+     * Retrieve the file name of the archive.
+     *
+     * @return file name of the archive.
+     */
+    public @NotNull String name() {
+        return this.name;
+    }
+
+    /**
+     * Retrieve the amount of indexed entries, directories excluded.
+     *
+     * @return amount of entries.
+     */
+    public int size() {
+        return this.paths.length;
+    }
+
+    /**
+     * Retrieve the path of an entry.
+     *
+     * @param index index of the entry.
+     * @return path of the entry.
+     */
+    public @NotNull String path(int index) {
+        return this.paths[index];
+    }
+
+    /**
+     * Retrieve the uncompressed size of an entry.
+     *
+     * @param index index of the entry.
+     * @return size of the entry content.
+     */
+    public int size(int index) {
+        return this.sizes[index];
+    }
+
+    /**
+     * Retrieve the CRC-32 of an entry, as stored in the central directory.
+     *
+     * @param index index of the entry.
+     * @return checksum of the entry content.
+     */
+    public int crc(int index) {
+        return this.crcs[index];
+    }
+
+    /**
+     * Search for an entry.
+     *
+     * @param path path of the entry.
+     * @return index of the entry, or a negative value if absent.
+     */
+    public int find(@NotNull String path) {
+        return Arrays.binarySearch(this.paths, path);
+    }
+
+    /**
+     * Retrieve a zero-copy view of an entry, only available for stored entries.
+     *
+     * @param index index of the entry.
+     * @return read-only slice of the mapping, or null if the entry is compressed.
+     * @throws IOException if the local header of the entry is invalid.
+     */
+    public @Nullable ByteBuffer buffer(int index) throws IOException {
+        if (this.methods[index] != METHOD_STORED)
+            return null;
+
+        return this.buffer.slice(this.dataOffset(index), this.sizes[index]).asReadOnlyBuffer();
+    }
+
+    /**
+     * Open an entry, inflating it if needed.
+     *
+     * @param index index of the entry.
+     * @return stream of the entry content.
+     * @throws IOException if the local header of the entry is invalid.
+     */
+    public @NotNull InputStream open(int index) throws IOException {
+        ByteBuffer data = this.buffer.slice(this.dataOffset(index), this.compressedSizes[index]);
+        if (this.methods[index] == METHOD_STORED)
+            return new ByteBufferInputStream(data);
+
+        Inflater inflater = new Inflater(true);
+        return new InflaterInputStream(new ByteBufferInputStream(data), inflater, Math.min(8192, Math.max(512, this.sizes[index]))) {
+            @Override
+            public void close() throws IOException {
+                super.close();
+                inflater.end(); // Not owned by the stream, release the native memory ourselves.
+            }
+        };
+    }
+
+    // The local extra field can differ from the central one, so the data offset is resolved on open.
+    private int dataOffset(int index) throws ZipException {
+        final int header = this.headerOffsets[index];
+        if (this.buffer.getInt(header) != LOCAL_HEADER_SIGNATURE)
+            throw new ZipException("Invalid local header for entry: " + this.paths[index]);
+
+        final int nameLength = Short.toUnsignedInt(this.buffer.getShort(header + 26));
+        final int extraLength = Short.toUnsignedInt(this.buffer.getShort(header + 28));
+        return header + LOCAL_HEADER_SIZE + nameLength + extraLength;
+    }
+}
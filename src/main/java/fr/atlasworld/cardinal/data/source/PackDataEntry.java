@@ -5,18 +5,14 @@ import fr.atlasworld.cardinal.api.data.ResourceSource;
 import fr.atlasworld.cardinal.data.DatapackImpl;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.IOException;
-import java.util.zip.ZipEntry;
-
 public final class PackDataEntry extends AbstractDataEntry {
     private final PackResourceSource source;
 
-    public PackDataEntry(@NotNull DatapackImpl datapack, @NotNull ZipEntry entry) throws IOException {
-        super(entry.getName());
+    public PackDataEntry(@NotNull DatapackImpl datapack, int index, @NotNull String path) {
+        super(path);
 
         Preconditions.checkNotNull(datapack, "Datapack cannot be null!");
-        Preconditions.checkNotNull(entry, "Entry cannot be null!");
-        this.source = new PackResourceSource(entry, datapack);
+        this.source = new PackResourceSource(index, datapack);
     }
 
     @Override
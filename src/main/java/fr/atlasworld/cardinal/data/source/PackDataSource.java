@@ -10,39 +10,24 @@ import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 
 import java.io.IOException;
-import java.util.*;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
 
+/**
+ * DataSource implementation for datapack archives.
+ * <br><br>
+ * Entries are looked up in the sorted path index of the mapped archive and only wrapped when requested.
+ */
 public final class PackDataSource implements DataSource {
     private static final Logger LOGGER = Logging.logger();
 
     private final DatapackImpl datapack;
-    private final Map<String, DataEntry> entries;
+    private final MappedZipArchive archive;
 
-    public PackDataSource(ZipFile file) throws IOException {
-        this.datapack = new DatapackImpl(file, this);
-        this.entries = new HashMap<>();
-
-        Enumeration<? extends ZipEntry> entries = this.datapack.entries();
-        while (entries.hasMoreElements()) {
-            ZipEntry entry = entries.nextElement();
-            try {
-                if (entry.isDirectory())
-                    continue;
-
-                if (entry.getName().split("/").length < AbstractDataEntry.MINIMUM_PATH_DEPTH)
-                    continue;
-
-                if (entry.getName().endsWith(CardinalDataManager.META_ENTRY_EXTENSION))
-                    continue;
-
-                PackDataEntry dataEntry = new PackDataEntry(this.datapack, entry);
-                this.entries.put(entry.getName(), dataEntry);
-            } catch (Throwable ex) {
-                LOGGER.error("Failed to load entry '{}' from '{}':", entry.getName(), datapack.filename(), ex);
-            }
-        }
+    public PackDataSource(MappedZipArchive archive) throws IOException {
+        this.archive = archive;
+        this.datapack = new DatapackImpl(archive, this);
     }
 
     public @NotNull Datapack datapack() {
@@ -51,16 +36,46 @@ public final class PackDataSource implements DataSource {
 
     @Override
     public @NotNull Set<DataEntry> dataEntries() {
-        return Set.copyOf(this.entries.values());
+        Set<DataEntry> entries = new HashSet<>();
+        for (int i = 0; i < this.archive.size(); i++) {
+            DataEntry entry = this.createEntry(i);
+            if (entry != null)
+                entries.add(entry);
+        }
+
+        return Set.copyOf(entries);
     }
 
     @Override
     public boolean dataEntryPresent(@NotNull String path) {
-        return this.entries.containsKey(path);
+        final int index = this.archive.find(path);
+        return index >= 0 && isDataPath(path);
     }
 
     @Override
     public Optional<DataEntry> dataEntry(@NotNull String path) {
-        return Optional.ofNullable(this.entries.get(path));
+        final int index = this.archive.find(path);
+        if (index < 0)
+            return Optional.empty();
+
+        return Optional.ofNullable(this.createEntry(index));
+    }
+
+    private PackDataEntry createEntry(int index) {
+        final String path = this.archive.path(index);
+        if (!isDataPath(path))
+            return null;
+
+        try {
+            return new PackDataEntry(this.datapack, index, path);
+        } catch (Throwable ex) {
+            LOGGER.error("Failed to load entry '{}' from '{}':", path, this.datapack.filename(), ex);
+            return null;
+        }
+    }
+
+    private static boolean isDataPath(String path) {
+        return path.split("/").length >= AbstractDataEntry.MINIMUM_PATH_DEPTH
+                && !path.endsWith(CardinalDataManager.META_ENTRY_EXTENSION);
     }
 }
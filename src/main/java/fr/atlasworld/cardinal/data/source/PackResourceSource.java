@@ -6,17 +6,17 @@ import fr.atlasworld.cardinal.api.exception.data.DataLoadingException;
 import fr.atlasworld.cardinal.data.DatapackImpl;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.zip.ZipEntry;
+import java.nio.ByteBuffer;
+import java.util.Optional;
 
 public final class PackResourceSource implements ResourceSource {
-    private final ZipEntry entry;
+    private final int index;
     private final DatapackImpl pack;
 
-    public PackResourceSource(ZipEntry entry, DatapackImpl pack) {
-        this.entry = entry;
+    public PackResourceSource(int index, DatapackImpl pack) {
+        this.index = index;
         this.pack = pack;
     }
 
@@ -28,13 +28,23 @@ public final class PackResourceSource implements ResourceSource {
     @Override
     public @NotNull InputStream openStream() throws DataLoadingException {
         try {
-            InputStream stream = this.pack.openStream(this.entry);
-            if (stream == null)
-                throw new FileNotFoundException("Resource not found: " + this.entry.getName());
+            return this.pack.archive().open(this.index);
+        } catch (IOException ex) {
+            throw new DataLoadingException("Failed to load resource: " + this.pack.archive().path(this.index), ex);
+        }
+    }
 
-            return stream;
+    @Override
+    public @NotNull Optional<ByteBuffer> openBuffer() throws DataLoadingException {
+        try {
+            return Optional.ofNullable(this.pack.archive().buffer(this.index));
         } catch (IOException ex) {
-            throw new DataLoadingException("Failed to load resource: " + this.entry.getName(), ex);
+            throw new DataLoadingException("Failed to load resource: " + this.pack.archive().path(this.index), ex);
         }
     }
+
+    @Override
+    public @NotNull Optional<String> version() {
+        return Optional.of(Integer.toHexString(this.pack.archive().crc(this.index)) + "-" + this.pack.archive().size(this.index));
+    }
 }
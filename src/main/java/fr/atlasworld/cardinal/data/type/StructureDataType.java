@@ -1,5 +1,6 @@
 package fr.atlasworld.cardinal.data.type;
 
+import fr.atlasworld.cardinal.CardinalServer;
 import fr.atlasworld.cardinal.api.data.DataTypeOld;
 import fr.atlasworld.cardinal.api.data.ResourceSource;
 import fr.atlasworld.cardinal.api.registry.Registry;
@@ -49,8 +50,14 @@ public class StructureDataType implements DataTypeOld.TypeTransformer<Map<Key, L
                 poolEntries.add(structureEntry.toPoolEntry(source.get()));
             }
 
-            if (!brokenEntry)
-                registry.register(key, new StructurePoolImpl(poolEntries));
+            if (brokenEntry)
+                continue;
+
+            StructurePoolImpl pool = new StructurePoolImpl(poolEntries);
+            registry.register(key, pool);
+
+            if (CardinalServer.configuration().preloadStructures())
+                pool.preload(); // Schematics are read in the background, generators won't wait on the first read.
         }
     }
 
@@ -12,12 +12,15 @@ import net.minestom.server.MinecraftServer;
 import net.minestom.server.event.Event;
 import net.minestom.server.event.EventFilter;
 import net.minestom.server.event.EventNode;
-import net.minestom.server.event.trait.EntityEvent;
-import net.minestom.server.event.trait.InstanceEvent;
-import net.minestom.server.instance.Instance;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public final class EventNodeFactory {
+    // Game nodes are routed per instance, instead of each being tested against every event.
+    private static final Map<PluginClassLoader, GameEventRouter> PLUGIN_ROUTERS = new ConcurrentHashMap<>();
+    private static final GameEventRouter BUILTIN_ROUTER = createBuiltinRouter();
 
     /**
      * Specific event node for normal behavior code, this should not have any children and should be executed last to
@@ -64,59 +67,50 @@ public final class EventNodeFactory {
         return node;
     }
 
-    public static EventNode<@NotNull Event> createGameNode(@NotNull GameImpl game, @NotNull GameContainer container) {
+    public static GameEventRouter.Route createGameNode(@NotNull GameImpl game, @NotNull GameContainer container) {
         if (game.plugin() != null)
             return createPluginGameNode(game.plugin(), container);
 
         return createBuiltinGameNode(container);
     }
 
-    public static EventNode<@NotNull Event> createPluginGameNode(@NotNull Plugin plugin, @NotNull GameContainer container) {
+    /**
+     * Plugin game event node, routed from the plugin node to only receive the events of the container instances.
+     *
+     * @param plugin    plugin owning the game.
+     * @param container container of the game.
+     * @return newly created game route.
+     */
+    public static GameEventRouter.Route createPluginGameNode(@NotNull Plugin plugin, @NotNull GameContainer container) {
         Preconditions.checkNotNull(plugin, "Plugin cannot be null!");
         Preconditions.checkNotNull(container, "Game container cannot be null!");
 
         PluginClassLoader loader = (PluginClassLoader) plugin.getClass().getClassLoader();
-        EventNode<@NotNull Event> node = EventNode.event("game-container-" + container.identifier().toString().substring(0, 5), EventFilter.ALL, event -> {
-            if (event instanceof InstanceEvent instanceEvent)
-                return checkContainerInstance(container, instanceEvent.getInstance());
-
-            if (event instanceof EntityEvent entityEvent)
-                return checkContainerInstance(container, entityEvent.getEntity().getInstance());
-
-            return true;
+        GameEventRouter router = PLUGIN_ROUTERS.computeIfAbsent(loader, key -> {
+            GameEventRouter pluginRouter = new GameEventRouter("game-router-" + key.meta().identifier());
+            key.context().eventNode().addChild(pluginRouter.node());
+            return pluginRouter;
         });
 
-        loader.context().eventNode().addChild(node);
-        return node;
+        return router.createRoute("game-container-" + container.identifier().toString().substring(0, 5));
     }
 
     /**
      * Unsecure game event node, this should only be used for builtin games where no plugins are associated with.
      *
      * @param container container of the game.
-     * @return newly created game node.
+     * @return newly created game route.
      */
-    public static EventNode<@NotNull Event> createBuiltinGameNode(@NotNull GameContainer container) {
+    public static GameEventRouter.Route createBuiltinGameNode(@NotNull GameContainer container) {
         Preconditions.checkNotNull(container, "Game container cannot be null!");
 
-        EventNode<@NotNull Event> node = EventNode.event("game-container-" + container.identifier().toString().substring(0, 5), EventFilter.ALL, event -> {
-            if (event instanceof InstanceEvent instanceEvent)
-                return checkContainerInstance(container, instanceEvent.getInstance());
-
-            if (event instanceof EntityEvent entityEvent)
-                return checkContainerInstance(container, entityEvent.getEntity().getInstance());
-
-            return true;
-        });
-
-        MinecraftServer.getGlobalEventHandler().addChild(node);
-        return node;
+        return BUILTIN_ROUTER.createRoute("game-container-" + container.identifier().toString().substring(0, 5));
     }
 
-    private static boolean checkContainerInstance(GameContainer container, Instance instance) {
-        if (container == null || instance == null)
-            return false;
+    private static GameEventRouter createBuiltinRouter() {
+        GameEventRouter router = new GameEventRouter("game-router-builtin");
+        MinecraftServer.getGlobalEventHandler().addChild(router.node());
 
-        return container.isInstanceLinked(instance);
+        return router;
     }
 }
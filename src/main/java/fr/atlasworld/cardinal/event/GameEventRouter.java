@@ -0,0 +1,145 @@
+package fr.atlasworld.cardinal.event;
+
+import com.google.common.base.Preconditions;
+import net.minestom.server.event.Event;
+import net.minestom.server.event.EventFilter;
+import net.minestom.server.event.EventNode;
+import net.minestom.server.event.trait.EntityEvent;
+import net.minestom.server.event.trait.InstanceEvent;
+import net.minestom.server.instance.Instance;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Routes events to the game container nodes owning the instance the event happened in.
+ * <br><br>
+ * Game nodes are not attached to the event tree, the router is the only node attached and forwards each event
+ * with a single instance lookup, instead of testing every running game against the event.
+ * Event types no game listens to are not forwarded at all.
+ * Events unrelated to an instance or an entity are still forwarded to every game.
+ */
+public final class GameEventRouter {
+    private final EventNode<@NotNull Event> node;
+    private final Map<Instance, Route> instanceRoutes;
+    private final Set<Route> routes;
+
+    public GameEventRouter(@NotNull String name) {
+        this.node = EventNode.router(name, EventFilter.ALL, this::route);
+        this.instanceRoutes = new ConcurrentHashMap<>();
+        this.routes = new CopyOnWriteArraySet<>();
+    }
+
+    /**
+     * Retrieve the node to attach to the event tree.
+     *
+     * @return router node.
+     */
+    public @NotNull EventNode<@NotNull Event> node() {
+        return this.node;
+    }
+
+    /**
+     * Create a new route for a game container.
+     *
+     * @param name name of the game node.
+     * @return newly created route.
+     */
+    public @NotNull Route createRoute(@NotNull String name) {
+        Preconditions.checkNotNull(name, "Name cannot be null!");
+
+        Route route = new Route(EventNode.all(name));
+        this.routes.add(route);
+        this.node.addRoute(route.node);
+        return route;
+    }
+
+    /**
+     * Retrieve the amount of routes currently registered.
+     *
+     * @return amount of routes.
+     */
+    public int routeCount() {
+        return this.routes.size();
+    }
+
+    private void route(Event event) {
+        if (event instanceof InstanceEvent instanceEvent) {
+            this.routeTo(instanceEvent.getInstance(), event);
+            return;
+        }
+
+        if (event instanceof EntityEvent entityEvent) {
+            this.routeTo(entityEvent.getEntity().getInstance(), event);
+            return;
+        }
+
+        for (Route route : this.routes)
+            route.node.call(event);
+    }
+
+    private void routeTo(@Nullable Instance instance, Event event) {
+        if (instance == null)
+            return;
+
+        Route route = this.instanceRoutes.get(instance);
+        if (route != null)
+            route.node.call(event);
+    }
+
+    /**
+     * Route of a single game container.
+     */
+    public final class Route {
+        private final EventNode<@NotNull Event> node;
+
+        private Route(EventNode<@NotNull Event> node) {
+            this.node = node;
+        }
+
+        /**
+         * Retrieve the game node, receiving the events of the linked instances.
+         *
+         * @return game node.
+         */
+        public @NotNull EventNode<@NotNull Event> node() {
+            return this.node;
+        }
+
+        /**
+         * Link an instance to this route, events happening in the instance will be forwarded to the game node.
+         *
+         * @param instance instance to link.
+         */
+        public void link(@NotNull Instance instance) {
+            Preconditions.checkNotNull(instance, "Instance cannot be null!");
+
+            Route previous = GameEventRouter.this.instanceRoutes.putIfAbsent(instance, this);
+            Preconditions.checkState(previous == null || previous == this, "Instance is already linked to another game.");
+        }
+
+        /**
+         * Unlink an instance from this route.
+         *
+         * @param instance instance to unlink.
+         */
+        public void unlink(@NotNull Instance instance) {
+            Preconditions.checkNotNull(instance, "Instance cannot be null!");
+
+            GameEventRouter.this.instanceRoutes.remove(instance, this);
+        }
+
+        /**
+         * Close the route, the game node won't receive any events anymore.
+         */
+        public void close() {
+            GameEventRouter.this.routes.remove(this);
+            GameEventRouter.this.instanceRoutes.values().removeIf(route -> route == this);
+            GameEventRouter.this.node.removeRoute(this.node);
+        }
+    }
+}
@@ -30,12 +30,14 @@ public class CardinalGameManager implements GameManager {
     private static final Logger LOGGER = Logging.logger();
 
     private final CardinalWorldManager worldManager;
+    private final GameContainerPool containerPool;
     private final Map<UUID, GameContainer> gameContainers;
 
     private @NotNull PlayerRedirector redirector;
 
     public CardinalGameManager(ServerConfiguration configuration) {
         this.worldManager = new CardinalWorldManager();
+        this.containerPool = new GameContainerPool(this, configuration.warmPoolSize());
         this.gameContainers = new ConcurrentHashMap<>();
         this.redirector = new DummyRedirector();
     }
@@ -45,8 +47,14 @@ public class CardinalGameManager implements GameManager {
     }
 
     public void load(boolean reload) {
-        if (reload)
+        if (reload) {
+            this.worldManager.invalidateTemplates();
+            this.containerPool.clear();
+            this.containerPool.warmAll();
             return;
+        }
+
+        this.containerPool.warmAll();
 
         if (!CardinalServer.isProduction()) {
             this.redirector = new DevRedirector(this);
@@ -94,6 +102,10 @@ public class CardinalGameManager implements GameManager {
         return this.worldManager;
     }
 
+    public @NotNull GameContainerPool containerPool() {
+        return this.containerPool;
+    }
+
     @Override
     public @NotNull GameContainer createGame(@NotNull Game game, @NotNull GameMap map) {
         Preconditions.checkNotNull(game, "Game cannot be null");
@@ -104,16 +116,49 @@ public class CardinalGameManager implements GameManager {
         Preconditions.checkArgument(map.game().get() == game, "Map does not support the provided game!");
         Preconditions.checkArgument(game instanceof GameImpl, "Game must be an instance of GameImpl! Please use Game.Builder to create a your games.");
 
-        final UUID identifier = UUID.randomUUID();
-        final GameImpl impl = (GameImpl) game;
-        final GameLogic logic = impl.supplyLogic();
+        Optional<GameContainerImpl> pooled = this.containerPool.take(game, map);
+        GameContainerImpl container = pooled.orElseGet(() -> this.createContainer((GameImpl) game, map));
 
-        GameContainerImpl container = new GameContainerImpl(this.worldManager, identifier, impl, map, logic);
-        this.gameContainers.put(identifier, container);
-        GameContainerImpl.GameTask.schedule(this, container); // Handle the updating of the game every tick.
+        this.gameContainers.put(container.identifier(), container);
         EventDispatcher.call(new GameCreatedEvent(container));
 
-        LOGGER.info("Created new game '{}' with id '{}'.", CardinalRegistries.GAMES.retrieveKey(game).get(), identifier);
+        LOGGER.info("Created new game '{}' with id '{}'{}.", CardinalRegistries.GAMES.retrieveKey(game).get(),
+                container.identifier(), pooled.isPresent() ? " from the warm pool" : "");
+
+        return container;
+    }
+
+    @Override
+    public void configureWarmPool(@NotNull Game game, @NotNull GameMap map, int size) {
+        Preconditions.checkArgument(CardinalRegistries.GAMES.containsValue(game), "Game is not registered!");
+        Preconditions.checkArgument(CardinalRegistries.MAPS.containsValue(map), "Map is not registered!");
+        Preconditions.checkArgument(map.game().get() == game, "Map does not support the provided game!");
+        Preconditions.checkArgument(game instanceof GameImpl, "Game must be an instance of GameImpl! Please use Game.Builder to create a your games.");
+
+        this.containerPool.configure(game, map, size);
+    }
+
+    /**
+     * Create a container held by the {@link GameContainerPool}, not yet visible as an active game.
+     *
+     * @param game game of the container.
+     * @param map  map of the container.
+     * @return newly created pooled container.
+     */
+    public @NotNull GameContainerImpl createPooledContainer(@NotNull Game game, @NotNull GameMap map) {
+        GameContainerImpl container = this.createContainer((GameImpl) game, map);
+        container.markPooled();
+        container.prepare();
+
+        return container;
+    }
+
+    private @NotNull GameContainerImpl createContainer(@NotNull GameImpl game, @NotNull GameMap map) {
+        final UUID identifier = UUID.randomUUID();
+        final GameLogic logic = game.supplyLogic();
+
+        GameContainerImpl container = new GameContainerImpl(this.worldManager, identifier, game, map, logic);
+        GameContainerImpl.GameTask.schedule(this, container); // Handle the updating of the game every tick.
 
         return container;
     }
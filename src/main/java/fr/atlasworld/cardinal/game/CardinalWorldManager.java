@@ -8,12 +8,16 @@ import fr.atlasworld.cardinal.api.game.GameContainer;
 import fr.atlasworld.cardinal.api.game.GameMap;
 import fr.atlasworld.cardinal.api.server.world.GameWorld;
 import fr.atlasworld.cardinal.api.util.Serializers;
+import fr.atlasworld.cardinal.server.world.LoadedGameWorld;
+import fr.atlasworld.cardinal.server.world.WorldTemplateCache;
 import fr.atlasworld.cardinal.util.Logging;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.InstanceContainer;
 import net.minestom.server.instance.LightingChunk;
 import net.minestom.server.instance.SharedInstance;
+import net.minestom.server.registry.RegistryKey;
+import net.minestom.server.world.DimensionType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -31,10 +35,12 @@ public class CardinalWorldManager {
 
     private final Map<Instance, GameContainer> gameInstances;
     private final BiMap<GameWorld, InstanceContainer> shareableInstances;
+    private final WorldTemplateCache templates;
 
     public CardinalWorldManager() {
         this.gameInstances = new ConcurrentHashMap<>();
         this.shareableInstances = HashBiMap.create();
+        this.templates = new WorldTemplateCache();
     }
 
     /**
@@ -110,9 +116,15 @@ public class CardinalWorldManager {
 
     private InstanceContainer loadSingleInstance(@NotNull GameMap.MapWorld world, @NotNull GameContainerImpl container) {
         try {
-            InstanceContainer instance = new InstanceContainer(UUID.randomUUID(), container.game().dimension(world.dimension()));
+            RegistryKey<DimensionType> dimension = container.game().dimension(world.dimension());
+            InstanceContainer instance = new InstanceContainer(UUID.randomUUID(), dimension);
             instance.setChunkSupplier(LightingChunk::new); // Adds light computing chunks
-            world.world().get().provide(instance, world.extraParams());
+
+            // Shared maps only load their world once anyway, templates are only worth it for non-shared games.
+            if (!container.game().canShareMap() && world.world().get() instanceof LoadedGameWorld loadedWorld)
+                this.templates.provide(loadedWorld, instance, dimension, world.extraParams());
+            else
+                world.world().get().provide(instance, world.extraParams());
 
             MinecraftServer.getInstanceManager().registerInstance(instance);
             return instance;
@@ -122,6 +134,13 @@ public class CardinalWorldManager {
         }
     }
 
+    /**
+     * Drop every parsed world template, called when data is reloaded as worlds may have changed.
+     */
+    public void invalidateTemplates() {
+        this.templates.invalidate();
+    }
+
     public Optional<GameContainer> gameContainer(@NotNull Instance instance) {
         Preconditions.checkNotNull(instance, "Instance cannot be null!");
 
@@ -6,6 +6,7 @@ import fr.atlasworld.cardinal.CardinalServer;
 import fr.atlasworld.cardinal.api.event.game.GameStateChangeEvent;
 import fr.atlasworld.cardinal.api.game.*;
 import fr.atlasworld.cardinal.event.EventNodeFactory;
+import fr.atlasworld.cardinal.event.GameEventRouter;
 import fr.atlasworld.cardinal.registry.CardinalRegistries;
 import fr.atlasworld.cardinal.resource.CardinalResourceManager;
 import fr.atlasworld.cardinal.server.entity.CardinalPlayerImpl;
@@ -15,9 +16,7 @@ import net.kyori.adventure.resource.ResourcePackRequest;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.entity.Player;
-import net.minestom.server.event.Event;
 import net.minestom.server.event.EventDispatcher;
-import net.minestom.server.event.EventNode;
 import net.minestom.server.event.player.AsyncPlayerConfigurationEvent;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.timer.Task;
@@ -29,9 +28,14 @@ import org.slf4j.Logger;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public final class GameContainerImpl implements GameContainer {
     private static final Logger LOGGER = Logging.logger();
+    private static final ExecutorService INITIALIZER = Executors.newVirtualThreadPerTaskExecutor(); // Keeps world loading off the tick thread.
 
     private final CardinalWorldManager worldManager;
     private final GameRuleStore store;
@@ -43,11 +47,18 @@ public final class GameContainerImpl implements GameContainer {
 
     private final Map<UUID, Instance> instances;
     private final GameContextImpl context;
+    private final GameTickAccounting tickAccounting;
 
     private volatile @Nullable ResourcePackRequest pack;
     private volatile @NotNull State state;
     private volatile @Nullable Throwable cause;
 
+    private volatile @Nullable CompletableFuture<Void> initialization;
+    private volatile boolean pooled;
+    private volatile @Nullable State deferredStateChange; // Previous state of a change made off the updating thread.
+
+    private final GameEventRouter.Route eventRoute;
+
     public GameContainerImpl(CardinalWorldManager worldManager, UUID identifier, GameImpl game, GameMap map, GameLogic logic) {
         this.worldManager = worldManager;
         this.store = new GameRuleStore();
@@ -57,11 +68,12 @@ public final class GameContainerImpl implements GameContainer {
         this.map = map;
         this.logic = logic;
 
-        this.instances = new HashMap<>();
+        this.instances = new ConcurrentHashMap<>(); // Instances are loaded and released off the updating thread.
         this.state = State.INITIALIZING;
+        this.tickAccounting = new GameTickAccounting();
 
-        EventNode<@NotNull Event> node = EventNodeFactory.createGameNode(game, this);
-        this.context = new GameContextImpl(this, node);
+        this.eventRoute = EventNodeFactory.createGameNode(game, this);
+        this.context = new GameContextImpl(this, this.eventRoute.node());
     }
 
     @Override
@@ -107,7 +119,7 @@ public final class GameContainerImpl implements GameContainer {
 
     @Override
     public boolean isInstanceLinked(@NotNull Instance instance) {
-        return this.instances.containsValue(instance);
+        return this.instances.get(instance.getUuid()) == instance;
     }
 
     @Override
@@ -182,29 +194,98 @@ public final class GameContainerImpl implements GameContainer {
     }
 
     public void tick() {
-        switch (this.state) {
-            case INITIALIZING -> this.handleInit();
-            case WAITING -> this.handleWait();
-            case RUNNING -> this.handleRunning();
-            case FINISHED -> this.handleFinished();
-            case INTERRUPTED -> this.handleInterrupted();
-            default -> throw new IllegalStateException("Unknown state: " + this.state);
+        final long start = System.nanoTime();
+        try {
+            State previousState = this.deferredStateChange;
+            if (previousState != null) {
+                this.deferredStateChange = null;
+                EventDispatcher.call(new GameStateChangeEvent(this, previousState));
+            }
+
+            switch (this.state) {
+                case INITIALIZING -> this.handleInit();
+                case WAITING -> this.handleWait();
+                case RUNNING -> this.handleRunning();
+                case FINISHED -> this.handleFinished();
+                case INTERRUPTED -> this.handleInterrupted();
+                default -> throw new IllegalStateException("Unknown state: " + this.state);
+            }
+        } finally {
+            this.tickAccounting.record(System.nanoTime() - start);
         }
     }
 
+    public @NotNull GameTickAccounting tickAccounting() {
+        return this.tickAccounting;
+    }
+
     @Override
     public Optional<Instance> retrieveInstance(@NotNull UUID identifier) {
         Preconditions.checkNotNull(identifier, "Identifier cannot be null");
         return Optional.ofNullable(this.instances.get(identifier));
     }
 
+    /**
+     * Start the initialization of the container off the tick thread, if not already started.
+     * <br>
+     * Only used for pooled containers, other containers are initialized on their updating thread.
+     *
+     * @return future completed once the initialization is done, the container is then either waiting or interrupted.
+     */
+    public synchronized @NotNull CompletableFuture<Void> prepare() {
+        if (this.initialization == null)
+            this.initialization = CompletableFuture.runAsync(() -> this.initialize(false), INITIALIZER);
+
+        return this.initialization;
+    }
+
+    /**
+     * Mark the container as pooled, it will be held in the {@link State#WAITING} state until released.
+     */
+    @ApiStatus.Internal
+    public void markPooled() {
+        this.pooled = true;
+    }
+
+    /**
+     * Release the container from its pool, letting it continue its lifecycle.
+     *
+     * @return {@code true} if the container was pooled, {@code false} if it was already released.
+     */
+    @ApiStatus.Internal
+    public synchronized boolean releaseFromPool() {
+        if (!this.pooled)
+            return false;
+
+        this.pooled = false;
+        return true;
+    }
+
+    public boolean isPooled() {
+        return this.pooled;
+    }
+
     @ApiStatus.Internal
     public void registerInstance(@NotNull Instance instance) {
         Preconditions.checkNotNull(instance, "Instance cannot be null");
         this.instances.put(instance.getUuid(), instance);
+        this.eventRoute.link(instance);
     }
 
     private void handleInit() {
+        CompletableFuture<Void> initialization;
+        synchronized (this) {
+            if (this.initialization != null)
+                return; // Pooled, being prepared off the updating thread.
+
+            initialization = this.initialization = new CompletableFuture<>();
+        }
+
+        this.initialize(true);
+        initialization.complete(null);
+    }
+
+    private void initialize(boolean updatingThread) {
         CompletableFuture<ResourcePackInfo> futurePack = this.game.plugin() == null ?
                 CompletableFuture.completedFuture(null) : CardinalResourceManager.retrievePackInfo(this.game.plugin());
 
@@ -215,24 +296,28 @@ public final class GameContainerImpl implements GameContainer {
 
             if (!CardinalServer.isProduction() && !this.context.allowPlayerJoining())
                 LOGGER.warn("Game logic '{}' did not allow player joining after initialization, if the game needs player to start it will soft-lock.", this.logic.getClass().getName());
+
+            ResourcePackInfo packInfo = futurePack.join();
+            if (packInfo != null)
+                this.pack = ResourcePackRequest.resourcePackRequest()
+                        .required(true)
+                        .replace(true)
+                        .packs(packInfo)
+                        .build();
         } catch (Throwable ex) {
-            LOGGER.error("Failed to initialize logic for container '{}':", this.identifier, ex);
+            LOGGER.error("Failed to initialize container '{}':", this.identifier, ex);
             this.cause = ex;
-            this.updateState(State.INTERRUPTED);
+            this.updateState(State.INTERRUPTED, updatingThread);
+            return;
         }
 
-        ResourcePackInfo packInfo = futurePack.join();
-        if (packInfo != null)
-            this.pack = ResourcePackRequest.resourcePackRequest()
-                    .required(true)
-                    .replace(true)
-                    .packs(futurePack.join())
-                    .build();
-
-        this.updateState(State.WAITING);
+        this.updateState(State.WAITING, updatingThread);
     }
 
     private void handleWait() {
+        if (this.pooled)
+            return; // Held ready until handed out by the pool.
+
         // TODO: Handle player waiting
         this.updateState(State.RUNNING);
     }
@@ -280,7 +365,7 @@ public final class GameContainerImpl implements GameContainer {
         }
 
         List<CompletableFuture<Void>> redirectFutures = new ArrayList<>();
-        
+
         this.instances.values().forEach(instance -> {
             for (Player player : instance.getPlayers()) {
                 CompletableFuture<Void> redirectFuture = CardinalServer.getServer().gameManager()
@@ -290,15 +375,30 @@ public final class GameContainerImpl implements GameContainer {
             }
         });
 
-        CompletableFuture.allOf(redirectFutures.toArray(new CompletableFuture[0])).join();
+        // Instances are released once every player left, without holding the updating thread.
+        CompletableFuture.allOf(redirectFutures.toArray(new CompletableFuture[0])).whenComplete((unused, ex) -> {
+            if (ex != null)
+                LOGGER.error("Failed to redirect players out of game '{}':", this.identifier, ex);
+
+            this.instances.values().forEach(instance -> {
+                this.eventRoute.unlink(instance);
+                this.worldManager.unregisterInstance(instance);
+            });
+            this.instances.clear();
+            this.eventRoute.close();
+        });
+    }
 
-        // Unregister instances
-        this.instances.values().forEach(this.worldManager::unregisterInstance);
-        this.instances.clear();
+    @CanIgnoreReturnValue
+    private boolean updateState(State state) {
+        return this.updateState(state, true);
     }
 
+    /**
+     * @param dispatch whether to call the state change event now, or on the next tick of the container.
+     */
     @CanIgnoreReturnValue
-    private synchronized boolean updateState(State state) {
+    private synchronized boolean updateState(State state, boolean dispatch) {
         // Make sure to not override the terminal states.
         if (this.state == state || this.state == State.INTERRUPTED || this.state == State.FINISHED)
             return false;
@@ -306,7 +406,11 @@ public final class GameContainerImpl implements GameContainer {
         State oldState = this.state;
         this.state = state;
 
-        EventDispatcher.call(new GameStateChangeEvent(this, oldState));
+        if (dispatch)
+            EventDispatcher.call(new GameStateChangeEvent(this, oldState));
+        else
+            this.deferredStateChange = oldState;
+
         return true;
     }
 
@@ -319,9 +423,15 @@ public final class GameContainerImpl implements GameContainer {
     }
 
     public static class GameTask {
+        private static final ExecutorService GAME_EXECUTOR = Executors.newWorkStealingPool(); // Used by dedicated games.
+
         private final CardinalGameManager manager;
         private final GameContainerImpl container;
-        private final Task task;
+        private final ExecutionMode mode;
+        private final AtomicBoolean updating;
+
+        private volatile Task task;
+        private volatile boolean boundToInstance;
 
         public static void schedule(@NotNull CardinalGameManager gameManager, @NotNull GameContainerImpl container) {
             Preconditions.checkNotNull(gameManager, "Game manager cannot be null");
@@ -334,17 +444,52 @@ public final class GameContainerImpl implements GameContainer {
         private GameTask(CardinalGameManager manager, GameContainerImpl container) {
             this.manager = manager;
             this.container = container;
+            this.mode = container.game().executionMode();
+            this.updating = new AtomicBoolean();
 
             this.task = MinecraftServer.getSchedulerManager().scheduleTask(this::run, TaskSchedule.nextTick(), TaskSchedule.nextTick());
         }
 
         private void run() {
+            if (!this.updating.compareAndSet(false, true)) {
+                this.container.tickAccounting().recordSkipped(); // Previous update still running, never stack updates.
+                return;
+            }
+
             if (this.container.state() == State.INTERRUPTED || this.container.state() == State.FINISHED) {
                 this.task.cancel();
                 this.manager.unregisterGameContainer(this.container);
+            } else {
+                this.bindToInstance();
             }
 
-            this.container.tick();
+            if (this.mode == ExecutionMode.DEDICATED)
+                GAME_EXECUTOR.execute(this::update);
+            else
+                this.update();
+        }
+
+        private void update() {
+            try {
+                this.container.tick();
+            } catch (Throwable ex) {
+                LOGGER.error("Unhandled exception while updating game container '{}':", this.container.identifier(), ex);
+            } finally {
+                this.updating.set(false);
+            }
+        }
+
+        private void bindToInstance() {
+            if (this.mode != ExecutionMode.INSTANCE || this.boundToInstance || this.container.state() == State.INITIALIZING)
+                return;
+
+            Instance instance = this.container.context.joiningInstance();
+            if (instance == null)
+                return;
+
+            this.boundToInstance = true;
+            this.task.cancel();
+            this.task = instance.scheduler().scheduleTask(this::run, TaskSchedule.nextTick(), TaskSchedule.nextTick());
         }
     }
 }
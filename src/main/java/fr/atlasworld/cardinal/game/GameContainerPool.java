@@ -0,0 +1,186 @@
+package fr.atlasworld.cardinal.game;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.cardinal.api.game.Game;
+import fr.atlasworld.cardinal.api.game.GameContainer;
+import fr.atlasworld.cardinal.api.game.GameMap;
+import fr.atlasworld.cardinal.api.util.Serializers;
+import fr.atlasworld.cardinal.registry.CardinalRegistries;
+import fr.atlasworld.cardinal.util.Logging;
+import net.kyori.adventure.key.Key;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Submanager of the {@link CardinalGameManager} keeping game containers initialized ahead of time.
+ * <br><br>
+ * Pooled containers are fully initialized off the tick thread and held in the {@link GameContainer.State#WAITING} state,
+ * they are handed out by {@link CardinalGameManager#createGame(Game, GameMap)} when available, and replenished in the background.
+ */
+public final class GameContainerPool {
+    private static final Logger LOGGER = Logging.logger();
+
+    private final CardinalGameManager manager;
+    private final Map<PoolKey, Pool> pools;
+    private final Map<Key, Integer> configuredSizes; // Map key -> size, kept across reloads.
+    private final int defaultSize;
+
+    public GameContainerPool(@NotNull CardinalGameManager manager, int defaultSize) {
+        this.manager = manager;
+        this.pools = new ConcurrentHashMap<>();
+        this.configuredSizes = new ConcurrentHashMap<>();
+        this.defaultSize = defaultSize;
+    }
+
+    /**
+     * Define the amount of containers to keep warm for a game and map combination.
+     *
+     * @param game game of the pool.
+     * @param map  map of the pool.
+     * @param size amount of containers to keep ready, {@code 0} disables the pool.
+     */
+    public void configure(@NotNull Game game, @NotNull GameMap map, int size) {
+        Preconditions.checkNotNull(game, "Game cannot be null!");
+        Preconditions.checkNotNull(map, "Map cannot be null!");
+        Preconditions.checkArgument(size >= 0, "Pool size cannot be negative!");
+
+        CardinalRegistries.MAPS.retrieveKey(map).ifPresent(key -> this.configuredSizes.put(key, size));
+
+        Pool pool = this.pools.computeIfAbsent(new PoolKey(game, map), Pool::new);
+        pool.size = size;
+
+        this.trim(pool);
+        this.replenish(pool);
+    }
+
+    /**
+     * Start warming every registered map, with the size configured for the map or the default pool size from the configuration.
+     */
+    public void warmAll() {
+        for (GameMap map : this.manager.maps()) {
+            int size = CardinalRegistries.MAPS.retrieveKey(map)
+                    .map(key -> this.configuredSizes.getOrDefault(key, this.defaultSize))
+                    .orElse(this.defaultSize);
+
+            if (size <= 0)
+                continue;
+
+            Game game = map.game().get();
+            this.pools.computeIfAbsent(new PoolKey(game, map), key -> {
+                Pool pool = new Pool(key);
+                pool.size = size;
+                return pool;
+            });
+        }
+
+        this.pools.values().forEach(this::replenish);
+    }
+
+    /**
+     * Take a ready container out of the pool.
+     *
+     * @param game game of the container.
+     * @param map  map of the container.
+     * @return optional containing a container in the {@link GameContainer.State#WAITING} state, or empty if none is ready.
+     */
+    public Optional<GameContainerImpl> take(@NotNull Game game, @NotNull GameMap map) {
+        Pool pool = this.pools.get(new PoolKey(game, map));
+        if (pool == null)
+            return Optional.empty();
+
+        GameContainerImpl container;
+        while ((container = pool.ready.poll()) != null) {
+            if (container.state() == GameContainer.State.WAITING && container.releaseFromPool())
+                break;
+
+            LOGGER.debug("Discarding pooled game container '{}', no longer in a waiting state.", container.identifier());
+            container.interrupt(); // Its task unregisters it and releases its instances.
+        }
+
+        this.replenish(pool);
+        return Optional.ofNullable(container);
+    }
+
+    /**
+     * Interrupt and drop every pooled container, used when maps or games may have changed.
+     * <br>
+     * Configured pool sizes are kept, {@link #warmAll()} uses them again.
+     */
+    public void clear() {
+        this.pools.values().forEach(pool -> {
+            GameContainerImpl container;
+            while ((container = pool.ready.poll()) != null)
+                container.interrupt();
+        });
+
+        this.pools.clear();
+    }
+
+    private void trim(@NotNull Pool pool) {
+        while (pool.ready.size() > pool.size) {
+            GameContainerImpl container = pool.ready.poll();
+            if (container == null)
+                return;
+
+            container.interrupt();
+        }
+    }
+
+    private void replenish(@NotNull Pool pool) {
+        while (pool.ready.size() + pool.pending.get() < pool.size) {
+            pool.pending.incrementAndGet();
+
+            GameContainerImpl container;
+            try {
+                container = this.manager.createPooledContainer(pool.key.game(), pool.key.map());
+            } catch (Throwable ex) {
+                pool.pending.decrementAndGet();
+                LOGGER.error("Failed to create pooled game container for map '{}':", Serializers.PLAIN_TEXT.serialize(pool.key.map().name()), ex);
+                return;
+            }
+
+            container.prepare().whenComplete((unused, ex) -> {
+                pool.pending.decrementAndGet();
+
+                if (container.state() != GameContainer.State.WAITING) {
+                    // Failed containers are not retried here to avoid loops, the next take will try again.
+                    LOGGER.warn("Pooled game container '{}' failed to initialize, it won't be pooled.", container.identifier());
+                    container.interrupt();
+                    return;
+                }
+
+                if (this.pools.get(pool.key) != pool) { // Pool was cleared while initializing.
+                    container.interrupt();
+                    return;
+                }
+
+                pool.ready.add(container);
+                LOGGER.trace("Pooled game container '{}' is ready.", container.identifier());
+            });
+        }
+    }
+
+    private record PoolKey(Game game, GameMap map) {
+    }
+
+    private static final class Pool {
+        private final PoolKey key;
+        private final Queue<GameContainerImpl> ready;
+        private final AtomicInteger pending;
+
+        private volatile int size;
+
+        private Pool(PoolKey key) {
+            this.key = key;
+            this.ready = new ConcurrentLinkedQueue<>();
+            this.pending = new AtomicInteger();
+        }
+    }
+}
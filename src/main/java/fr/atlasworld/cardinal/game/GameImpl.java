@@ -24,13 +24,15 @@ public final class GameImpl implements Game {
     private final Component displayName;
     private final Supplier<GameLogic> logicSupplier;
     private final boolean canShareMap;
+    private final GameContainer.ExecutionMode executionMode;
     private final Map<String, RegistryHolder<DimensionType>> dimensions;
     private final Plugin plugin;
 
-    private GameImpl(Component displayName, Supplier<GameLogic> logicSupplier, boolean canShareMap, Map<String, RegistryHolder<DimensionType>> dimensions, @Nullable Plugin plugin) {
+    private GameImpl(Component displayName, Supplier<GameLogic> logicSupplier, boolean canShareMap, GameContainer.ExecutionMode executionMode, Map<String, RegistryHolder<DimensionType>> dimensions, @Nullable Plugin plugin) {
         this.displayName = displayName;
         this.logicSupplier = logicSupplier;
         this.canShareMap = canShareMap;
+        this.executionMode = executionMode;
         this.dimensions = dimensions;
         this.plugin = plugin;
     }
@@ -50,6 +52,11 @@ public final class GameImpl implements Game {
         return this.canShareMap;
     }
 
+    @Override
+    public @NotNull GameContainer.ExecutionMode executionMode() {
+        return this.executionMode;
+    }
+
     @Override
     public @NotNull RegistryKey<@NotNull DimensionType> dimension(@NotNull String identifier) {
         return Objects.requireNonNull(MinecraftServer.getDimensionTypeRegistry().getKey(this.dimensions.get(identifier).get()));
@@ -69,11 +76,13 @@ public final class GameImpl implements Game {
         private Component displayName;
         private Supplier<GameLogic> logicSupplier;
         private boolean canShareMap;
+        private GameContainer.ExecutionMode executionMode;
 
         private Plugin plugin;
 
         public BuilderImpl() {
             this.canShareMap = false;
+            this.executionMode = GameContainer.ExecutionMode.SERVER_TICK;
             this.dimensions = new HashMap<>();
         }
 
@@ -99,6 +108,14 @@ public final class GameImpl implements Game {
             return this;
         }
 
+        @Override
+        public @NotNull BuilderImpl executionMode(@NotNull GameContainer.ExecutionMode mode) {
+            Preconditions.checkNotNull(mode, "Execution mode cannot be null");
+
+            this.executionMode = mode;
+            return this;
+        }
+
         @Override
         public @NotNull BuilderImpl dimension(@NotNull String dimension, @NotNull RegistryHolder<DimensionType> type) {
             Preconditions.checkNotNull(dimension, "Dimension key cannot be null");
@@ -124,7 +141,7 @@ public final class GameImpl implements Game {
             Preconditions.checkArgument(!this.dimensions.isEmpty(), "At least one dimension must be defined!");
             Preconditions.checkNotNull(this.plugin, "Plugin must be defined!");
 
-            return new GameImpl(this.displayName, this.logicSupplier, this.canShareMap, this.dimensions, this.plugin);
+            return new GameImpl(this.displayName, this.logicSupplier, this.canShareMap, this.executionMode, this.dimensions, this.plugin);
         }
 
         public @NotNull Game buildWithoutGame() {
@@ -132,7 +149,7 @@ public final class GameImpl implements Game {
             Preconditions.checkNotNull(this.logicSupplier, "Logic supplier must be defined!");
             Preconditions.checkArgument(!this.dimensions.isEmpty(), "At least one dimension must be defined!");
 
-            return new GameImpl(this.displayName, this.logicSupplier, this.canShareMap, this.dimensions, null);
+            return new GameImpl(this.displayName, this.logicSupplier, this.canShareMap, this.executionMode, this.dimensions, null);
         }
     }
 }
@@ -6,83 +6,83 @@ import fr.atlasworld.cardinal.registry.CardinalRegistries;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Stores the game rule values of a game container.
+ * <p>
+ * Values are stored in the slot bound to the rule by {@link CardinalRegistries#GAME_RULES},
+ * reads are a plain array lookup.
+ */
 public final class GameRuleStore {
-    private final Map<GameRule<?>, Holder<?>> rules;
+    private volatile AtomicReferenceArray<Object> defaults; // Defaults set by the game.
+    private volatile AtomicReferenceArray<Object> values; // Values overridden at runtime.
 
     public GameRuleStore() {
-        this.rules = new ConcurrentHashMap<>();
+        int capacity = CardinalRegistries.GAME_RULES.keys().size();
+
+        this.defaults = new AtomicReferenceArray<>(capacity);
+        this.values = new AtomicReferenceArray<>(capacity);
     }
 
     @SuppressWarnings("unchecked")
     public <T> @Nullable T get(@NotNull GameRule<T> rule) {
-        Preconditions.checkNotNull(rule);
-        Preconditions.checkArgument(CardinalRegistries.GAME_RULES.containsValue(rule), "Game rule not registered.");
+        int slot = slot(rule);
 
-        Holder<T> holder = (Holder<T>) this.rules.get(rule);
-        return holder != null ? holder.get() : rule.defaultValue();
-    }
+        AtomicReferenceArray<Object> values = this.values;
+        AtomicReferenceArray<Object> defaults = this.defaults;
+        if (slot >= values.length())
+            return rule.defaultValue(); // Nothing was ever set for this rule.
 
-    @SuppressWarnings("unchecked")
-    public <T> void setGame(@NotNull GameRule<T> rule, @Nullable T value) {
-        Preconditions.checkNotNull(rule);
-        Preconditions.checkArgument(CardinalRegistries.GAME_RULES.containsValue(rule), "Game rule not registered.");
+        Object value = values.get(slot);
+        if (value != null)
+            return (T) value;
 
-        Holder<T> previousHolder = (Holder<T>) this.rules.get(rule);
-        Holder<T> holder;
-        if (previousHolder != null)
-            holder = previousHolder.withDefaultValue(value);
-        else
-            holder = new Holder<>(rule, value, null);
+        Object defaultValue = defaults.get(slot);
+        if (defaultValue != null)
+            return (T) defaultValue;
 
-        this.rules.put(rule, holder);
+        return rule.defaultValue();
     }
 
-    @SuppressWarnings("unchecked")
-    public <T> void set(@NotNull GameRule<T> rule, @Nullable T value) {
-        Preconditions.checkNotNull(rule);
-        Preconditions.checkArgument(CardinalRegistries.GAME_RULES.containsValue(rule), "Game rule not registered.");
-
-        Holder<T> previousHolder = (Holder<T>) this.rules.get(rule);
-        Holder<T> holder;
-        if (previousHolder != null)
-            holder = previousHolder.withValue(value);
-        else
-            holder = new Holder<>(rule, null, value);
+    public synchronized <T> void setGame(@NotNull GameRule<T> rule, @Nullable T value) {
+        int slot = slot(rule);
 
-        this.rules.put(rule, holder);
+        this.ensureCapacity(slot);
+        this.defaults.set(slot, value);
     }
 
-    private record Holder<T> (@NotNull GameRule<T> rule, @Nullable T defaultValue, @Nullable T value) {
-        public @Nullable T get() {
-            if (this.value != null)
-                return this.value;
+    public synchronized <T> void set(@NotNull GameRule<T> rule, @Nullable T value) {
+        int slot = slot(rule);
 
-            if (this.defaultValue != null)
-                return this.defaultValue;
+        this.ensureCapacity(slot);
+        this.values.set(slot, value);
+    }
 
-            if (this.rule.defaultValue() != null)
-                return this.rule.defaultValue();
+    // Only grows if rules were registered after this store was created, callers hold the monitor.
+    private void ensureCapacity(int slot) {
+        if (slot < this.values.length())
+            return;
 
-            return null;
-        }
+        int capacity = Math.max(slot + 1, CardinalRegistries.GAME_RULES.keys().size());
+        this.defaults = copyOf(this.defaults, capacity);
+        this.values = copyOf(this.values, capacity);
+    }
 
-        public @Nullable T defaultValue() {
-            return this.defaultValue;
-        }
+    private static int slot(@NotNull GameRule<?> rule) {
+        Preconditions.checkNotNull(rule);
 
-        public @Nullable T value() {
-            return this.value;
-        }
+        int slot = rule.registryId();
+        Preconditions.checkArgument(slot >= 0, "Game rule not registered.");
+        return slot;
+    }
 
-        public Holder<T> withDefaultValue(@Nullable T defaultValue) {
-            return new Holder<>(this.rule, defaultValue, this.value);
+    private static AtomicReferenceArray<Object> copyOf(@NotNull AtomicReferenceArray<Object> array, int capacity) {
+        AtomicReferenceArray<Object> copy = new AtomicReferenceArray<>(capacity);
+        for (int i = 0; i < array.length(); i++) {
+            copy.set(i, array.get(i));
         }
 
-        public Holder<T> withValue(@Nullable T value) {
-            return new Holder<>(this.rule, this.defaultValue, value);
-        }
+        return copy;
     }
 }
@@ -0,0 +1,76 @@
+package fr.atlasworld.cardinal.game;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tick-time accounting of a single {@link GameContainerImpl}.
+ * <br><br>
+ * Only written by the thread currently updating the container, values can be read from any thread.
+ */
+public final class GameTickAccounting {
+    private static final double SMOOTHING = 0.05;
+
+    private volatile long ticks;
+    private volatile long skippedTicks;
+    private volatile long lastNanos;
+    private volatile long maxNanos;
+    private volatile double averageNanos;
+
+    void record(long nanos) {
+        this.lastNanos = nanos;
+        this.averageNanos = this.ticks == 0 ? nanos : this.averageNanos + (nanos - this.averageNanos) * SMOOTHING;
+        if (nanos > this.maxNanos)
+            this.maxNanos = nanos;
+
+        this.ticks++;
+    }
+
+    void recordSkipped() {
+        this.skippedTicks++;
+    }
+
+    /**
+     * Retrieve the amount of updates the container went through.
+     *
+     * @return amount of updates.
+     */
+    public long ticks() {
+        return this.ticks;
+    }
+
+    /**
+     * Retrieve the amount of updates skipped because the previous update was still running.
+     *
+     * @return amount of skipped updates.
+     */
+    public long skippedTicks() {
+        return this.skippedTicks;
+    }
+
+    /**
+     * Retrieve the duration of the last update.
+     *
+     * @return duration of the last update in milliseconds.
+     */
+    public double lastMillis() {
+        return this.lastNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Retrieve the smoothed average duration of an update.
+     *
+     * @return average duration of an update in milliseconds.
+     */
+    public double averageMillis() {
+        return this.averageNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Retrieve the longest update duration.
+     *
+     * @return longest update duration in milliseconds.
+     */
+    public double maxMillis() {
+        return this.maxNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
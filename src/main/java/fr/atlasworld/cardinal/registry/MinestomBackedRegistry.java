@@ -93,6 +93,22 @@ public final class MinestomBackedRegistry<T> implements Registry<T> {
         return Optional.ofNullable(this.registry.getKey(value)).map(Keyed::key);
     }
 
+    @Override
+    public int retrieveId(@NotNull T value) {
+        Preconditions.checkNotNull(value, "Value cannot be null");
+
+        net.minestom.server.registry.RegistryKey<@NotNull T> key = this.registry.getKey(value);
+        return key != null ? this.registry.getId(key) : -1;
+    }
+
+    @Override
+    public Optional<T> retrieveValue(int id) {
+        if (id < 0 || id >= this.registry.size())
+            return Optional.empty();
+
+        return Optional.ofNullable(this.registry.get(id));
+    }
+
     @Override
     public @NotNull RegistryHolder<T> retrieveHolder(@NotNull Key key) {
         return new RegistryHolder<>(key, this, null);
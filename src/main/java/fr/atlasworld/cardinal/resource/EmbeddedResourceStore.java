@@ -69,7 +69,9 @@ public final class EmbeddedResourceStore implements DataSource, ResourceSource {
     }
 
     private void collectResourceEntry(ZipEntry entry, ClassLoader loader) throws IOException {
-        EmbeddedResourceEntry resourceEntry = new EmbeddedResourceEntry(loader, entry.getName());
+        // The central directory already holds the CRC, no need to read the entry to fingerprint it.
+        long contentHash = entry.getCrc() == -1 || entry.getSize() == -1 ? -1 : entry.getSize() << 32 | entry.getCrc();
+        EmbeddedResourceEntry resourceEntry = new EmbeddedResourceEntry(loader, entry.getName(), contentHash);
         this.resourceEntries.put(entry.getName(), resourceEntry);
     }
 
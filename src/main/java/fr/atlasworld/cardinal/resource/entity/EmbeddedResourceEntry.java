@@ -17,13 +17,15 @@ public class EmbeddedResourceEntry implements ResourceEntry {
     private final String[] pathElements;
     private final String entry;
     private final ClassLoader loader;
+    private final long contentHash;
 
-    public EmbeddedResourceEntry(@NotNull ClassLoader loader, @NotNull String entry) {
+    public EmbeddedResourceEntry(@NotNull ClassLoader loader, @NotNull String entry, long contentHash) {
         Preconditions.checkNotNull(loader, "Loader cannot be null!");
         Preconditions.checkNotNull(entry, "Entry cannot be null!");
 
         this.loader = loader;
         this.entry = entry;
+        this.contentHash = contentHash;
         this.pathElements = entry.split("/", ELEMENT_COUNT);
 
         Preconditions.checkArgument(this.pathElements.length >= ELEMENT_COUNT - 1, "Invalid entry: %s", this.entry);
@@ -69,6 +71,15 @@ public class EmbeddedResourceEntry implements ResourceEntry {
         return this.pathElements.length == ELEMENT_COUNT - 1;
     }
 
+    /**
+     * Retrieve the content hash of the entry, taken from the archive index without reading the entry.
+     *
+     * @return CRC-32 of the entry content combined with its size, or {@code -1} if unknown.
+     */
+    public long contentHash() {
+        return this.contentHash;
+    }
+
     @Override
     public @NotNull InputStream openStream() throws IOException {
         InputStream stream = this.loader.getResourceAsStream(this.entry);
@@ -1,34 +1,44 @@
 package fr.atlasworld.cardinal.resource.server;
 
+import com.google.common.hash.Hashing;
 import fr.atlasworld.cardinal.CardinalServer;
 import fr.atlasworld.cardinal.api.plugin.Plugin;
+import fr.atlasworld.cardinal.api.util.Serializers;
 import fr.atlasworld.cardinal.bootstrap.LaunchArguments;
 import fr.atlasworld.cardinal.bootstrap.Main;
 import fr.atlasworld.cardinal.configuration.ServerConfiguration;
 import fr.atlasworld.cardinal.plugin.PluginClassLoader;
 import fr.atlasworld.cardinal.resource.ResourceServer;
+import fr.atlasworld.cardinal.resource.entity.EmbeddedResourceEntry;
 import fr.atlasworld.cardinal.resource.server.embedded.ResourcePackCache;
+import fr.atlasworld.cardinal.resource.server.embedded.ResourcePackHandler;
 import fr.atlasworld.cardinal.util.Logging;
 import fr.atlasworld.fresco.FrescoProcessor;
 import fr.atlasworld.fresco.processor.ResourceProcessor;
 import fr.atlasworld.fresco.source.EntryType;
+import fr.atlasworld.fresco.source.ResourceEntry;
 import io.javalin.Javalin;
 import io.javalin.config.JavalinConfig;
-import io.javalin.http.staticfiles.Location;
 import io.javalin.util.JavalinException;
 import net.kyori.adventure.resource.ResourcePackInfo;
+import net.minestom.server.MinecraftServer;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 
-import java.io.File;
-import java.io.IOException;
+import java.io.*;
 import java.net.URI;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
-import java.util.UUID;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
 
 public final class EmbeddedResourceServer implements ResourceServer {
     private static final Logger LOGGER = Logging.logger();
@@ -50,6 +60,7 @@ public final class EmbeddedResourceServer implements ResourceServer {
     private final ServerConfiguration configuration;
     private final Javalin server;
     private final ResourcePackCache cache;
+    private final ResourcePackHandler packHandler;
 
     public EmbeddedResourceServer(ServerConfiguration configuration) {
         this.processors = new ConcurrentHashMap<>();
@@ -58,13 +69,15 @@ public final class EmbeddedResourceServer implements ResourceServer {
         this.configuration = configuration;
         this.server = Javalin.create(this::configureServer);
         this.cache = new ResourcePackCache();
+        this.packHandler = new ResourcePackHandler();
+
+        this.server.get("/{pack}", this.packHandler);
+        this.server.head("/{pack}", this.packHandler);
     }
 
     private void configureServer(JavalinConfig config) {
         config.showJavalinBanner = false;
         config.useVirtualThreads = true;
-
-        config.staticFiles.add(RESOURCE_PACK_CACHE.getPath(), Location.EXTERNAL);
     }
 
     @Override
@@ -90,52 +103,218 @@ public final class EmbeddedResourceServer implements ResourceServer {
     }
 
     private void generatePacks() {
-        for (Plugin plugin : CardinalServer.instance().pluginManager().loadedPlugins()) {
-            try {
-                PluginClassLoader loader = (PluginClassLoader) plugin.getClass().getClassLoader();
-                this.generatePack(loader);
-            } catch (IOException e) {
-                LOGGER.error("Failed to generate pack for plugin '{}'", plugin.namespace(), e);
+        Set<Plugin> plugins = CardinalServer.instance().pluginManager().loadedPlugins();
+        if (plugins.isEmpty())
+            return;
+
+        // Packs are independent of each other, generate them all at once, away from the common pool as this is mostly I/O.
+        int threads = Math.min(plugins.size(), Runtime.getRuntime().availableProcessors());
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads, Thread.ofPlatform().name("Pack Generator #", 0).daemon().factory())) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (Plugin plugin : plugins) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        PluginClassLoader loader = (PluginClassLoader) plugin.getClass().getClassLoader();
+                        this.generatePack(loader);
+                    } catch (IOException e) {
+                        LOGGER.error("Failed to generate pack for plugin '{}'", plugin.namespace(), e);
+                    }
+                }, executor));
             }
+
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        }
+
+        try {
+            this.cache.save();
+        } catch (IOException e) {
+            LOGGER.error("Failed to save resource pack cache:", e);
         }
     }
 
     private void generatePack(PluginClassLoader loader) throws IOException {
         LOGGER.info("Starting pack generation for plugin '{}'..", loader.meta().identifier());
         File output = this.determineOutputFile(loader);
+        Map<String, Long> entries = this.indexEntries(loader);
 
-        if (this.cache.isCached(loader, output) && !LaunchArguments.skipCache()) {
+        if (entries != null && this.cache.isCached(loader, output, entries) && !LaunchArguments.skipCache()) {
             LOGGER.info("Pack for plugin '{}' is already cached, skipping...", loader.meta().identifier());
             this.producePackInfo(loader, output);
 
             return;
         }
 
+        // Processors may merge or rename entries, only the plain entry to file mapping can be updated in place.
+        Set<String> changed = entries == null || LaunchArguments.skipCache() || !this.processors.isEmpty() ? null :
+                this.cache.changedEntries(loader, output, entries);
+
+        boolean generated = changed != null ? this.updatePack(loader, output, changed) :
+                this.processPack(loader, output, loader.store().resourceEntries());
+
+        if (!generated)
+            return;
+
+        LOGGER.info("Pack '{}' generated successfully.", loader.meta().identifier());
+        if (entries != null)
+            this.cache.cache(loader, output, entries);
+
+        this.producePackInfo(loader, output);
+    }
+
+    private boolean processPack(PluginClassLoader loader, File output, Set<ResourceEntry> entries) {
         FrescoProcessor.Builder builder = FrescoProcessor.create();
         builder.logger(LOGGER).meta(loader.meta().asPackMeta()).outputFile(output);
-        builder.addEntries(loader.store().resourceEntries());
+        builder.addEntries(entries);
 
         this.processors.forEach(((type, resourceProcessors) ->
                 builder.addProcessors(type, resourceProcessors.toArray(new ResourceProcessor[0]))));
 
         try (FrescoProcessor processor = builder.build()) {
             processor.process();
+            return true;
         } catch (Throwable ex) {
             LOGGER.error("Processor failed for '{}':", loader.meta().identifier(), ex);
-            return;
+            return false;
         }
+    }
 
-        LOGGER.info("Pack '{}' generated successfully.", loader.meta().identifier());
-        this.cache.cache(loader, output);
-        this.producePackInfo(loader, output);
+    /**
+     * Update the previously generated pack, only the changed entries are processed,
+     * every other file is carried over from the previous pack.
+     *
+     * @param loader  plugin of the pack.
+     * @param output  previously generated pack, replaced once the update succeeded.
+     * @param changed paths of the added, removed or modified entries.
+     * @return true if the pack was updated.
+     */
+    private boolean updatePack(PluginClassLoader loader, File output, Set<String> changed) throws IOException {
+        LOGGER.info("Updating {} changed entries of pack '{}'..", changed.size(), loader.meta().identifier());
+
+        Set<ResourceEntry> modified = new HashSet<>();
+        for (ResourceEntry entry : loader.store().resourceEntries()) {
+            if (changed.contains(entry.fullPath()))
+                modified.add(entry);
+        }
+
+        File delta = new File(RESOURCE_PACK_CACHE, loader.meta().identifier() + ".delta.zip");
+        File updated = new File(RESOURCE_PACK_CACHE, loader.meta().identifier() + ".zip.tmp");
+        try {
+            if (!modified.isEmpty() && !this.processPack(loader, delta, modified))
+                return false;
+
+            Set<String> written = new HashSet<>();
+            try (ZipOutputStream stream = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(updated)))) {
+                if (!modified.isEmpty())
+                    copyEntries(delta, stream, written, path -> true);
+
+                copyEntries(output, stream, written, path -> !changed.contains(path));
+            }
+
+            Files.move(updated.toPath(), output.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } finally {
+            Files.deleteIfExists(delta.toPath());
+            Files.deleteIfExists(updated.toPath());
+        }
+    }
+
+    private static void copyEntries(File source, ZipOutputStream output, Set<String> written, Predicate<String> filter) throws IOException {
+        try (ZipFile zip = new ZipFile(source)) {
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                if (!filter.test(entry.getName()) || !written.add(entry.getName()))
+                    continue;
+
+                output.putNextEntry(new ZipEntry(entry.getName()));
+                try (InputStream stream = zip.getInputStream(entry)) {
+                    stream.transferTo(output);
+                }
+
+                output.closeEntry();
+            }
+        }
+    }
+
+    /**
+     * Build the content index of the pack, the pack meta and registered processors are part of it as they affect the output.
+     *
+     * @param loader plugin of the pack.
+     * @return path to content hash index, or null if an entry or processor could not be fingerprinted.
+     */
+    private Map<String, Long> indexEntries(PluginClassLoader loader) {
+        Map<String, Long> entries = new HashMap<>();
+        for (ResourceEntry entry : loader.store().resourceEntries()) {
+            if (!(entry instanceof EmbeddedResourceEntry embeddedEntry) || embeddedEntry.contentHash() == -1)
+                return null;
+
+            entries.put(entry.fullPath(), embeddedEntry.contentHash());
+        }
+
+        // Inputs of the pack meta, see PluginMeta#asPackMeta.
+        entries.put("#meta/description", Hashing.murmur3_128().hashString(
+                Serializers.PLAIN_TEXT.serialize(loader.meta().description()), StandardCharsets.UTF_8).asLong());
+        entries.put("#meta/version", (long) MinecraftServer.RESOURCE_PACK_VERSION);
+
+        for (Map.Entry<EntryType, Set<ResourceProcessor>> processors : this.processors.entrySet()) {
+            for (ResourceProcessor processor : processors.getValue()) {
+                Class<?> type = processor.getClass();
+                long fingerprint = fingerprint(type);
+                if (fingerprint == -1)
+                    return null;
+
+                entries.put("#processor/" + processors.getKey() + "/" + type.getName() + "/" +
+                        type.getPackage().getImplementationVersion(), fingerprint);
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * Fingerprint the implementation of a processor from its class file.
+     *
+     * @param type class of the processor.
+     * @return hash of the class file, or -1 if it could not be read.
+     */
+    private static long fingerprint(Class<?> type) {
+        ClassLoader classLoader = type.getClassLoader();
+        if (classLoader == null)
+            return -1;
+
+        try (InputStream stream = classLoader.getResourceAsStream(type.getName().replace('.', '/') + ".class")) {
+            if (stream == null)
+                return -1;
+
+            return Hashing.murmur3_128().hashBytes(stream.readAllBytes()).asLong();
+        } catch (IOException ex) {
+            LOGGER.debug("Could not fingerprint resource processor '{}':", type.getName(), ex);
+            return -1;
+        }
     }
 
     private void producePackInfo(PluginClassLoader loader, File output) {
         String url = this.configuration.webServerBaseUrl().endsWith("/") ? this.configuration.webServerBaseUrl() + output.getName() :
                 this.configuration.webServerBaseUrl() + "/" + output.getName();
 
-        ResourcePackInfo info = ResourcePackInfo.resourcePackInfo(UUID.randomUUID(), URI.create(url), this.cache.retrievePackHash(loader, output).toString());
+        String hash = this.cache.retrievePackHash(loader, output).toString();
+        ResourcePackInfo info = ResourcePackInfo.resourcePackInfo(UUID.randomUUID(), URI.create(url), hash);
         this.packs.put(loader.plugin(), info);
+
+        try {
+            this.packHandler.register(output, hash);
+        } catch (IOException ex) {
+            LOGGER.error("Failed to serve pack for plugin '{}':", loader.meta().identifier(), ex);
+        }
+    }
+
+    /**
+     * Retrieve the download metrics of every served pack.
+     *
+     * @return pack file name to download metrics.
+     */
+    public @NotNull Map<String, ResourcePackHandler.DownloadMetrics> downloadMetrics() {
+        return this.packHandler.metrics();
     }
 
     private File determineOutputFile(PluginClassLoader loader) {
@@ -162,6 +341,6 @@ public final class EmbeddedResourceServer implements ResourceServer {
     }
 
     public void registerResourceProcessor(@NotNull EntryType type, @NotNull ResourceProcessor processor) {
-        this.processors.computeIfAbsent(type, key -> new HashSet<>()).add(processor);
+        this.processors.computeIfAbsent(type, key -> ConcurrentHashMap.newKeySet()).add(processor);
     }
 }
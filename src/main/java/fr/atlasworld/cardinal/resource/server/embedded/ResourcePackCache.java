@@ -4,25 +4,38 @@ import com.google.common.hash.HashCode;
 import com.google.common.hash.Hashing;
 import com.google.common.io.Files;
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import fr.atlasworld.cardinal.plugin.PluginClassLoader;
 import fr.atlasworld.cardinal.util.Logging;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
 import java.io.*;
-import java.util.concurrent.CompletableFuture;
-
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Index of the generated resource packs.
+ * <br><br>
+ * Packs are considered up-to-date when the content index of their source entries did not change,
+ * the generated file is trusted as long as its size and modification stamps match the ones recorded after generation,
+ * so neither the plugin nor the generated pack need to be re-read on boot.
+ */
 public class ResourcePackCache {
     private static final Logger LOGGER = Logging.logger();
     private static final Gson GSON = new Gson();
 
     public static final File CACHE_INDEX_FILE = new File(".cache/resourcepacks/index.json");
+    public static final String GENERATION_INPUT_PREFIX = "#";
 
     private JsonObject cache;
 
-    public void load() throws IOException {
+    public synchronized void load() throws IOException {
         if (!CACHE_INDEX_FILE.exists()) {
             this.cache = new JsonObject();
             this.save();
@@ -35,7 +48,7 @@ public class ResourcePackCache {
         }
     }
 
-    public void save() throws IOException {
+    public synchronized void save() throws IOException {
         if (!CACHE_INDEX_FILE.exists()) {
             CACHE_INDEX_FILE.getParentFile().mkdirs();
             CACHE_INDEX_FILE.createNewFile();
@@ -47,47 +60,73 @@ public class ResourcePackCache {
         }
     }
 
-    private void saveAsync() {
-        CompletableFuture.runAsync(() -> {
-            try {
-                this.save();
-            } catch (IOException e) {
-                LOGGER.error("Failed to save resource pack cache:", e);
-            }
-        });
-    }
-
-    @SuppressWarnings("deprecation")
-    public boolean isCached(PluginClassLoader loader, File resourcePackFile) {
-        if (!this.cache.has(loader.meta().identifier()))
+    /**
+     * Check whether the generated pack is still valid for the provided content index.
+     *
+     * @param loader           plugin of the pack.
+     * @param resourcePackFile generated pack file.
+     * @param entries          content index of the pack source entries, see {@link #changedEntries(PluginClassLoader, File, Map)}.
+     * @return {@code true} if the pack does not need to be generated again.
+     */
+    public boolean isCached(PluginClassLoader loader, File resourcePackFile, Map<String, Long> entries) {
+        ResourcePackCacheEntry entry = this.retrieveEntry(loader);
+        if (entry == null || !resourcePackFile.exists())
             return false;
 
-        if (!resourcePackFile.exists())
+        if (!entry.matchesStamp(resourcePackFile)) {
+            LOGGER.debug("Resource pack '{}' was modified outside of cardinal.", loader.meta().identifier());
             return false;
+        }
 
-        try {
-            ResourcePackCacheEntry entry = ResourcePackCacheEntry.fromJson(loader.meta().identifier(), this.cache.getAsJsonObject(loader.meta().identifier()));
+        return entry.entries().equals(entries);
+    }
 
-            HashCode packHash = Files.asByteSource(resourcePackFile).hash(Hashing.sha1());
-            HashCode pluginHash = loader.hash();
+    /**
+     * Retrieve the entries that changed since the last generation, letting the previous pack be updated in place.
+     * <br><br>
+     * Keys starting with {@link #GENERATION_INPUT_PREFIX} are not entries but inputs of the whole pack (meta, processors),
+     * if one of them changed the pack has to be generated from scratch.
+     *
+     * @param loader           plugin of the pack.
+     * @param resourcePackFile previously generated pack file.
+     * @param entries          current content index of the pack source entries.
+     * @return paths of the added, removed or modified entries, or null if the previous pack cannot be reused.
+     */
+    public @Nullable Set<String> changedEntries(PluginClassLoader loader, File resourcePackFile, Map<String, Long> entries) {
+        ResourcePackCacheEntry entry = this.retrieveEntry(loader);
+        if (entry == null || !resourcePackFile.exists() || !entry.matchesStamp(resourcePackFile))
+            return null;
 
-            return entry.matches(packHash.toString(), pluginHash.toString());
-        } catch (Throwable ex) {
-            LOGGER.error("Failed to check if resource pack '{}' is cached:", loader.meta().identifier(), ex);
-            return false;
+        Set<String> changed = new HashSet<>();
+        for (Map.Entry<String, Long> current : entries.entrySet()) {
+            if (!current.getValue().equals(entry.entries().get(current.getKey())))
+                changed.add(current.getKey());
+        }
+
+        for (String path : entry.entries().keySet()) {
+            if (!entries.containsKey(path))
+                changed.add(path);
         }
+
+        for (String path : changed) {
+            if (path.startsWith(GENERATION_INPUT_PREFIX))
+                return null;
+        }
+
+        return changed;
     }
 
     @SuppressWarnings("deprecation")
-    public void cache(PluginClassLoader loader, File resourcePackFile) {
+    public void cache(PluginClassLoader loader, File resourcePackFile, Map<String, Long> entries) {
         try {
             HashCode packHash = Files.asByteSource(resourcePackFile).hash(Hashing.sha1());
-            HashCode pluginHash = loader.hash();
 
-            ResourcePackCacheEntry entry = new ResourcePackCacheEntry(loader.meta().identifier(), pluginHash.toString(), packHash.toString());
-            entry.append(this.cache);
+            ResourcePackCacheEntry entry = new ResourcePackCacheEntry(loader.meta().identifier(), packHash.toString(),
+                    resourcePackFile.length(), resourcePackFile.lastModified(), new TreeMap<>(entries));
 
-            this.saveAsync();
+            synchronized (this) {
+                entry.append(this.cache);
+            }
         } catch (Throwable ex) {
             LOGGER.error("Failed to cache local resource pack '{}':", loader.meta().identifier(), ex);
         }
@@ -96,8 +135,9 @@ public class ResourcePackCache {
     @SuppressWarnings("deprecation")
     public HashCode retrievePackHash(PluginClassLoader loader, File resourcePackFile) {
         try {
-            if (this.cache.has(loader.meta().identifier()))
-                return HashCode.fromString(this.cache.getAsJsonObject(loader.meta().identifier()).get("pack").getAsString());
+            ResourcePackCacheEntry entry = this.retrieveEntry(loader);
+            if (entry != null && entry.matchesStamp(resourcePackFile))
+                return HashCode.fromString(entry.packHash());
 
             return Files.asByteSource(resourcePackFile).hash(Hashing.sha1());
         } catch (Throwable ex) {
@@ -106,23 +146,45 @@ public class ResourcePackCache {
         }
     }
 
-    public record ResourcePackCacheEntry(@NotNull String identifier, @NotNull String pluginHash,
-                                         @NotNull String packHash) {
+    private synchronized @Nullable ResourcePackCacheEntry retrieveEntry(PluginClassLoader loader) {
+        if (!this.cache.has(loader.meta().identifier()))
+            return null;
+
+        try {
+            return ResourcePackCacheEntry.fromJson(loader.meta().identifier(), this.cache.getAsJsonObject(loader.meta().identifier()));
+        } catch (Throwable ex) { // Older or corrupted index entry, the pack will be generated again.
+            LOGGER.debug("Invalid resource pack cache entry for '{}':", loader.meta().identifier(), ex);
+            return null;
+        }
+    }
+
+    public record ResourcePackCacheEntry(@NotNull String identifier, @NotNull String packHash, long packSize,
+                                         long packModified, @NotNull Map<String, Long> entries) {
         public void append(JsonObject root) {
             JsonObject entry = new JsonObject();
 
-            entry.addProperty("plugin", this.pluginHash);
             entry.addProperty("pack", this.packHash);
+            entry.addProperty("size", this.packSize);
+            entry.addProperty("modified", this.packModified);
+
+            JsonObject entries = new JsonObject();
+            this.entries.forEach(entries::addProperty);
+            entry.add("entries", entries);
 
             root.add(this.identifier, entry);
         }
 
-        public boolean matches(@NotNull String packHash, @NotNull String pluginHash) {
-            return this.packHash.equals(packHash) && this.pluginHash.equals(pluginHash);
+        public boolean matchesStamp(@NotNull File resourcePackFile) {
+            return resourcePackFile.length() == this.packSize && resourcePackFile.lastModified() == this.packModified;
         }
 
         public static ResourcePackCacheEntry fromJson(@NotNull String key, @NotNull JsonObject entry) {
-            return new ResourcePackCacheEntry(key, entry.get("plugin").getAsString(), entry.get("pack").getAsString());
+            Map<String, Long> entries = new TreeMap<>();
+            for (Map.Entry<String, JsonElement> element : entry.getAsJsonObject("entries").entrySet())
+                entries.put(element.getKey(), element.getValue().getAsLong());
+
+            return new ResourcePackCacheEntry(key, entry.get("pack").getAsString(), entry.get("size").getAsLong(),
+                    entry.get("modified").getAsLong(), entries);
         }
     }
 }
@@ -0,0 +1,246 @@
+package fr.atlasworld.cardinal.resource.server.embedded;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.cardinal.util.Logging;
+import io.javalin.http.Context;
+import io.javalin.http.Handler;
+import io.javalin.http.HandlerType;
+import io.javalin.http.HttpStatus;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Serves the generated resource packs.
+ * <br><br>
+ * Packs are memory-mapped once when registered and copied from the mapping to the raw servlet output in
+ * {@value #CHUNK_SIZE} byte chunks, bypassing Javalin's compressing wrapper as the zip is already compressed.
+ * The stored SHA-1 is used as a strong ETag so clients reconnecting with an up-to-date pack get a {@code 304}.
+ * Single byte ranges are supported to let interrupted downloads resume.
+ */
+public final class ResourcePackHandler implements Handler {
+    private static final Logger LOGGER = Logging.logger();
+    private static final String CONTENT_TYPE = "application/zip";
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final Map<String, ServedPack> packs;
+
+    public ResourcePackHandler() {
+        this.packs = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Register a pack to be served, replacing any previous pack with the same file name.
+     *
+     * @param file generated pack file.
+     * @param hash SHA-1 of the pack.
+     * @throws IOException if the pack could not be mapped.
+     */
+    public void register(@NotNull File file, @NotNull String hash) throws IOException {
+        Preconditions.checkNotNull(file, "File cannot be null!");
+        Preconditions.checkNotNull(hash, "Hash cannot be null!");
+
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        ServedPack previous = this.packs.put(file.getName(), new ServedPack(buffer, '"' + hash + '"', new DownloadMetrics()));
+        if (previous != null)
+            LOGGER.debug("Replaced served resource pack '{}'.", file.getName());
+    }
+
+    /**
+     * Retrieve the download metrics of every served pack.
+     *
+     * @return pack file name to download metrics.
+     */
+    public @NotNull Map<String, DownloadMetrics> metrics() {
+        Map<String, DownloadMetrics> metrics = new ConcurrentHashMap<>();
+        this.packs.forEach((name, pack) -> metrics.put(name, pack.metrics()));
+        return metrics;
+    }
+
+    @Override
+    public void handle(@NotNull Context ctx) throws Exception {
+        ServedPack pack = this.packs.get(ctx.pathParam("pack"));
+        if (pack == null) {
+            ctx.status(HttpStatus.NOT_FOUND);
+            return;
+        }
+
+        pack.metrics().requests.increment();
+
+        ctx.header("ETag", pack.etag());
+        ctx.header("Accept-Ranges", "bytes");
+        ctx.header("Cache-Control", "no-cache"); // Always revalidate, the ETag makes it cheap.
+
+        String ifNoneMatch = ctx.header("If-None-Match");
+        if (ifNoneMatch != null && (ifNoneMatch.equals("*") || ifNoneMatch.contains(pack.etag()))) {
+            pack.metrics().notModified.increment();
+            ctx.status(HttpStatus.NOT_MODIFIED);
+            return;
+        }
+
+        final int size = pack.buffer().capacity();
+        int start = 0;
+        int end = size - 1;
+
+        String range = ctx.header("Range");
+        String ifRange = ctx.header("If-Range");
+        if (range != null && (ifRange == null || ifRange.equals(pack.etag()))) {
+            long[] bounds = parseRange(range, size);
+            if (bounds == null) {
+                ctx.header("Content-Range", "bytes */" + size);
+                ctx.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+
+            start = (int) bounds[0];
+            end = (int) bounds[1];
+            ctx.status(HttpStatus.PARTIAL_CONTENT);
+            ctx.header("Content-Range", "bytes " + start + "-" + end + "/" + size);
+        }
+
+        final int length = end - start + 1;
+        ctx.contentType(CONTENT_TYPE);
+        ctx.res().setContentLengthLong(length);
+        if (ctx.method() == HandlerType.HEAD)
+            return;
+
+        final long begin = System.nanoTime();
+        ByteBuffer slice = pack.buffer().slice(start, length);
+        OutputStream output = ctx.res().getOutputStream();
+        byte[] chunk = new byte[Math.min(CHUNK_SIZE, length)];
+        while (slice.hasRemaining()) {
+            int read = Math.min(chunk.length, slice.remaining());
+            slice.get(chunk, 0, read);
+            output.write(chunk, 0, read);
+        }
+
+        output.flush();
+        pack.metrics().record(length, System.nanoTime() - begin);
+    }
+
+    /**
+     * Parse a single byte range header.
+     * <br>
+     * Suffix ({@code bytes=-n}) and open-ended ({@code bytes=n-}) ranges are supported,
+     * multiple ranges are not and are treated as unsatisfiable.
+     *
+     * @param header range header value.
+     * @param size   size of the resource.
+     * @return inclusive start and end offsets, or null if the range cannot be satisfied.
+     */
+    static long[] parseRange(@NotNull String header, int size) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') != -1)
+            return null; // Multiple ranges are not supported.
+
+        String spec = header.substring("bytes=".length()).trim();
+        int separator = spec.indexOf('-');
+        if (separator == -1)
+            return null;
+
+        try {
+            String startValue = spec.substring(0, separator).trim();
+            String endValue = spec.substring(separator + 1).trim();
+
+            long start;
+            long end;
+            if (startValue.isEmpty()) { // Suffix range, last n bytes.
+                long suffix = Long.parseLong(endValue);
+                if (suffix <= 0)
+                    return null;
+
+                start = Math.max(0, size - suffix);
+                end = size - 1;
+            } else {
+                start = Long.parseLong(startValue);
+                end = endValue.isEmpty() ? size - 1 : Math.min(Long.parseLong(endValue), size - 1);
+            }
+
+            if (start < 0 || start > end || start >= size)
+                return null;
+
+            return new long[]{start, end};
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private record ServedPack(MappedByteBuffer buffer, String etag, DownloadMetrics metrics) {
+    }
+
+    /**
+     * Download metrics of a single pack.
+     */
+    public static final class DownloadMetrics {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder notModified = new LongAdder();
+        private final LongAdder downloads = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private void record(long bytes, long nanos) {
+            this.downloads.increment();
+            this.bytes.add(bytes);
+            this.nanos.add(nanos);
+        }
+
+        /**
+         * Retrieve the amount of requests received for the pack.
+         *
+         * @return amount of requests.
+         */
+        public long requests() {
+            return this.requests.sum();
+        }
+
+        /**
+         * Retrieve the amount of requests answered with {@code 304}, the client already had the pack.
+         *
+         * @return amount of not modified responses.
+         */
+        public long notModified() {
+            return this.notModified.sum();
+        }
+
+        /**
+         * Retrieve the amount of completed downloads, including partial ones.
+         *
+         * @return amount of completed downloads.
+         */
+        public long downloads() {
+            return this.downloads.sum();
+        }
+
+        /**
+         * Retrieve the total amount of bytes sent.
+         *
+         * @return bytes sent.
+         */
+        public long bytes() {
+            return this.bytes.sum();
+        }
+
+        /**
+         * Retrieve the average throughput of the downloads.
+         *
+         * @return average throughput in bytes per second.
+         */
+        public double throughput() {
+            long nanos = this.nanos.sum();
+            return nanos == 0 ? 0 : this.bytes.sum() / (nanos / 1_000_000_000d);
+        }
+    }
+}
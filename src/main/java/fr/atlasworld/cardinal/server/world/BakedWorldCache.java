@@ -0,0 +1,212 @@
+package fr.atlasworld.cardinal.server.world;
+
+import com.google.common.base.Preconditions;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import fr.atlasworld.cardinal.api.data.ResourceSource;
+import fr.atlasworld.cardinal.api.exception.data.DataLoadingException;
+import fr.atlasworld.cardinal.api.server.world.GameWorldFormat;
+import fr.atlasworld.cardinal.util.Logging;
+import net.kyori.adventure.key.Key;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.IChunkLoader;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.LightingChunk;
+import net.minestom.server.registry.RegistryKey;
+import net.minestom.server.world.DimensionType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Cache of game worlds with their light baked in.
+ * <br><br>
+ * Game worlds are static, the light of a world file is computed once per dimension
+ * and saved through its {@link GameWorldFormat} in the cache directory, later loads of the same file reuse the baked world.
+ * Baked worlds are keyed by the {@link ResourceSource#version()} of the world file, the previous bake of a world is deleted
+ * once a new version is baked.
+ * Chunks loaded from a baked world trust their stored light until a nearby block changes,
+ * see {@link LightingChunk#setStoredLight(boolean)}.
+ */
+public final class BakedWorldCache {
+    private static final Logger LOGGER = Logging.logger();
+
+    public static final File CACHE_DIRECTORY = new File(".cache/worlds");
+
+    private BakedWorldCache() {
+    }
+
+    /**
+     * Load the world, baking and caching its light the first time the file is loaded.
+     * <br>
+     * Formats which do not store light are loaded as is.
+     * The world file is streamed to the format, straight from the mapped datapack when stored uncompressed.
+     *
+     * @param format    format of the world file.
+     * @param source    source of the world file.
+     * @param world     key of the world, or null if not registered, unregistered worlds don't prune their previous bakes.
+     * @param dimension dimension the world is loaded in.
+     * @return loader of the world, chunks loaded from it are marked as lit when the light was baked.
+     * @throws IOException          if the world could not be parsed.
+     * @throws DataLoadingException if the world file could not be opened.
+     */
+    public static @NotNull IChunkLoader load(@NotNull GameWorldFormat format, @NotNull ResourceSource source,
+                                             @Nullable Key world, @NotNull RegistryKey<DimensionType> dimension) throws IOException, DataLoadingException {
+        Preconditions.checkNotNull(format, "Format cannot be null!");
+        Preconditions.checkNotNull(source, "Source cannot be null!");
+        Preconditions.checkNotNull(dimension, "Dimension cannot be null!");
+
+        if (!format.storesLight())
+            return loadSource(format, source);
+
+        String prefix = cachePrefix(world, dimension);
+        File file = new File(CACHE_DIRECTORY, prefix + version(source) + "." + format.extension());
+        if (file.isFile()) {
+            try (InputStream stream = new FileInputStream(file)) {
+                return new StoredLightLoader(format.load(stream));
+            } catch (IOException ex) {
+                LOGGER.warn("Baked world '{}' is corrupted, baking it again.", file, ex);
+            }
+        }
+
+        IChunkLoader loader = loadSource(format, source);
+        if (!bake(format, loader, dimension))
+            return loader;
+
+        try {
+            write(file, format.save(loader));
+            if (world != null)
+                prune(prefix, file);
+        } catch (IOException ex) {
+            // The baked loader can still be used, the world will be baked again on the next boot.
+            LOGGER.error("Failed to save baked world '{}':", file, ex);
+        }
+
+        return new StoredLightLoader(loader);
+    }
+
+    private static @NotNull IChunkLoader loadSource(@NotNull GameWorldFormat format, @NotNull ResourceSource source) throws IOException, DataLoadingException {
+        try (InputStream stream = source.openStream()) {
+            return format.load(stream);
+        }
+    }
+
+    /**
+     * Compute the light of every chunk of the world and save them back in the loader.
+     *
+     * @return false if the format cannot list the chunks of the world.
+     */
+    private static boolean bake(@NotNull GameWorldFormat format, @NotNull IChunkLoader loader,
+                                @NotNull RegistryKey<DimensionType> dimension) {
+        long[] chunks = format.chunks(loader);
+        if (chunks.length == 0)
+            return false;
+
+        long start = System.nanoTime();
+
+        // Never registered, only used to relight the chunks with their neighbors loaded.
+        InstanceContainer instance = new InstanceContainer(UUID.randomUUID(), dimension);
+        instance.setChunkSupplier(LightingChunk::new);
+        instance.setChunkLoader(loader);
+
+        List<CompletableFuture<Chunk>> futures = new ArrayList<>(chunks.length);
+        for (long index : chunks) {
+            futures.add(instance.loadChunk(CoordConversion.chunkIndexGetX(index), CoordConversion.chunkIndexGetZ(index)));
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        LightingChunk.relight(instance, instance.getChunks());
+        loader.saveChunks(instance.getChunks());
+
+        LOGGER.debug("Baked light of {} chunks in {}ms.", chunks.length, (System.nanoTime() - start) / 1_000_000);
+        return true;
+    }
+
+    private static @NotNull String cachePrefix(@Nullable Key world, @NotNull RegistryKey<DimensionType> dimension) {
+        String dimensionName = fileName(dimension.key());
+        return world == null ? dimensionName + "@" : fileName(world) + "@" + dimensionName + "@";
+    }
+
+    private static @NotNull String fileName(@NotNull Key key) {
+        return key.asString().replace(':', '_').replace('/', '_');
+    }
+
+    // Identifies the content of the world file, only read when the source cannot tell on its own.
+    private static @NotNull String version(@NotNull ResourceSource source) throws IOException, DataLoadingException {
+        Optional<String> version = source.version();
+        if (version.isPresent())
+            return version.get();
+
+        Hasher hasher = Hashing.sha256().newHasher();
+        try (InputStream stream = source.openStream()) {
+            stream.transferTo(Funnels.asOutputStream(hasher));
+        }
+
+        return hasher.hash().toString();
+    }
+
+    // Older versions of the same world are never loaded again.
+    private static void prune(@NotNull String prefix, @NotNull File current) {
+        File[] stale = CACHE_DIRECTORY.listFiles((directory, name) -> name.startsWith(prefix) && !name.endsWith(".tmp") && !name.equals(current.getName()));
+        if (stale == null)
+            return;
+
+        for (File file : stale) {
+            if (!file.delete())
+                LOGGER.warn("Failed to delete stale baked world '{}'.", file);
+        }
+    }
+
+    private static void write(@NotNull File file, byte[] data) throws IOException {
+        if (!CACHE_DIRECTORY.exists())
+            CACHE_DIRECTORY.mkdirs();
+
+        // Written aside first, a crash while saving must never leave a truncated world behind.
+        File temporary = new File(CACHE_DIRECTORY, file.getName() + ".tmp");
+        Files.write(temporary.toPath(), data);
+        Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Loader of a baked world, marking loaded chunks as already lit.
+     */
+    public record StoredLightLoader(@NotNull IChunkLoader loader) implements IChunkLoader {
+
+        @Override
+        public void loadInstance(@NotNull Instance instance) {
+            this.loader.loadInstance(instance);
+        }
+
+        @Override
+        public @Nullable Chunk loadChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
+            Chunk chunk = this.loader.loadChunk(instance, chunkX, chunkZ);
+            if (chunk instanceof LightingChunk lightingChunk)
+                lightingChunk.setStoredLight(true);
+
+            return chunk;
+        }
+
+        @Override
+        public void saveChunk(@NotNull Chunk chunk) {
+            this.loader.saveChunk(chunk);
+        }
+
+        @Override
+        public boolean supportsParallelLoading() {
+            return this.loader.supportsParallelLoading();
+        }
+    }
+}
@@ -14,6 +14,8 @@ import net.minestom.server.codec.Codec;
 import net.minestom.server.codec.StructCodec;
 import net.minestom.server.instance.IChunkLoader;
 import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.registry.RegistryKey;
+import net.minestom.server.world.DimensionType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -48,9 +50,22 @@ public final class LoadedGameWorld implements GameWorld {
     public void provide(@NotNull InstanceContainer instance, @Nullable CompoundBinaryTag params) throws IOException {
         Preconditions.checkNotNull(instance, "Instance cannot be null!");
 
+        instance.setChunkLoader(this.createLoader(instance.getDimensionType()));
+    }
+
+    /**
+     * Parse the world file into a new chunk loader.
+     * <br>
+     * When the format stores light, the world is lit once per file and dimension, see {@link BakedWorldCache}.
+     *
+     * @param dimension dimension the world is loaded in.
+     * @return newly parsed chunk loader.
+     * @throws IOException if the world could not be read or parsed.
+     */
+    public @NotNull IChunkLoader createLoader(@NotNull RegistryKey<DimensionType> dimension) throws IOException {
         try {
-            IChunkLoader loader = this.meta.format.get().load(this.source.openStream());
-            instance.setChunkLoader(loader);
+            Key key = CardinalRegistries.WORLDS.retrieveKey(this).orElse(null);
+            return BakedWorldCache.load(this.meta.format.get(), this.source, key, dimension);
         } catch (Throwable ex) {
             throw new IOException("World loading failed: ", ex);
         }
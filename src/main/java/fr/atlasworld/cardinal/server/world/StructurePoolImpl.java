@@ -1,8 +1,10 @@
 package fr.atlasworld.cardinal.server.world;
 
 import fr.atlasworld.cardinal.api.data.ResourceSource;
+import fr.atlasworld.cardinal.api.server.world.SchematicPlan;
 import fr.atlasworld.cardinal.api.server.world.StructurePool;
 import fr.atlasworld.cardinal.util.Logging;
+import net.hollowcube.schem.Rotation;
 import net.hollowcube.schem.Schematic;
 import net.hollowcube.schem.SchematicReadException;
 import net.hollowcube.schem.SchematicReader;
@@ -14,26 +16,29 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
 import java.io.IOException;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Random;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 public class StructurePoolImpl implements StructurePool {
     private static final Logger LOGGER = Logging.logger();
     private static final Schematic EMPTY = new Schematic(Vec.ZERO, Vec.ZERO, new Block[0], new byte[0]);
+    private static final SchematicPlan EMPTY_PLAN = SchematicPlan.compile(EMPTY, Rotation.NONE);
+    private static final ExecutorService PRELOADER = Executors.newVirtualThreadPerTaskExecutor();
 
     public static final SchematicReader READER = new SchematicReader();
 
     private final Map<Key, StructurePoolEntry> entries;
-    private final Map<Key, Schematic> loadedSchematics;
+
+    // Generators **WILL** call this class concurrently, the sampler is immutable and only swapped when an entry breaks.
+    private volatile Sampler sampler;
 
     public StructurePoolImpl(Set<StructurePoolEntry> entries) {
-        this.entries = entries.stream().collect(Collectors.toMap(StructurePoolEntry::key, entry -> entry));
-        this.loadedSchematics = new ConcurrentHashMap<>(); // Generators **WILL** call this class concurrently!
+        this.entries = entries.stream().collect(Collectors.toUnmodifiableMap(StructurePoolEntry::key, entry -> entry));
+        this.sampler = Sampler.build(this.entries.values());
     }
 
     @Override
@@ -47,76 +52,90 @@ public class StructurePoolImpl implements StructurePool {
     }
 
     public Schematic rollStructure(Random random) {
-        int totalWeight = 0;
-        for (StructurePoolEntry entry : this.entries.values()) {
-            if (entry.isBroken()) continue;
-            totalWeight += entry.weight;
+        Sampler sampler;
+        while ((sampler = this.sampler).totalWeight > 0) {
+            StructurePoolEntry entry = sampler.sample(random);
+
+            Schematic schematic = this.resolve(entry);
+            if (schematic != null)
+                return schematic;
+
+            // Entry broke while loading, the sampler has been rebuilt without it, roll again.
         }
 
-        if (totalWeight <= 0) {
-            LOGGER.warn("No available structure found in pool, falling back to empty schematic.");
-            return EMPTY;
+        LOGGER.warn("No available structure found in pool, falling back to empty schematic.");
+        return EMPTY;
+    }
+
+    @Override
+    public @NotNull SchematicPlan resolvePlan(@NotNull Random random, @NotNull Rotation rotation) {
+        Sampler sampler;
+        while ((sampler = this.sampler).totalWeight > 0) {
+            SchematicPlan plan = this.resolvePlan(sampler.sample(random), rotation);
+            if (plan != null)
+                return plan;
         }
 
-        int roll = random.nextInt(totalWeight);
-        for (StructurePoolEntry entry : this.entries.values()) {
-            if (entry.isBroken()) continue;
-            roll -= entry.weight;
+        LOGGER.warn("No available structure found in pool, falling back to empty plan.");
+        return EMPTY_PLAN;
+    }
 
-            if (roll > 0)
-                continue;
+    private @Nullable SchematicPlan resolvePlan(@NotNull StructurePoolEntry entry, @NotNull Rotation rotation) {
+        Schematic schematic = this.resolve(entry);
+        if (schematic == null)
+            return null;
 
-            Schematic schematic = this.resolve(entry.key);
-            if (schematic == null)
-                return this.rollStructure(random);
+        return entry.plan(schematic, rotation);
+    }
 
-            return schematic;
-        }
+    @Override
+    public Optional<SchematicPlan> retrievePlan(@NotNull Key key, @NotNull Rotation rotation) {
+        StructurePoolEntry entry = this.entries.get(key);
+        if (entry == null || entry.isBroken())
+            return Optional.empty();
 
-        LOGGER.warn("No available structure found in pool, falling back to empty schematic.");
-        return EMPTY;
+        return Optional.ofNullable(this.resolvePlan(entry, rotation));
     }
 
     public @Nullable Schematic resolve(@NotNull Key key) {
-        if (this.loadedSchematics.containsKey(key))
-            return this.loadedSchematics.get(key);
+        StructurePoolEntry entry = this.entries.get(key);
+        if (entry == null)
+            throw new IllegalArgumentException("No structure found for key '" + key + "'");
+
+        return this.resolve(entry);
+    }
 
+    private @Nullable Schematic resolve(@NotNull StructurePoolEntry entry) {
         try {
-            return this.loadStructure(key);
+            return entry.resolve();
         } catch (IOException ex) {
-            LOGGER.error("Failed to open schematic file: {}", key, ex);
+            LOGGER.error("Failed to open schematic file: {}", entry.key, ex);
         } catch (SchematicReadException ex) {
-            LOGGER.error("Corrupted or invalid schematic file: {}", key, ex);
+            LOGGER.error("Corrupted or invalid schematic file: {}", entry.key, ex);
         }
 
-        this.entries.get(key).markBroken(); // Structure won't load.
+        this.markBroken(entry); // Structure won't load.
         return null;
     }
 
+    private synchronized void markBroken(@NotNull StructurePoolEntry entry) {
+        if (entry.isBroken())
+            return;
+
+        entry.markBroken();
+        this.sampler = Sampler.build(this.entries.values());
+    }
+
     /**
-     * Synchronized method to load structure if they're not present,
-     * prevents edge cases where multiple threads would try to load the same schematic at the same time.
-     *
-     * @param key of the structure pool to load.
-     *
-     * @return the loaded schematic.
+     * Load every schematic of the pool in the background,
+     * so generators calling {@link #resolve(Random)} concurrently never wait on a schematic being read.
      *
-     * @throws IOException if the schematic file could not be read.
-     * @throws SchematicReadException if the schematic file is invalid.
-     * @throws IllegalArgumentException if no structure was found for the given key.
+     * @return future completed once every schematic has been loaded or marked broken.
      */
-    private synchronized Schematic loadStructure(@NotNull Key key) throws IOException, SchematicReadException {
-        if (this.loadedSchematics.containsKey(key))
-            return this.loadedSchematics.get(key); // In case during the thread waiting, the schematic was loaded.
-
-        StructurePoolEntry entry = this.entries.get(key);
-        if (entry == null)
-            throw new IllegalArgumentException("No structure found for key '" + key + "'");
-
-        Schematic schematic = entry.load();
-        this.loadedSchematics.put(key, schematic);
-
-        return schematic;
+    public CompletableFuture<Void> preload() {
+        return CompletableFuture.allOf(this.entries.values().stream()
+                .map(entry -> CompletableFuture.runAsync(() -> this.resolve(entry), PRELOADER))
+                .toArray(CompletableFuture[]::new));
     }
 
     @Override
@@ -137,12 +156,52 @@ public class StructurePoolImpl implements StructurePool {
         return this.entries.keySet();
     }
 
+    /**
+     * Immutable weighted sampler over the non-broken entries, using a prefix-sum of the weights.
+     */
+    private static final class Sampler {
+        private final StructurePoolEntry[] entries;
+        private final int[] cumulativeWeights;
+        private final int totalWeight;
+
+        private Sampler(StructurePoolEntry[] entries, int[] cumulativeWeights, int totalWeight) {
+            this.entries = entries;
+            this.cumulativeWeights = cumulativeWeights;
+            this.totalWeight = totalWeight;
+        }
+
+        private static Sampler build(Collection<StructurePoolEntry> entries) {
+            List<StructurePoolEntry> available = new ArrayList<>(entries.size());
+            for (StructurePoolEntry entry : entries) {
+                if (!entry.isBroken() && entry.weight > 0)
+                    available.add(entry);
+            }
+
+            int[] cumulativeWeights = new int[available.size()];
+            int totalWeight = 0;
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                totalWeight += available.get(i).weight;
+                cumulativeWeights[i] = totalWeight;
+            }
+
+            return new Sampler(available.toArray(StructurePoolEntry[]::new), cumulativeWeights, totalWeight);
+        }
+
+        private StructurePoolEntry sample(Random random) {
+            int roll = random.nextInt(this.totalWeight);
+            int index = Arrays.binarySearch(this.cumulativeWeights, roll + 1);
+            return this.entries[index >= 0 ? index : -index - 1];
+        }
+    }
+
     public static final class StructurePoolEntry {
         private final Key key;
         private final int weight;
         private final ResourceSource source;
 
         private volatile boolean broken;
+        private volatile Schematic schematic;
+        private final SchematicPlan[] plans = new SchematicPlan[Rotation.values().length];
 
         public StructurePoolEntry(Key key, int weight, ResourceSource source) {
             this.key = key;
@@ -158,6 +217,55 @@ public class StructurePoolImpl implements StructurePool {
             return READER.read(this.source.openStream());
         }
 
+        /**
+         * Retrieve the loaded schematic, loading it if needed.
+         * <br>
+         * Only threads asking for this same schematic wait on each other while it's being read.
+         *
+         * @return the loaded schematic.
+         * @throws IOException            if the schematic file could not be read.
+         * @throws SchematicReadException if the schematic file is invalid.
+         */
+        public Schematic resolve() throws IOException, SchematicReadException {
+            Schematic schematic = this.schematic;
+            if (schematic != null)
+                return schematic;
+
+            synchronized (this) {
+                if (this.schematic == null) // In case during the thread waiting, the schematic was loaded.
+                    this.schematic = this.load();
+
+                return this.schematic;
+            }
+        }
+
+        /**
+         * Retrieve the placement plan of the loaded schematic, compiling it if needed.
+         * <br>
+         * Two threads may compile the same plan concurrently, both results are equivalent and only one is kept.
+         *
+         * @param schematic loaded schematic of this entry.
+         * @param rotation  rotation of the plan.
+         * @return compiled placement plan.
+         */
+        public SchematicPlan plan(Schematic schematic, Rotation rotation) {
+            SchematicPlan plan;
+            synchronized (this.plans) {
+                plan = this.plans[rotation.ordinal()];
+            }
+
+            if (plan != null)
+                return plan;
+
+            plan = SchematicPlan.compile(schematic, rotation);
+            synchronized (this.plans) {
+                if (this.plans[rotation.ordinal()] == null)
+                    this.plans[rotation.ordinal()] = plan;
+
+                return this.plans[rotation.ordinal()];
+            }
+        }
+
         // Used to determine whether the schematic is considered broken or not.
         public boolean isBroken() {
             return this.broken;
@@ -0,0 +1,176 @@
+package fr.atlasworld.cardinal.server.world;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.cardinal.util.Logging;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.IChunkLoader;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.LightingChunk;
+import net.minestom.server.registry.RegistryKey;
+import net.minestom.server.world.DimensionType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of parsed {@link LoadedGameWorld}s, used for non-shared game instances.
+ * <br><br>
+ * Each world file is only parsed once per revision, every chunk is then decoded once into a template chunk,
+ * instances using the world receive copies of those templates.
+ * Chunk palettes are copy-on-write, sections are only duplicated when a game modifies them.
+ */
+public final class WorldTemplateCache {
+    private static final Logger LOGGER = Logging.logger();
+
+    // Each template is parsed once by the first thread asking for it, others wait on its future.
+    private final Map<TemplateKey, CompletableFuture<WorldTemplate>> templates;
+
+    public WorldTemplateCache() {
+        this.templates = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Provide the world to the instance through the template cache.
+     *
+     * @param world     world to provide.
+     * @param instance  instance to provide the world to.
+     * @param dimension dimension of the instance.
+     * @param params    parameters defined by the map, forwarded to the world when parsing the template.
+     * @throws IOException if the world could not be parsed.
+     */
+    public void provide(@NotNull LoadedGameWorld world, @NotNull InstanceContainer instance,
+                        @NotNull RegistryKey<DimensionType> dimension, @NotNull CompoundBinaryTag params) throws IOException {
+        Preconditions.checkNotNull(world, "World cannot be null!");
+        Preconditions.checkNotNull(instance, "Instance cannot be null!");
+        Preconditions.checkNotNull(dimension, "Dimension cannot be null!");
+        Preconditions.checkNotNull(params, "Params cannot be null!");
+
+        TemplateKey key = new TemplateKey(world, world.revision(), dimension, params);
+        CompletableFuture<WorldTemplate> future = this.templates.get(key);
+        if (future == null) {
+            CompletableFuture<WorldTemplate> parsing = new CompletableFuture<>();
+            future = this.templates.putIfAbsent(key, parsing);
+            if (future == null) {
+                future = parsing;
+
+                LOGGER.debug("Parsing world template for revision {} of {}.", world.revision(), world);
+                try {
+                    parsing.complete(new WorldTemplate(world, dimension, params));
+                } catch (Throwable ex) {
+                    this.templates.remove(key, parsing); // Parsed again by the next instance.
+                    parsing.completeExceptionally(ex);
+                }
+            }
+        }
+
+        WorldTemplate template;
+        try {
+            template = future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof IOException ioException)
+                throw ioException;
+
+            throw new IOException("World loading failed: ", ex.getCause());
+        }
+
+        instance.setChunkLoader(new TemplateChunkLoader(template));
+    }
+
+    /**
+     * Drop every cached template, instances already using a template keep their own reference to it.
+     */
+    public void invalidate() {
+        this.templates.clear();
+    }
+
+    private record TemplateKey(LoadedGameWorld world, int revision, RegistryKey<DimensionType> dimension,
+                               CompoundBinaryTag params) {
+    }
+
+    private static final class WorldTemplate {
+        private final IChunkLoader loader;
+        private final InstanceContainer instance;
+        private final Map<Long, CompletableFuture<Chunk>> chunks;
+
+        private WorldTemplate(@NotNull LoadedGameWorld world, @NotNull RegistryKey<DimensionType> dimension,
+                              @NotNull CompoundBinaryTag params) throws IOException {
+            this.chunks = new ConcurrentHashMap<>();
+
+            // Never registered, only used as the owner of the template chunks.
+            this.instance = new InstanceContainer(UUID.randomUUID(), dimension);
+            this.instance.setChunkSupplier(LightingChunk::new);
+
+            // The world provides the template like any other instance, so the map parameters are applied.
+            try {
+                world.provide(this.instance, params);
+            } catch (IOException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new IOException("World loading failed: ", ex);
+            }
+            this.loader = this.instance.getChunkLoader();
+        }
+
+        private @Nullable Chunk template(int chunkX, int chunkZ) {
+            final long index = CoordConversion.chunkIndex(chunkX, chunkZ);
+            CompletableFuture<Chunk> future = this.chunks.get(index);
+            if (future != null)
+                return future.join();
+
+            // Decoded outside the map, other threads asking for this chunk wait on its future.
+            CompletableFuture<Chunk> loading = new CompletableFuture<>();
+            future = this.chunks.putIfAbsent(index, loading);
+            if (future != null)
+                return future.join();
+
+            try {
+                Chunk chunk = this.loader.loadChunk(this.instance, chunkX, chunkZ);
+                loading.complete(chunk);
+                return chunk;
+            } catch (Throwable ex) {
+                this.chunks.remove(index, loading);
+                loading.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+    }
+
+    private record TemplateChunkLoader(WorldTemplate template) implements IChunkLoader {
+
+        @Override
+        public void loadInstance(@NotNull Instance instance) {
+            this.template.loader.loadInstance(instance);
+        }
+
+        @Override
+        public @Nullable Chunk loadChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
+            Chunk template = this.template.template(chunkX, chunkZ);
+            if (template == null)
+                return null;
+
+            synchronized (template) {
+                return template.copy(instance, chunkX, chunkZ);
+            }
+        }
+
+        @Override
+        public void saveChunk(@NotNull Chunk chunk) {
+            // Game worlds are templates, modifications are never written back.
+        }
+
+        @Override
+        public boolean supportsParallelLoading() {
+            return this.template.loader.supportsParallelLoading();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import fr.atlasworld.cardinal.api.server.world.GameWorldFormat;
 import net.hollowcube.polar.PolarLoader;
 import net.hollowcube.polar.PolarWorld;
 import net.hollowcube.polar.PolarWriter;
+import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.instance.IChunkLoader;
 import net.minestom.server.world.DimensionType;
 import org.jetbrains.annotations.NotNull;
@@ -32,4 +33,16 @@ public class PolarWorldFormat implements GameWorldFormat {
     public @NotNull IChunkLoader supplyBlankLoader(@NotNull DimensionType dimension) {
         return new PolarLoader(new PolarWorld(dimension));
     }
+
+    @Override
+    public boolean storesLight() {
+        return true;
+    }
+
+    @Override
+    public long @NotNull [] chunks(@NotNull IChunkLoader loader) {
+        return ((PolarLoader) loader).world().chunks().stream()
+                .mapToLong(chunk -> CoordConversion.chunkIndex(chunk.x(), chunk.z()))
+                .toArray();
+    }
 }
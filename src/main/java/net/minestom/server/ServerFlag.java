@@ -18,6 +18,9 @@ public final class ServerFlag {
     public static final int ENTITY_VIEW_DISTANCE = intProperty("minestom.entity-view-distance", 5);
     public static final int ENTITY_SYNCHRONIZATION_TICKS = intProperty("minestom.entity-synchronization-ticks", 20);
     public static final int DISPATCHER_THREADS = intProperty("minestom.dispatcher-threads", 1);
+    public static final boolean DISPATCHER_BALANCING = booleanProperty("minestom.dispatcher-balancing", false); // Rebalance partitions from their measured tick cost
+    public static final int DISPATCHER_BALANCING_INTERVAL = intProperty("minestom.dispatcher-balancing-interval", 20, 1, Integer.MAX_VALUE); // Refreshes between two rebalancing attempts
+    public static final boolean DISPATCHER_INSTANCE_AFFINITY = booleanProperty("minestom.dispatcher-instance-affinity", false); // Tick each instance and its chunks on a single thread, takes precedence over balancing
     public static final int SEND_LIGHT_AFTER_BLOCK_PLACEMENT_DELAY = intProperty("minestom.send-light-after-block-placement-delay", 100);
     public static final long LOGIN_PLUGIN_MESSAGE_TIMEOUT = longProperty("minestom.login-plugin-message-timeout", 5_000); // 5s
     public static final long KNOWN_PACKS_RESPONSE_TIMEOUT = longProperty("minestom.known-packs-response-timeout", 5 * 60_000); // 5m
@@ -43,11 +46,15 @@ public final class ServerFlag {
     public static final float MIN_CHUNKS_PER_TICK = floatProperty("minestom.chunk-queue.min-per-tick", 0.01f);
     public static final float MAX_CHUNKS_PER_TICK = floatProperty("minestom.chunk-queue.max-per-tick", 64.0f);
     public static final float CHUNKS_PER_TICK_MULTIPLIER = floatProperty("minestom.chunk-queue.multiplier", 1f);
+    public static final int CHUNK_LOAD_PARALLELISM = intProperty("minestom.chunk-load-parallelism", Runtime.getRuntime().availableProcessors(), 1, Integer.MAX_VALUE); // Chunks loaded or generated at once
+    public static final int CHUNK_SAVE_QUEUE_SIZE = intProperty("minestom.chunk-save-queue-size", 4096, 1, Integer.MAX_VALUE); // Chunk snapshots waiting to be written before saves block
 
     // Packet sending optimizations
     public static final boolean GROUPED_PACKET = booleanProperty("minestom.grouped-packet", true);
     public static final boolean CACHED_PACKET = booleanProperty("minestom.cached-packet", true);
     public static final boolean VIEWABLE_PACKET = booleanProperty("minestom.viewable-packet", true);
+    public static final long CHUNK_FRAME_CACHE_SIZE = longProperty("minestom.chunk-frame-cache-size", 64 * 1024 * 1024); // Bytes of chunk frames and their content shared between instances
+    public static final long LIGHT_FRAME_CACHE_SIZE = longProperty("minestom.light-frame-cache-size", 16 * 1024 * 1024); // Same for light-only frames, so light updates cannot evict chunk frames
 
     // Tags
     public static final boolean TAG_HANDLER_CACHE_ENABLED = booleanProperty("minestom.tag-handler-cache", true);
@@ -44,6 +44,7 @@ import net.minestom.server.registry.DynamicRegistry;
 import net.minestom.server.scoreboard.TeamManager;
 import net.minestom.server.snapshot.*;
 import net.minestom.server.thread.Acquirable;
+import net.minestom.server.thread.InstanceThreadProvider;
 import net.minestom.server.thread.ThreadDispatcher;
 import net.minestom.server.thread.ThreadProvider;
 import net.minestom.server.timer.SchedulerManager;
@@ -53,6 +54,7 @@ import net.minestom.server.utils.time.Tick;
 import net.minestom.server.world.DimensionType;
 import net.minestom.server.world.biome.Biome;
 import net.minestom.server.world.timeline.Timeline;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -116,6 +118,8 @@ final class ServerProcessImpl implements ServerProcess {
     private final Server server;
 
     private final ThreadDispatcher<Chunk, Entity> dispatcher;
+    // Present when instances are ticked on the thread of their chunks
+    private final @Nullable InstanceThreadProvider instanceThreads;
     private final Ticker ticker;
 
     private final AtomicBoolean started = new AtomicBoolean();
@@ -158,7 +162,15 @@ final class ServerProcessImpl implements ServerProcess {
         this.connection = new ConnectionManager();
         this.packetListener = new PacketListenerManager();
         this.packetParser = PacketVanilla.CLIENT_PACKET_PARSER;
-        this.instance = new InstanceManager(this);
+        if (ServerFlag.DISPATCHER_INSTANCE_AFFINITY) {
+            this.instanceThreads = new InstanceThreadProvider(ServerFlag.DISPATCHER_THREADS);
+            this.dispatcher = ThreadDispatcher.dispatcher(instanceThreads, ServerFlag.DISPATCHER_THREADS);
+        } else {
+            this.instanceThreads = null;
+            this.dispatcher = ThreadDispatcher.dispatcher(ServerFlag.DISPATCHER_BALANCING ?
+                    ThreadProvider.balanced() : ThreadProvider.counter(), ServerFlag.DISPATCHER_THREADS);
+        }
+        this.instance = new InstanceManager(this, instanceThreads);
         this.block = new BlockManager();
         this.command = new CommandManager();
         this.recipe = new RecipeManager();
@@ -172,7 +184,6 @@ final class ServerProcessImpl implements ServerProcess {
 
         this.server = new Server(packetParser);
 
-        this.dispatcher = ThreadDispatcher.dispatcher(ThreadProvider.counter(), ServerFlag.DISPATCHER_THREADS);
         this.ticker = new TickerImpl();
     }
 
@@ -499,17 +510,23 @@ final class ServerProcessImpl implements ServerProcess {
         }
 
         private void serverTick(long nanoStart) {
-            long milliStart = TimeUnit.NANOSECONDS.toMillis(nanoStart);
-            // Tick all instances
-            for (Instance instance : instance().getInstances()) {
-                try {
-                    instance.tick(milliStart);
-                } catch (Exception e) {
-                    exception().handleException(e);
+            final InstanceThreadProvider instanceThreads = ServerProcessImpl.this.instanceThreads;
+            if (instanceThreads != null) {
+                // Tick all instances in parallel, each one on the thread of its chunks (and entities inside)
+                dispatcher().updateAndAwait(nanoStart, instance().getInstances(), instanceThreads::threadOf);
+            } else {
+                long milliStart = TimeUnit.NANOSECONDS.toMillis(nanoStart);
+                // Tick all instances
+                for (Instance instance : instance().getInstances()) {
+                    try {
+                        instance.tick(milliStart);
+                    } catch (Exception e) {
+                        exception().handleException(e);
+                    }
                 }
+                // Tick all chunks (and entities inside)
+                dispatcher().updateAndAwait(nanoStart);
             }
-            // Tick all chunks (and entities inside)
-            dispatcher().updateAndAwait(nanoStart);
 
             // Clear removed entities & update threads
             final long tickDuration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - nanoStart);
@@ -167,7 +167,10 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
 
     final ChunkRange.ChunkConsumer chunkAdder = (chunkX, chunkZ) -> {
         // Load new chunks
-        this.instance.loadOptionalChunk(chunkX, chunkZ).thenAccept(this::sendChunk);
+        // Prioritized by distance, completes with null if the chunk left the view before loading
+        this.instance.loadOptionalChunk(chunkX, chunkZ, this).thenAccept(chunk -> {
+            if (chunk != null) sendChunk(chunk);
+        });
     };
     final ChunkRange.ChunkConsumer chunkRemover = (chunkX, chunkZ) -> {
         // Unload old chunks
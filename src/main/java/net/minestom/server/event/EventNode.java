@@ -134,6 +134,36 @@ public sealed interface EventNode<T extends Event> permits EventNodeImpl {
         return create(name, filter, (e, h) -> predicate.test(h));
     }
 
+    /**
+     * Creates an event node forwarding every event of the given type to a router.
+     * <p>
+     * The router is called once per event and is responsible for calling the nodes the event belongs to,
+     * usually found with a map lookup on the event handler. Unlike children, which are each tested against the event,
+     * the dispatch cost does not grow with the amount of routed nodes.
+     * <p>
+     * Routed nodes must be registered with {@link #addRoute(EventNode)} instead of being attached as children,
+     * the router is only called for the event types they listen to.
+     * <p><pre>
+     * var router = EventNode.router("instances", EventFilter.INSTANCE, event -> {
+     *     var node = nodes.get(event.getInstance());
+     *     if (node != null) node.call(event);
+     * });
+     * nodes.values().forEach(router::addRoute);
+     * </pre>
+     *
+     * @param name   The name of the event node
+     * @param filter The event type filter to apply
+     * @param router The consumer routing the events
+     * @param <E>    The resulting event type of the node
+     * @return A node forwarding its events to the router
+     */
+    @Contract(value = "_, _, _ -> new", pure = true)
+    static <E extends Event> EventNode<E> router(String name,
+                                                 EventFilter<E, ?> filter,
+                                                 Consumer<E> router) {
+        return new EventNodeImpl<>(name, filter, null, router);
+    }
+
     /**
      * Creates an event node which accepts any event of the given type which has a handler who
      * has the given tag.
@@ -320,6 +350,28 @@ public sealed interface EventNode<T extends Event> permits EventNodeImpl {
     @Contract(value = "_ -> this")
     EventNode<T> removeChild(EventNode<? extends T> child);
 
+    /**
+     * Registers a node reached through the router of this node.
+     * <p>
+     * The router only receives the event types at least one of its routes listens to.
+     *
+     * @param route The node called by the router
+     * @return this, can be used for chaining
+     * @throws IllegalStateException if this node is not a router
+     * @see #router(String, EventFilter, Consumer)
+     */
+    @Contract(value = "_ -> this")
+    EventNode<T> addRoute(EventNode<? extends T> route);
+
+    /**
+     * Unregisters a node reached through the router of this node.
+     *
+     * @param route The node to remove
+     * @return this, can be used for chaining
+     */
+    @Contract(value = "_ -> this")
+    EventNode<T> removeRoute(EventNode<? extends T> route);
+
     @Contract(value = "_ -> this")
     EventNode<T> addListener(EventListener<? extends T> listener);
 
@@ -24,6 +24,8 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
     private final Map<Class, Handle<T>> handleMap = new ConcurrentHashMap<>();
     final Map<Class<? extends T>, ListenerEntry<T>> listenerMap = new ConcurrentHashMap<>();
     final Set<EventNodeImpl<T>> children = new CopyOnWriteArraySet<>();
+    // Nodes reached through the router, only used by router nodes
+    final Set<EventNodeImpl<T>> routes = new CopyOnWriteArraySet<>();
 
     // Used to store mapped nodes before any listener is added
     // Necessary to avoid creating multiple nodes for the same object
@@ -37,6 +39,7 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
     final String name;
     final EventFilter<T, ?> filter;
     final BiPredicate<T, Object> predicate;
+    final @Nullable Consumer<T> router;
     final Class<T> eventType;
     volatile int priority;
     volatile EventNodeImpl<? super T> parent;
@@ -44,9 +47,17 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
     EventNodeImpl(String name,
                   EventFilter<T, ?> filter,
                   @Nullable BiPredicate<T, Object> predicate) {
+        this(name, filter, predicate, null);
+    }
+
+    EventNodeImpl(String name,
+                  EventFilter<T, ?> filter,
+                  @Nullable BiPredicate<T, Object> predicate,
+                  @Nullable Consumer<T> router) {
         this.name = name;
         this.filter = filter;
         this.predicate = predicate;
+        this.router = router;
         this.eventType = filter.eventType();
     }
 
@@ -134,6 +145,30 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
         return this;
     }
 
+    @Override
+    public EventNode<T> addRoute(EventNode<? extends T> route) {
+        Check.stateCondition(router == null, "Node is not a router");
+        synchronized (GLOBAL_CHILD_LOCK) {
+            final var routeImpl = (EventNodeImpl<? extends T>) route;
+            Check.stateCondition(routeImpl.parent != null, "Node already has a parent");
+            if (!routes.add((EventNodeImpl<T>) routeImpl)) return this;
+            routeImpl.parent = this;
+            routeImpl.invalidateEventsFor(this);
+        }
+        return this;
+    }
+
+    @Override
+    public EventNode<T> removeRoute(EventNode<? extends T> route) {
+        synchronized (GLOBAL_CHILD_LOCK) {
+            final var routeImpl = (EventNodeImpl<? extends T>) route;
+            if (!routes.remove(routeImpl)) return this;
+            routeImpl.parent = null;
+            routeImpl.invalidateEventsFor(this);
+        }
+        return this;
+    }
+
     @Override
     public EventNode<T> addListener(EventListener<? extends T> listener) {
         synchronized (GLOBAL_CHILD_LOCK) {
@@ -284,6 +319,9 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
         for (EventNodeImpl<T> child : children) {
             child.invalidateEventsFor(node);
         }
+        for (EventNodeImpl<T> route : routes) {
+            route.invalidateEventsFor(node);
+        }
     }
 
     private void invalidateEvent(Class<? extends T> eventClass) {
@@ -389,6 +427,8 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
             final Consumer<E>[] listenersArray = listeners.toArray(Consumer[]::new);
             // Mapped
             final Consumer<E> mappedListener = mappedConsumer();
+            // Routed
+            final Consumer<E> routerListener = node.router != null && hasRoutedListener(node) ? (Consumer<E>) node.router : null;
             // Children
             final Consumer<E>[] childrenListeners = node.children.stream()
                     .filter(child -> child.eventType.isAssignableFrom(eventType)) // Invalid event type
@@ -402,8 +442,9 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
             final boolean hasPredicate = predicate != null;
             final boolean hasListeners = listenersArray.length > 0;
             final boolean hasMap = mappedListener != null;
+            final boolean hasRouter = routerListener != null;
             final boolean hasChildren = childrenListeners.length > 0;
-            if (!hasListeners && !hasMap && !hasChildren) {
+            if (!hasListeners && !hasMap && !hasRouter && !hasChildren) {
                 // No listener
                 return null;
             }
@@ -421,6 +462,8 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
                 }
                 // Mapped nodes
                 if (hasMap) mappedListener.accept(e);
+                // Routed nodes
+                if (hasRouter) routerListener.accept(e);
                 // Children
                 if (hasChildren) {
                     for (Consumer<E> childHandle : childrenListeners) {
@@ -430,6 +473,16 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
             };
         }
 
+        private boolean hasRoutedListener(EventNodeImpl<E> node) {
+            for (EventNodeImpl<E> route : node.routes) {
+                if (route.eventType.isAssignableFrom(eventType) &&
+                        ((Handle<E>) route.getHandle(eventType)).updatedListener() != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         /**
          * Create a consumer calling all listeners from {@link EventNode#addListener(EventListener)} and
          * {@link EventNode#register(EventBinding)}.
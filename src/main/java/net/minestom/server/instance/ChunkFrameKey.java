@@ -0,0 +1,129 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.heightmap.Heightmap;
+import net.minestom.server.network.packet.server.FramedPacketCache;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+import net.minestom.server.network.packet.server.play.UpdateLightPacket;
+import net.minestom.server.network.packet.server.play.data.ChunkData;
+import net.minestom.server.network.packet.server.play.data.LightData;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Content key of chunk and light packets in a {@link FramedPacketCache}.
+ * <p>
+ * The hash is built from the cached section hashes, equality compares the whole packet content
+ * so that a hash collision can never share the frame of a different chunk.
+ */
+final class ChunkFrameKey {
+    private final ServerPacket packet;
+    private final int hash;
+
+    private ChunkFrameKey(ServerPacket packet, int hash) {
+        this.packet = packet;
+        this.hash = hash;
+    }
+
+    static ChunkFrameKey chunk(ChunkDataPacket packet, int sectionsHash) {
+        final LightData light = packet.lightData();
+        int hash = 31 * packet.chunkX() + packet.chunkZ();
+        hash = 31 * hash + sectionsHash;
+        hash = 31 * hash + light.skyMask().hashCode();
+        hash = 31 * hash + light.blockMask().hashCode();
+        return new ChunkFrameKey(packet, hash);
+    }
+
+    static ChunkFrameKey light(UpdateLightPacket packet) {
+        int hash = 31 * packet.chunkX() + packet.chunkZ();
+        hash = 31 * hash + lightHash(packet.lightData());
+        return new ChunkFrameKey(packet, hash);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof ChunkFrameKey other) || other.hash != hash) return false;
+        if (packet instanceof ChunkDataPacket chunk && other.packet instanceof ChunkDataPacket otherChunk) {
+            return chunk.chunkX() == otherChunk.chunkX() && chunk.chunkZ() == otherChunk.chunkZ() &&
+                    chunkEquals(chunk.chunkData(), otherChunk.chunkData()) &&
+                    lightEquals(chunk.lightData(), otherChunk.lightData());
+        }
+        if (packet instanceof UpdateLightPacket light && other.packet instanceof UpdateLightPacket otherLight) {
+            return light.chunkX() == otherLight.chunkX() && light.chunkZ() == otherLight.chunkZ() &&
+                    lightEquals(light.lightData(), otherLight.lightData());
+        }
+        return false;
+    }
+
+    private static boolean chunkEquals(ChunkData first, ChunkData second) {
+        final Map<Heightmap.Type, long[]> heightmaps = first.heightmaps();
+        final Map<Heightmap.Type, long[]> otherHeightmaps = second.heightmaps();
+        if (!heightmaps.keySet().equals(otherHeightmaps.keySet())) return false;
+        for (Map.Entry<Heightmap.Type, long[]> entry : heightmaps.entrySet()) {
+            if (!Arrays.equals(entry.getValue(), otherHeightmaps.get(entry.getKey()))) return false;
+        }
+        return Arrays.equals(first.data(), second.data()) &&
+                first.blockEntities().equals(second.blockEntities());
+    }
+
+    private static boolean lightEquals(LightData first, LightData second) {
+        return first.skyMask().equals(second.skyMask()) &&
+                first.blockMask().equals(second.blockMask()) &&
+                first.emptySkyMask().equals(second.emptySkyMask()) &&
+                first.emptyBlockMask().equals(second.emptyBlockMask()) &&
+                arraysEquals(first.skyLight(), second.skyLight()) &&
+                arraysEquals(first.blockLight(), second.blockLight());
+    }
+
+    private static boolean arraysEquals(List<byte[]> first, List<byte[]> second) {
+        if (first.size() != second.size()) return false;
+        for (int i = 0; i < first.size(); i++) {
+            if (!Arrays.equals(first.get(i), second.get(i))) return false;
+        }
+        return true;
+    }
+
+    private static int lightHash(LightData light) {
+        int hash = light.skyMask().hashCode();
+        hash = 31 * hash + light.blockMask().hashCode();
+        for (byte[] array : light.skyLight()) hash = 31 * hash + Arrays.hashCode(array);
+        for (byte[] array : light.blockLight()) hash = 31 * hash + Arrays.hashCode(array);
+        return hash;
+    }
+
+    private static long retainedSize(ChunkData chunk) {
+        long size = chunk.data().length;
+        for (long[] heightmap : chunk.heightmaps().values()) size += (long) heightmap.length * Long.BYTES;
+        return size;
+    }
+
+    private static long retainedSize(LightData light) {
+        long size = 0;
+        for (byte[] array : light.skyLight()) size += array.length;
+        for (byte[] array : light.blockLight()) size += array.length;
+        return size;
+    }
+
+    /**
+     * Pairs a chunk packet with its key, along with the size of the content the key keeps alive.
+     */
+    static FramedPacketCache.Content content(ChunkDataPacket packet, int sectionsHash) {
+        return new FramedPacketCache.Content(packet, chunk(packet, sectionsHash),
+                retainedSize(packet.chunkData()) + retainedSize(packet.lightData()));
+    }
+
+    /**
+     * Pairs a light packet with its key, along with the size of the content the key keeps alive.
+     */
+    static FramedPacketCache.Content content(UpdateLightPacket packet) {
+        return new FramedPacketCache.Content(packet, light(packet), retainedSize(packet.lightData()));
+    }
+}
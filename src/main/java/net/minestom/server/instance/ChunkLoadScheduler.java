@@ -0,0 +1,318 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs chunk loading and generation with a bounded amount of virtual threads.
+ * <p>
+ * Pending tasks are started by distance to the nearest interested player, tasks requested
+ * without a player (e.g. {@link Instance#loadChunk(int, int)}) always come first.
+ * A task only requested by players is cancelled before starting once none of them can see the chunk anymore.
+ * <p>
+ * Tasks are kept in a priority queue by the distance computed when they were queued. The distance of the next task
+ * is checked again before starting it, and the whole queue is re-prioritized periodically as players move.
+ * <p>
+ * Tasks must not block on the completion of other tasks, as they could wait for a worker which will never be freed.
+ */
+@ApiStatus.Experimental
+public final class ChunkLoadScheduler {
+    private static final ChunkLoadScheduler SHARED = new ChunkLoadScheduler(ServerFlag.CHUNK_LOAD_PARALLELISM);
+    private static final long REPRIORITIZE_INTERVAL = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final Comparator<Entry> ORDER = Comparator.comparingInt(Entry::priority)
+            .thenComparingLong(entry -> entry.task().sequence);
+
+    private final int parallelism;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // May contain outdated entries, skipped when polled, see Entry
+    private PriorityQueue<Entry> pending = new PriorityQueue<>(ORDER);
+    private int pendingCount;
+    private int running;
+    private long sequence;
+    private long lastReprioritize = System.nanoTime();
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+
+    public ChunkLoadScheduler(int parallelism) {
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Gets the scheduler shared by every {@link InstanceContainer}.
+     *
+     * @return the shared scheduler
+     */
+    public static ChunkLoadScheduler shared() {
+        return SHARED;
+    }
+
+    /**
+     * Queues a task for the chunk.
+     *
+     * @param instance the instance the chunk belongs to
+     * @param chunkX   the chunk X
+     * @param chunkZ   the chunk Z
+     * @param interest the player requesting the chunk, null if the task must not be cancelled
+     * @param work     the work to run
+     * @param onCancel called if the task is cancelled before starting
+     * @return the queued task
+     */
+    public Task submit(Instance instance, int chunkX, int chunkZ, @Nullable Player interest,
+                       Runnable work, Runnable onCancel) {
+        final Task task = new Task(instance, chunkX, chunkZ, work, onCancel);
+        lock.lock();
+        try {
+            task.sequence = sequence++;
+            task.addInterest(interest);
+            task.priority = task.distance();
+            pending.add(task.entry());
+            pendingCount++;
+            submitted.increment();
+            if (running < parallelism) {
+                running++;
+                Thread.startVirtualThread(this::drain);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return task;
+    }
+
+    /**
+     * Adds an interest to an already queued task, deduplicating requests for the same chunk.
+     *
+     * @param task     the task to join
+     * @param interest the player requesting the chunk, null if the task must not be cancelled anymore
+     * @return false if the task has been cancelled and must be submitted again
+     */
+    public boolean join(Task task, @Nullable Player interest) {
+        lock.lock();
+        try {
+            if (task.state == Task.CANCELLED) return false;
+            if (task.state == Task.PENDING) {
+                task.addInterest(interest);
+                final int distance = task.distance();
+                if (distance < task.priority) {
+                    // Move the task forward, the previous entry is now outdated
+                    task.priority = distance;
+                    pending.add(task.entry());
+                }
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            final Task task;
+            final List<Task> stale = new ArrayList<>();
+            lock.lock();
+            try {
+                task = pollNext(stale);
+                if (task == null) running--;
+            } finally {
+                lock.unlock();
+            }
+            for (Task cancelledTask : stale) {
+                runSafely(cancelledTask.onCancel);
+            }
+            if (task == null) return;
+            runSafely(task.work);
+            completed.increment();
+        }
+    }
+
+    // Called with the lock held, removes stale tasks and returns the closest one
+    private @Nullable Task pollNext(List<Task> stale) {
+        final long now = System.nanoTime();
+        if (now - lastReprioritize >= REPRIORITIZE_INTERVAL) {
+            lastReprioritize = now;
+            reprioritize(stale);
+        }
+        Entry entry;
+        while ((entry = pending.poll()) != null) {
+            final Task task = entry.task();
+            if (!entry.isCurrent()) continue;
+            final int distance = task.distance();
+            if (distance == Integer.MAX_VALUE) {
+                cancel(task, stale);
+                continue;
+            }
+            if (distance > task.priority) {
+                // Players moved away since the task was queued, queue it again with its actual distance
+                task.priority = distance;
+                pending.add(task.entry());
+                continue;
+            }
+            pendingCount--;
+            task.state = Task.RUNNING;
+            return task;
+        }
+        return null;
+    }
+
+    // Called with the lock held, recomputes every distance and drops outdated entries
+    private void reprioritize(List<Task> stale) {
+        final PriorityQueue<Entry> queue = new PriorityQueue<>(Math.max(1, pendingCount), ORDER);
+        for (Entry entry : pending) {
+            if (!entry.isCurrent()) continue;
+            final Task task = entry.task();
+            final int distance = task.distance();
+            if (distance == Integer.MAX_VALUE) {
+                cancel(task, stale);
+                continue;
+            }
+            task.priority = distance;
+            queue.add(task.entry());
+        }
+        this.pending = queue;
+    }
+
+    private void cancel(Task task, List<Task> stale) {
+        // Only requested by players which cannot see the chunk anymore
+        task.state = Task.CANCELLED;
+        pendingCount--;
+        stale.add(task);
+        cancelled.increment();
+    }
+
+    private static void runSafely(Runnable runnable) {
+        try {
+            runnable.run();
+        } catch (Throwable e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        }
+    }
+
+    public int parallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @return the amount of tasks waiting for a worker
+     */
+    public int queueDepth() {
+        lock.lock();
+        try {
+            return pendingCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the amount of workers currently running tasks
+     */
+    public int runningWorkers() {
+        lock.lock();
+        try {
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long submittedCount() {
+        return submitted.sum();
+    }
+
+    public long completedCount() {
+        return completed.sum();
+    }
+
+    public long cancelledCount() {
+        return cancelled.sum();
+    }
+
+    /**
+     * Position of a task in the queue, outdated once the task left the queue or was queued again.
+     */
+    private record Entry(Task task, int priority, int version) {
+        boolean isCurrent() {
+            return task.state == Task.PENDING && task.version == version;
+        }
+    }
+
+    /**
+     * A chunk task queued in a {@link ChunkLoadScheduler}.
+     */
+    public static final class Task {
+        private static final int PENDING = 0, RUNNING = 1, CANCELLED = 2;
+
+        private final Instance instance;
+        private final int chunkX, chunkZ;
+        private final Runnable work;
+        private final Runnable onCancel;
+
+        // Guarded by the scheduler lock
+        private final List<Player> interests = new ArrayList<>(1);
+        private boolean required;
+        private int state = PENDING;
+        private long sequence;
+        private int priority;
+        private int version;
+
+        private Task(Instance instance, int chunkX, int chunkZ, Runnable work, Runnable onCancel) {
+            this.instance = instance;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.work = work;
+            this.onCancel = onCancel;
+        }
+
+        private Entry entry() {
+            return new Entry(this, priority, ++version);
+        }
+
+        private void addInterest(@Nullable Player player) {
+            if (player == null) {
+                this.required = true;
+                this.interests.clear();
+            } else if (!required && !interests.contains(player)) {
+                this.interests.add(player);
+            }
+        }
+
+        /**
+         * Gets the distance to the nearest player still interested in the chunk.
+         *
+         * @return -1 if the task is required, {@link Integer#MAX_VALUE} if the task is stale
+         */
+        private int distance() {
+            if (required) return -1;
+            int distance = Integer.MAX_VALUE;
+            for (Player player : interests) {
+                if (player.isRemoved() || !seesInstance(player)) continue;
+                final Pos position = player.getPosition();
+                final int playerDistance = Math.max(Math.abs(position.chunkX() - chunkX), Math.abs(position.chunkZ() - chunkZ));
+                if (playerDistance > player.effectiveViewDistance()) continue;
+                distance = Math.min(distance, playerDistance);
+            }
+            return distance;
+        }
+
+        private boolean seesInstance(Player player) {
+            final Instance playerInstance = player.getInstance();
+            return playerInstance == instance ||
+                    (playerInstance instanceof SharedInstance shared && shared.getInstanceContainer() == instance);
+        }
+    }
+}
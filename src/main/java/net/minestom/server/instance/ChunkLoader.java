@@ -6,6 +6,7 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Phaser;
 
 /**
@@ -81,6 +82,32 @@ public interface ChunkLoader {
         }
     }
 
+    /**
+     * Saves multiple chunks without waiting for them to be stored.
+     * <p>
+     * Defaults to {@link #saveChunks(Collection)}, in a virtual thread if {@link #supportsParallelSaving()}.
+     *
+     * @param chunks the chunks to save
+     * @return a future completed once every chunk is saved
+     */
+    default CompletableFuture<Void> saveChunksAsync(Collection<Chunk> chunks) {
+        if (!supportsParallelSaving()) {
+            saveChunks(chunks);
+            return CompletableFuture.completedFuture(null);
+        }
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        Thread.startVirtualThread(() -> {
+            try {
+                saveChunks(chunks);
+                future.complete(null);
+            } catch (Throwable e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
     /**
      * Supports for instance/chunk saving in virtual threads.
      *
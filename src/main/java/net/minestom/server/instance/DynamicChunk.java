@@ -4,6 +4,7 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.kyori.adventure.nbt.LongArrayBinaryTag;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.entity.Entity;
@@ -12,9 +13,8 @@ import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.instance.heightmap.Heightmap;
 import net.minestom.server.instance.heightmap.MotionBlockingHeightmap;
 import net.minestom.server.instance.heightmap.WorldSurfaceHeightmap;
-import net.minestom.server.instance.palette.Palette;
-import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.FramedPacketCache;
 import net.minestom.server.network.packet.server.SendablePacket;
 import net.minestom.server.network.packet.server.play.ChunkDataPacket;
 import net.minestom.server.network.packet.server.play.UpdateLightPacket;
@@ -37,7 +37,6 @@ import org.slf4j.LoggerFactory;
 import java.util.*;
 
 import static net.minestom.server.coordinate.CoordConversion.globalToSectionRelative;
-import static net.minestom.server.network.NetworkBuffer.SHORT;
 
 /**
  * Represents a {@link Chunk} which store each individual block in memory.
@@ -58,7 +57,12 @@ public class DynamicChunk extends Chunk {
     protected final Int2ObjectOpenHashMap<Block> entries = new Int2ObjectOpenHashMap<>(0);
     protected final Int2ObjectOpenHashMap<Block> tickableMap = new Int2ObjectOpenHashMap<>(0);
 
-    final CachedPacket chunkCache = new CachedPacket(this::createChunkPacket);
+    // Identical chunks loaded in different instances share the same compressed frames
+    static final FramedPacketCache FRAME_CACHE = new FramedPacketCache(ServerFlag.CHUNK_FRAME_CACHE_SIZE);
+    // Light-only frames change far more often, they get their own budget to not evict chunk frames
+    static final FramedPacketCache LIGHT_FRAME_CACHE = new FramedPacketCache(ServerFlag.LIGHT_FRAME_CACHE_SIZE);
+
+    final CachedPacket chunkCache = new CachedPacket(FRAME_CACHE, this::createChunkContent);
     private static final DynamicRegistry<Biome> BIOME_REGISTRY = MinecraftServer.getBiomeRegistry();
 
     public DynamicChunk(Instance instance, int chunkX, int chunkZ) {
@@ -89,6 +93,7 @@ public class DynamicChunk extends Chunk {
         this.chunkCache.invalidate();
 
         Section section = getSectionAt(y);
+        section.invalidateCache();
 
         int sectionRelativeX = globalToSectionRelative(x);
         int sectionRelativeZ = globalToSectionRelative(z);
@@ -141,6 +146,7 @@ public class DynamicChunk extends Chunk {
         assertLock();
         this.chunkCache.invalidate();
         Section section = getSectionAt(y);
+        section.invalidateCache();
 
         var id = BIOME_REGISTRY.getId(biome);
         if (id == -1) throw new IllegalStateException("Biome has not been registered: " + biome.key());
@@ -250,35 +256,70 @@ public class DynamicChunk extends Chunk {
     @Override
     public void invalidate() {
         this.needsCompleteHeightmapRefresh = true;
+        for (Section section : sections) section.invalidateCache();
         this.chunkCache.invalidate();
     }
 
-    private ChunkDataPacket createChunkPacket() {
+    /**
+     * Gets the cache of chunk frames shared by every {@link DynamicChunk}.
+     *
+     * @return the shared frame cache, exposing hit and eviction metrics
+     */
+    @ApiStatus.Experimental
+    public static FramedPacketCache frameCache() {
+        return FRAME_CACHE;
+    }
+
+    /**
+     * Gets the cache of light-only frames shared by every {@link LightingChunk}.
+     *
+     * @return the shared light frame cache, exposing hit and eviction metrics
+     */
+    @ApiStatus.Experimental
+    public static FramedPacketCache lightFrameCache() {
+        return LIGHT_FRAME_CACHE;
+    }
+
+    private FramedPacketCache.Content createChunkContent() {
         final byte[] data;
         final Map<Heightmap.Type, long[]> heightmaps;
+        int sectionsHash = 1;
         synchronized (this) {
             heightmaps = getHeightmaps();
 
-            NetworkBuffer.Type<Palette> biomeSerializer = Palette.biomeSerializer(MinecraftServer.getBiomeRegistry().size());
-            data = NetworkBuffer.makeArray(networkBuffer -> {
-                for (Section section : sections) {
-                    networkBuffer.write(SHORT, (short) section.blockPalette().count());
-                    networkBuffer.write(Palette.BLOCK_SERIALIZER, section.blockPalette());
-                    networkBuffer.write(biomeSerializer, section.biomePalette());
-                }
-            });
+            // Only sections written since the last packet are encoded again
+            final int biomeCount = BIOME_REGISTRY.size();
+            final byte[][] sectionData = new byte[sections.size()][];
+            int length = 0;
+            for (int i = 0; i < sectionData.length; i++) {
+                final Section section = sections.get(i);
+                sectionData[i] = section.networkData(biomeCount);
+                sectionsHash = 31 * sectionsHash + section.networkHash(biomeCount);
+                length += sectionData[i].length;
+            }
+            data = new byte[length];
+            int offset = 0;
+            for (byte[] section : sectionData) {
+                System.arraycopy(section, 0, data, offset, section.length);
+                offset += section.length;
+            }
         }
 
-        return new ChunkDataPacket(chunkX, chunkZ,
+        final ChunkDataPacket packet = new ChunkDataPacket(chunkX, chunkZ,
                 new ChunkData(heightmaps, data, entries),
                 createLightData(true)
         );
+        return ChunkFrameKey.content(packet, sectionsHash);
     }
 
     UpdateLightPacket createLightPacket() {
         return new UpdateLightPacket(chunkX, chunkZ, createLightData(false));
     }
 
+    FramedPacketCache.Content createLightContent() {
+        return ChunkFrameKey.content(createLightPacket());
+    }
+
     protected LightData createLightData(boolean requiredFullChunk) {
         BitSet skyMask = new BitSet();
         BitSet blockMask = new BitSet();
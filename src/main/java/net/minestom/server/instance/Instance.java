@@ -64,6 +64,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -120,6 +121,9 @@ public abstract class Instance implements Block.Getter, Block.Setter, Biome.Gett
 
     private final ChunkCache blockRetriever = new ChunkCache(this, null, null);
 
+    // Serializes light propagation, see LightingChunk#relight
+    final ReentrantLock lightLock = new ReentrantLock();
+
     protected int chunkViewDistance = ServerFlag.CHUNK_VIEW_DISTANCE;
 
     // the uuid of this instance
@@ -268,6 +272,22 @@ public abstract class Instance implements Block.Getter, Block.Setter, Biome.Gett
      */
     public abstract CompletableFuture<@Nullable Chunk> loadOptionalChunk(int chunkX, int chunkZ);
 
+    /**
+     * Loads the chunk if the chunk is already loaded or if
+     * {@link #hasEnabledAutoChunkLoad()} returns true, on behalf of a player.
+     * <p>
+     * The load is prioritized by distance to the player, and may be cancelled
+     * (completing with null) if the player cannot see the chunk anymore before it started.
+     *
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @param viewer the player requesting the chunk
+     * @return a {@link CompletableFuture} completed once the chunk has been processed, can be null if not loaded
+     */
+    public CompletableFuture<@Nullable Chunk> loadOptionalChunk(int chunkX, int chunkZ, Player viewer) {
+        return loadOptionalChunk(chunkX, chunkZ);
+    }
+
     /**
      * Loads a {@link Chunk} (if {@link #hasEnabledAutoChunkLoad()} returns true)
      * at the given {@link Point} with a callback.
@@ -49,8 +49,6 @@ import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -76,10 +74,10 @@ public class InstanceContainer extends Instance {
     // (chunk index -> chunk) map, contains all the chunks in the instance
     // used as a monitor when access is required
     private final Long2ObjectSyncMap<Chunk> chunks = Long2ObjectSyncMap.hashmap();
-    private final Map<Long, CompletableFuture<Chunk>> loadingChunks = new ConcurrentHashMap<>();
+    private final Map<Long, LoadingChunk> loadingChunks = new ConcurrentHashMap<>();
 
-    private final Lock changingBlockLock = new ReentrantLock();
-    private final Map<BlockVec, Block> currentlyChangingBlocks = new HashMap<>();
+    // Recursion guard of UNSAFE_setBlock, cleared every tick
+    private final Map<BlockVec, Block> currentlyChangingBlocks = new ConcurrentHashMap<>();
 
     // the chunk loader, used when trying to load/save a chunk from another source
     private ChunkLoader chunkLoader;
@@ -92,7 +90,7 @@ public class InstanceContainer extends Instance {
 
     // Fields for instance copy
     protected InstanceContainer srcInstance; // only present if this instance has been created using a copy
-    private long lastBlockChangeTime; // Time at which the last block change happened (#setBlock)
+    private volatile long lastBlockChangeTime; // Time at which the last block change happened (#setBlock)
 
     public InstanceContainer(UUID uuid, RegistryKey<DimensionType> dimensionType) {
         this(uuid, dimensionType, null, dimensionType.key());
@@ -139,7 +137,11 @@ public class InstanceContainer extends Instance {
     /**
      * Sets a block at the specified position.
      * <p>
-     * Unsafe because the method is not synchronized and it does not verify if the chunk is loaded or not.
+     * Unsafe because it does not verify if the chunk is loaded or not.
+     * <p>
+     * Writes only lock their chunk, so that writes to different chunks run in parallel.
+     * Writes which may call a {@link BlockHandler} also hold the instance lock, as handlers are free to access other chunks
+     * while their own chunk is locked. Writes outside of that lock never wait on another chunk while holding one.
      *
      * @param chunk the {@link Chunk} which should be loaded
      * @param x     the block X
@@ -147,9 +149,9 @@ public class InstanceContainer extends Instance {
      * @param z     the block Z
      * @param block the block to place
      */
-    private synchronized void UNSAFE_setBlock(Chunk chunk, int x, int y, int z, Block block,
-                                              @Nullable BlockHandler.Placement placement, @Nullable BlockHandler.Destroy destroy,
-                                              boolean doBlockUpdates, int updateDistance) {
+    private void UNSAFE_setBlock(Chunk chunk, int x, int y, int z, Block block,
+                                 @Nullable BlockHandler.Placement placement, @Nullable BlockHandler.Destroy destroy,
+                                 boolean doBlockUpdates, int updateDistance) {
         if (chunk.isReadOnly()) return;
         final DimensionType dim = getCachedDimensionType();
         if (y >= dim.maxY() || y < dim.minY()) {
@@ -157,60 +159,79 @@ public class InstanceContainer extends Instance {
             return;
         }
 
-        synchronized (chunk) {
-            // Refresh the last block change time
-            this.lastBlockChangeTime = System.nanoTime();
-            final BlockVec blockPosition = new BlockVec(x, y, z);
-            if (isAlreadyChanged(blockPosition, block)) { // do NOT change the block again.
-                // Avoids StackOverflowExceptions when onDestroy tries to destroy the block itself
-                // This can happen with nether portals which break the entire frame when a portal block is broken
-                return;
+        // Refresh the last block change time
+        this.lastBlockChangeTime = System.nanoTime();
+        final BlockVec blockPosition = new BlockVec(x, y, z);
+        if (isAlreadyChanged(blockPosition, block)) { // do NOT change the block again.
+            // Avoids StackOverflowExceptions when onDestroy tries to destroy the block itself
+            // This can happen with nether portals which break the entire frame when a portal block is broken
+            return;
+        }
+
+        // Change id based on neighbors, before locking as the rule may read other chunks
+        final BlockPlacementRule blockPlacementRule = MinecraftServer.getBlockManager().getBlockPlacementRule(block);
+        if (placement != null && blockPlacementRule != null && doBlockUpdates) {
+            BlockPlacementRule.PlacementState rulePlacement;
+            if (placement instanceof BlockHandler.PlayerPlacement pp) {
+                rulePlacement = new BlockPlacementRule.PlacementState(
+                        this, block, pp.getBlockFace(), blockPosition,
+                        new Vec(pp.getCursorX(), pp.getCursorY(), pp.getCursorZ()),
+                        pp.getPlayer().getPosition(),
+                        pp.getPlayer().getItemInHand(pp.getHand()),
+                        pp.getPlayer().isSneaking()
+                );
+            } else {
+                rulePlacement = new BlockPlacementRule.PlacementState(
+                        this, block, null, blockPosition,
+                        null, null, null,
+                        false
+                );
             }
-            this.currentlyChangingBlocks.put(blockPosition, block);
-
-            // Change id based on neighbors
-            final BlockPlacementRule blockPlacementRule = MinecraftServer.getBlockManager().getBlockPlacementRule(block);
-            if (placement != null && blockPlacementRule != null && doBlockUpdates) {
-                BlockPlacementRule.PlacementState rulePlacement;
-                if (placement instanceof BlockHandler.PlayerPlacement pp) {
-                    rulePlacement = new BlockPlacementRule.PlacementState(
-                            this, block, pp.getBlockFace(), blockPosition,
-                            new Vec(pp.getCursorX(), pp.getCursorY(), pp.getCursorZ()),
-                            pp.getPlayer().getPosition(),
-                            pp.getPlayer().getItemInHand(pp.getHand()),
-                            pp.getPlayer().isSneaking()
-                    );
-                } else {
-                    rulePlacement = new BlockPlacementRule.PlacementState(
-                            this, block, null, blockPosition,
-                            null, null, null,
-                            false
-                    );
-                }
 
-                block = blockPlacementRule.blockPlace(rulePlacement);
-                if (block == null) block = Block.AIR;
+            block = blockPlacementRule.blockPlace(rulePlacement);
+            if (block == null) block = Block.AIR;
+        }
+
+        if (Thread.holdsLock(this) || !writeChunkBlock(chunk, x, y, z, block, blockPosition, placement, destroy, false)) {
+            synchronized (this) {
+                writeChunkBlock(chunk, x, y, z, block, blockPosition, placement, destroy, true);
             }
+        }
 
-            // Set the block
-            chunk.setBlock(x, y, z, block, placement, destroy);
+        // Refresh neighbors since a new block has been placed
+        if (doBlockUpdates) {
+            executeNeighboursBlockPlacementRule(blockPosition, updateDistance);
+        }
+        EventDispatcher.call(new InstanceBlockUpdateEvent(this, blockPosition, block));
+    }
 
-            // Refresh neighbors since a new block has been placed
-            if (doBlockUpdates) {
-                executeNeighboursBlockPlacementRule(blockPosition, updateDistance);
+    /**
+     * Writes the block to its chunk and notifies the viewers.
+     *
+     * @param exclusive true if the instance lock is held
+     * @return false if the write may call a block handler and must be retried with the instance lock
+     */
+    private boolean writeChunkBlock(Chunk chunk, int x, int y, int z, Block block, BlockVec blockPosition,
+                                    @Nullable BlockHandler.Placement placement, @Nullable BlockHandler.Destroy destroy,
+                                    boolean exclusive) {
+        synchronized (chunk) {
+            if (!exclusive) {
+                final Block previous = chunk.getBlock(x, y, z, Condition.CACHED);
+                if (block.handler() != null || (previous != null && previous.handler() != null)) return false;
             }
 
+            // Set the block
+            chunk.setBlock(x, y, z, block, placement, destroy);
+
             // Refresh player chunk block
-            {
-                chunk.sendPacketToViewers(new BlockChangePacket(blockPosition, block.stateId()));
-                BlockEntityType blockEntityType = block.registry().blockEntityType();
-                if (blockEntityType != null) {
-                    final CompoundBinaryTag data = BlockUtils.extractClientNbt(block);
-                    chunk.sendPacketToViewers(new BlockEntityDataPacket(blockPosition, blockEntityType, data));
-                }
+            chunk.sendPacketToViewers(new BlockChangePacket(blockPosition, block.stateId()));
+            BlockEntityType blockEntityType = block.registry().blockEntityType();
+            if (blockEntityType != null) {
+                final CompoundBinaryTag data = BlockUtils.extractClientNbt(block);
+                chunk.sendPacketToViewers(new BlockEntityDataPacket(blockPosition, blockEntityType, data));
             }
-            EventDispatcher.call(new InstanceBlockUpdateEvent(this, blockPosition, block));
         }
+        return true;
     }
 
     @Override
@@ -266,6 +287,11 @@ public class InstanceContainer extends Instance {
         return loadOrRetrieve(chunkX, chunkZ, () -> hasEnabledAutoChunkLoad() ? retrieveChunk(chunkX, chunkZ) : AsyncUtils.empty());
     }
 
+    @Override
+    public CompletableFuture<Chunk> loadOptionalChunk(int chunkX, int chunkZ, Player viewer) {
+        return loadOrRetrieve(chunkX, chunkZ, () -> hasEnabledAutoChunkLoad() ? retrieveChunk(chunkX, chunkZ, viewer) : AsyncUtils.empty());
+    }
+
     @Override
     public synchronized void unloadChunk(Chunk chunk) {
         if (!isLoaded(chunk)) return;
@@ -297,13 +323,13 @@ public class InstanceContainer extends Instance {
     @Override
     public CompletableFuture<Void> saveChunkToStorage(Chunk chunk) {
         final ChunkLoader chunkLoader = this.chunkLoader;
-        return optionalAsync(chunkLoader.supportsParallelSaving(), () -> chunkLoader.saveChunk(chunk));
+        return chunkLoader.saveChunksAsync(List.of(chunk));
     }
 
     @Override
     public CompletableFuture<Void> saveChunksToStorage() {
         final ChunkLoader chunkLoader = this.chunkLoader;
-        return optionalAsync(chunkLoader.supportsParallelSaving(), () -> chunkLoader.saveChunks(getChunks()));
+        return chunkLoader.saveChunksAsync(getChunks());
     }
 
     private CompletableFuture<Void> optionalAsync(boolean async, Runnable runnable) {
@@ -324,10 +350,38 @@ public class InstanceContainer extends Instance {
     }
 
     protected CompletableFuture<Chunk> retrieveChunk(int chunkX, int chunkZ) {
-        CompletableFuture<Chunk> completableFuture = new CompletableFuture<>();
+        return retrieveChunk(chunkX, chunkZ, null);
+    }
+
+    /**
+     * Loads or generates the chunk through the {@link ChunkLoadScheduler}.
+     *
+     * @param viewer the player requesting the chunk, null if the load must not be cancelled
+     */
+    protected CompletableFuture<Chunk> retrieveChunk(int chunkX, int chunkZ, @Nullable Player viewer) {
         final long index = CoordConversion.chunkIndex(chunkX, chunkZ);
-        final CompletableFuture<Chunk> prev = loadingChunks.putIfAbsent(index, completableFuture);
-        if (prev != null) return prev;
+        final ChunkLoadScheduler scheduler = ChunkLoadScheduler.shared();
+        while (true) {
+            final LoadingChunk loading = new LoadingChunk(new CompletableFuture<>());
+            final LoadingChunk prev = loadingChunks.putIfAbsent(index, loading);
+            if (prev == null) {
+                synchronized (loading) {
+                    // Requests for the same chunk wait until the task exists to join it
+                    submitChunk(scheduler, loading, index, chunkX, chunkZ, viewer);
+                }
+                return loading.future;
+            }
+            // Already loading, only retry if the previous request got cancelled
+            synchronized (prev) {
+                if (prev.task == null || scheduler.join(prev.task, viewer)) return prev.future;
+            }
+            loadingChunks.remove(index, prev);
+        }
+    }
+
+    private void submitChunk(ChunkLoadScheduler scheduler, LoadingChunk loading, long index,
+                             int chunkX, int chunkZ, @Nullable Player viewer) {
+        final CompletableFuture<Chunk> completableFuture = loading.future;
         final ChunkLoader loader = chunkLoader;
         final Consumer<Chunk> generate = chunk -> {
             if (chunk == null) {
@@ -344,8 +398,8 @@ public class InstanceContainer extends Instance {
             chunk.onLoad();
 
             EventDispatcher.call(new InstanceChunkLoadEvent(this, chunk));
-            final CompletableFuture<Chunk> future = this.loadingChunks.remove(index);
-            assert future == completableFuture : "Invalid future: " + future;
+            final LoadingChunk current = this.loadingChunks.remove(index);
+            assert current == loading : "Invalid future: " + current;
             completableFuture.complete(chunk);
         };
         Supplier<Chunk> loaderSupplier = () -> {
@@ -356,26 +410,33 @@ public class InstanceContainer extends Instance {
             if (chunk != null) chunkLoading.commit();
             return chunk;
         };
+        final Runnable cancel = () -> {
+            this.loadingChunks.remove(index, loading);
+            completableFuture.complete(null);
+        };
         if (loader.supportsParallelLoading()) {
-            Thread.startVirtualThread(() -> {
-                try {
-                    final Chunk chunk = loaderSupplier.get();
-                    generate.accept(chunk);
-                } catch (Throwable e) {
-                    MinecraftServer.getExceptionManager().handleException(e);
-                }
-            });
+            loading.task = scheduler.submit(this, chunkX, chunkZ, viewer, () -> {
+                final Chunk chunk = loaderSupplier.get();
+                generate.accept(chunk);
+            }, cancel);
         } else {
             final Chunk chunk = loaderSupplier.get();
-            Thread.startVirtualThread(() -> {
-                try {
-                    generate.accept(chunk);
-                } catch (Throwable e) {
-                    MinecraftServer.getExceptionManager().handleException(e);
-                }
-            });
+            // A chunk already read from the loader is never dropped
+            loading.task = scheduler.submit(this, chunkX, chunkZ, chunk != null ? null : viewer,
+                    () -> generate.accept(chunk), cancel);
+        }
+    }
+
+    /**
+     * A chunk being loaded, locked until its task has been submitted to the scheduler.
+     */
+    private static final class LoadingChunk {
+        private final CompletableFuture<Chunk> future;
+        private @Nullable ChunkLoadScheduler.Task task; // Guarded by this
+
+        private LoadingChunk(CompletableFuture<Chunk> future) {
+            this.future = future;
         }
-        return completableFuture;
     }
 
     Map<Long, List<GeneratorImpl.SectionModifierImpl>> generationForks = new ConcurrentHashMap<>();
@@ -465,6 +526,7 @@ public class InstanceContainer extends Instance {
             Palette currentBlocks = section.blockPalette();
             // -1 is necessary because forked units handle explicit changes by changing AIR 0 to 1
             sectionModifier.genSection().blocks().getAllPresent((x, y, z, value) -> currentBlocks.set(x, y, z, value - 1));
+            section.invalidateCache();
             applyGenerationData(chunk, sectionModifier);
         }
     }
@@ -672,14 +734,11 @@ public class InstanceContainer extends Instance {
         // Time/world border
         super.tick(time);
         // Clear block change map
-        Lock wrlock = this.changingBlockLock;
-        wrlock.lock();
         this.currentlyChangingBlocks.clear();
-        wrlock.unlock();
     }
 
     /**
-     * Has this block already changed since last update?
+     * Has this block already changed since last update? Marks it as changing otherwise.
      * Prevents StackOverflow with blocks trying to modify their position in onDestroy or onPlace.
      *
      * @param blockPosition the block position
@@ -687,7 +746,8 @@ public class InstanceContainer extends Instance {
      * @return true if the block changed since the last update
      */
     private boolean isAlreadyChanged(BlockVec blockPosition, Block block) {
-        final Block changedBlock = currentlyChangingBlocks.get(blockPosition);
+        // Single atomic swap, concurrent writers of the same block cannot both pass
+        final Block changedBlock = currentlyChangingBlocks.put(blockPosition, block);
         return Objects.equals(changedBlock, block);
     }
 
@@ -7,6 +7,7 @@ import net.minestom.server.event.instance.InstanceRegisterEvent;
 import net.minestom.server.event.instance.InstanceUnregisterEvent;
 import net.minestom.server.registry.Registries;
 import net.minestom.server.registry.RegistryKey;
+import net.minestom.server.thread.InstanceThreadProvider;
 import net.minestom.server.utils.validate.Check;
 import net.minestom.server.world.DimensionType;
 import org.jetbrains.annotations.Nullable;
@@ -23,10 +24,20 @@ import java.util.concurrent.CopyOnWriteArraySet;
 public final class InstanceManager {
 
     private final Registries registries;
+    private final @Nullable InstanceThreadProvider instanceThreads;
     private final Set<Instance> instances = new CopyOnWriteArraySet<>();
 
     public InstanceManager(Registries registries) {
+        this(registries, null);
+    }
+
+    /**
+     * @param registries      the registries used by the created instances
+     * @param instanceThreads the provider placing instances on threads, released from it once unregistered
+     */
+    public InstanceManager(Registries registries, @Nullable InstanceThreadProvider instanceThreads) {
         this.registries = registries;
+        this.instanceThreads = instanceThreads;
     }
 
     /**
@@ -129,6 +140,7 @@ public final class InstanceManager {
             // Unregister
             instance.setRegistered(false);
             this.instances.remove(instance);
+            if (instanceThreads != null) instanceThreads.remove(instance);
         }
     }
 
@@ -1,12 +1,16 @@
 package net.minestom.server.instance;
 
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.kyori.adventure.key.Key;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerFlag;
 import net.minestom.server.collision.Shape;
 import net.minestom.server.coordinate.CoordConversion;
-import net.minestom.server.coordinate.Point;
-import net.minestom.server.coordinate.Vec;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.BlockHandler;
@@ -15,6 +19,7 @@ import net.minestom.server.instance.light.Light;
 import net.minestom.server.instance.palette.Palette;
 import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.play.data.LightData;
+import net.minestom.server.utils.Direction;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
@@ -23,6 +28,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static net.minestom.server.instance.light.LightCompute.EMPTY_CONTENT;
@@ -35,10 +41,14 @@ import static net.minestom.server.instance.light.LightCompute.EMPTY_CONTENT;
  */
 public class LightingChunk extends DynamicChunk {
 
-    private static final ExecutorService pool = Executors.newWorkStealingPool();
+    private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+    private static final ExecutorService pool = Executors.newWorkStealingPool(PARALLELISM);
+    // Smallest amount of sections worth handing to another worker
+    private static final int MIN_WAVE_BATCH = 8;
+    private static final int NEIGHBOR_COUNT = Direction.values().length;
 
     private int[] occlusionMap;
-    final CachedPacket partialLightCache = new CachedPacket(this::createLightPacket);
+    final CachedPacket partialLightCache = new CachedPacket(LIGHT_FRAME_CACHE, this::createLightContent);
     private LightData partialLightData;
     private LightData fullLightData;
 
@@ -50,6 +60,12 @@ public class LightingChunk extends DynamicChunk {
     private final int resendDelay = ServerFlag.SEND_LIGHT_AFTER_BLOCK_PLACEMENT_DELAY;
 
     private boolean doneInit = false;
+    // Light loaded along with the chunk, kept until a nearby block changes
+    private volatile boolean storedLight = false;
+    // Sections invalidated by block changes in neighbor chunks, one bit per section.
+    // Neighbors do not hold the lock of this chunk, the invalidation is applied by this chunk under its own lock.
+    private final AtomicLongArray pendingInvalidation = new AtomicLongArray((maxSection - minSection + 63) >>> 6);
+    private volatile boolean hasPendingInvalidation;
 
     enum LightType {
         SKY,
@@ -88,6 +104,16 @@ public class LightingChunk extends DynamicChunk {
     );
 
     public void invalidate() {
+        for (Section section : sections) section.invalidateCache();
+        invalidateLight();
+    }
+
+    /**
+     * Invalidates the cached light data and packets, without the cached section palettes.
+     * <p>
+     * Used when only the light of the chunk changed, e.g. after a block change in a neighbor chunk.
+     */
+    public void invalidateLight() {
         this.partialLightCache.invalidate();
         this.chunkCache.invalidate();
         this.partialLightData = null;
@@ -117,6 +143,30 @@ public class LightingChunk extends DynamicChunk {
         this.freezeInvalidation = freezeInvalidation;
     }
 
+    /**
+     * Marks the light of the chunk as stored, e.g. baked in the world file the chunk was loaded from.
+     * <p>
+     * Stored light is not invalidated by the generation of neighbor chunks,
+     * only by a block change in this chunk or a neighbor one.
+     *
+     * @param storedLight true if the section lights were loaded with the chunk
+     */
+    public void setStoredLight(boolean storedLight) {
+        this.storedLight = storedLight;
+    }
+
+    public boolean hasStoredLight() {
+        return storedLight;
+    }
+
+    /**
+     * Invalidates the light of the sections around a section of this chunk, in this chunk and its neighbors.
+     * <p>
+     * Must be called with the lock of this chunk held. Neighbor chunks are not locked,
+     * they apply the invalidation themselves the next time their light is used.
+     *
+     * @param coordinate the section Y
+     */
     public void invalidateNeighborsSection(int coordinate) {
         if (freezeInvalidation) {
             return;
@@ -124,20 +174,46 @@ public class LightingChunk extends DynamicChunk {
 
         for (int i = -1; i <= 1; i++) {
             for (int j = -1; j <= 1; j++) {
-                Chunk neighborChunk = instance.getChunk(chunkX + i, chunkZ + j);
-                if (neighborChunk == null) continue;
-
-                if (neighborChunk instanceof LightingChunk light) {
-                    light.invalidate();
+                if (!(instance.getChunk(chunkX + i, chunkZ + j) instanceof LightingChunk light)) continue;
+                for (int k = -1; k <= 1; k++) {
+                    light.deferInvalidation(coordinate + k);
                 }
+            }
+        }
+        applyPendingInvalidation();
+    }
 
-                for (int k = -1; k <= 1; k++) {
-                    if (k + coordinate < neighborChunk.getMinSection() || k + coordinate >= neighborChunk.getMaxSection())
-                        continue;
-                    neighborChunk.getSection(k + coordinate).blockLight().invalidate();
-                    neighborChunk.getSection(k + coordinate).skyLight().invalidate();
+    /**
+     * Marks the light of a section as invalid, without requiring the lock of this chunk.
+     */
+    private void deferInvalidation(int sectionY) {
+        this.storedLight = false;
+        if (sectionY >= minSection && sectionY < maxSection) {
+            final int index = sectionY - minSection;
+            pendingInvalidation.getAndAccumulate(index >>> 6, 1L << index, (bits, bit) -> bits | bit);
+        }
+        this.hasPendingInvalidation = true;
+        this.partialLightCache.invalidate();
+        this.chunkCache.invalidate();
+    }
+
+    /**
+     * Applies the light invalidations requested by block changes in neighbor chunks.
+     */
+    private void applyPendingInvalidation() {
+        if (!hasPendingInvalidation) return;
+        synchronized (this) {
+            this.hasPendingInvalidation = false;
+            for (int word = 0; word < pendingInvalidation.length(); word++) {
+                long bits = pendingInvalidation.getAndSet(word, 0);
+                while (bits != 0) {
+                    final Section section = getSection(minSection + (word << 6) + Long.numberOfTrailingZeros(bits));
+                    section.blockLight().invalidate();
+                    section.skyLight().invalidate();
+                    bits &= bits - 1;
                 }
             }
+            invalidateLight();
         }
     }
 
@@ -162,6 +238,7 @@ public class LightingChunk extends DynamicChunk {
                          @Nullable BlockHandler.Destroy destroy) {
         super.setBlock(x, y, z, block, placement, destroy);
         this.occlusionMap = null;
+        applyPendingInvalidation();
 
         // Invalidate neighbor chunks, since they can be updated by this block change
         int coordinate = CoordConversion.globalToChunk(y);
@@ -199,13 +276,10 @@ public class LightingChunk extends DynamicChunk {
                 if (neighborChunk == null) continue;
 
                 if (neighborChunk instanceof LightingChunk light) {
-                    if (light.doneInit) {
+                    if (light.doneInit && !light.storedLight) {
                         light.resendTimer.set(20);
-                        light.invalidate();
-
-                        for (int section = minSection; section < maxSection; section++) {
-                            light.getSection(section).blockLight().invalidate();
-                            light.getSection(section).skyLight().invalidate();
+                        for (int section = light.minSection; section < light.maxSection; section++) {
+                            light.deferInvalidation(section);
                         }
                     }
                 }
@@ -246,6 +320,7 @@ public class LightingChunk extends DynamicChunk {
     protected LightData createLightData(boolean requiredFullChunk) {
         packetGenerationLock.lock();
         try {
+            applyPendingInvalidation();
             if (requiredFullChunk) {
                 if (fullLightData != null) {
                     return fullLightData;
@@ -350,13 +425,7 @@ public class LightingChunk extends DynamicChunk {
         }
     }
 
-    private static Set<Chunk> flushQueue(Instance instance, Set<Point> queue, LightType type, QueueType queueType) {
-        Set<Light> sections = ConcurrentHashMap.newKeySet();
-        Set<Point> newQueue = ConcurrentHashMap.newKeySet();
-
-        Set<Chunk> responseChunks = ConcurrentHashMap.newKeySet();
-        List<CompletableFuture<Void>> tasks = new ArrayList<>();
-
+    private static Set<Chunk> flushQueue(Instance instance, LongSet queue, LightType type) {
         Light.LightLookup lightLookup = (x, y, z) -> {
             Chunk chunk = instance.getChunk(x, z);
             if (chunk == null) return null;
@@ -369,59 +438,106 @@ public class LightingChunk extends DynamicChunk {
             };
         };
 
+        // The light lock does not exclude block writes, which only lock their chunk.
+        // Palettes are copied under the chunk lock the first time they are read, and the copy is used for the whole flush.
+        final Map<Long, Palette> palettes = new ConcurrentHashMap<>();
         Light.PaletteLookup paletteLookup = (x, y, z) -> {
             Chunk chunk = instance.getChunk(x, z);
             if (chunk == null) return null;
             if (!(chunk instanceof LightingChunk lighting)) return null;
             if (y - lighting.getMinSection() < 0 || y - lighting.getMaxSection() >= 0) return null;
-            return chunk.getSection(y).blockPalette();
+            return palettes.computeIfAbsent(CoordConversion.sectionIndex(x, y, z), index -> {
+                synchronized (chunk) {
+                    return chunk.getSection(y).blockPalette().clone();
+                }
+            });
         };
 
-        for (Point point : queue) {
-            Chunk chunk = instance.getChunk(point.blockX(), point.blockZ());
-            if (!(chunk instanceof LightingChunk lightingChunk)) continue;
+        Set<Chunk> responseChunks = new HashSet<>();
+        QueueType queueType = QueueType.INTERNAL;
+        LongSet wave = queue;
+        while (!wave.isEmpty()) {
+            // Resolve the whole wavefront on this thread, workers only compute
+            final LightingChunk[] chunks = new LightingChunk[wave.size()];
+            final int[] sectionYs = new int[wave.size()];
+            int count = 0;
+            for (LongIterator iterator = wave.iterator(); iterator.hasNext(); ) {
+                final long index = iterator.nextLong();
+                final Chunk chunk = instance.getChunk(CoordConversion.sectionIndexGetX(index), CoordConversion.sectionIndexGetZ(index));
+                if (!(chunk instanceof LightingChunk lightingChunk)) continue;
+                chunks[count] = lightingChunk;
+                sectionYs[count] = CoordConversion.sectionIndexGetY(index);
+                count++;
+                responseChunks.add(lightingChunk);
+            }
+
+            wave = computeWave(chunks, sectionYs, count, type, queueType, lightLookup, paletteLookup);
+            queueType = QueueType.EXTERNAL;
+        }
+
+        return responseChunks;
+    }
 
-            Section section = chunk.getSection(point.blockY());
-            responseChunks.add(chunk);
+    /**
+     * Computes a wavefront, split in one contiguous batch per worker.
+     *
+     * @return the sections of the next wavefront
+     */
+    private static LongSet computeWave(LightingChunk[] chunks, int[] sectionYs, int count,
+                                       LightType type, QueueType queueType,
+                                       Light.LightLookup lightLookup, Light.PaletteLookup paletteLookup) {
+        final int workers = Math.min(PARALLELISM, (count + MIN_WAVE_BATCH - 1) / MIN_WAVE_BATCH);
+        if (workers <= 1) {
+            return computeBatch(chunks, sectionYs, 0, count, type, queueType, lightLookup, paletteLookup);
+        }
+
+        final int batchSize = (count + workers - 1) / workers;
+        List<CompletableFuture<LongSet>> tasks = new ArrayList<>(workers - 1);
+        for (int start = batchSize; start < count; start += batchSize) {
+            final int from = start, to = Math.min(count, start + batchSize);
+            tasks.add(CompletableFuture.supplyAsync(() ->
+                    computeBatch(chunks, sectionYs, from, to, type, queueType, lightLookup, paletteLookup), pool));
+        }
+        // The calling thread takes the first batch instead of waiting idle
+        final LongSet nextWave = computeBatch(chunks, sectionYs, 0, batchSize, type, queueType, lightLookup, paletteLookup);
+        for (CompletableFuture<LongSet> task : tasks) {
+            nextWave.addAll(task.join());
+        }
+        return nextWave;
+    }
 
-            Light light = switch (type) {
+    private static LongSet computeBatch(LightingChunk[] chunks, int[] sectionYs, int from, int to,
+                                        LightType type, QueueType queueType,
+                                        Light.LightLookup lightLookup, Light.PaletteLookup paletteLookup) {
+        final LongSet toUpdate = new LongOpenHashSet();
+        final long[] neighbors = new long[NEIGHBOR_COUNT];
+        for (int i = from; i < to; i++) {
+            final LightingChunk chunk = chunks[i];
+            final int sectionY = sectionYs[i];
+            final Section section = chunk.getSection(sectionY);
+            final Palette palette = paletteLookup.palette(chunk.getChunkX(), sectionY, chunk.getChunkZ());
+            final Light light = switch (type) {
                 case BLOCK -> section.blockLight();
                 case SKY -> section.skyLight();
             };
 
-            final Palette blockPalette = section.blockPalette();
-            CompletableFuture<Void> task = CompletableFuture.runAsync(() -> {
-                try {
-                    final Set<Point> toAdd = switch (queueType) {
-                        case INTERNAL -> light.calculateInternal(blockPalette,
-                                chunk.getChunkX(), point.blockY(), chunk.getChunkZ(),
-                                lightingChunk.getOcclusionMap(), chunk.instance.getCachedDimensionType().maxY(),
-                                lightLookup);
-                        case EXTERNAL -> light.calculateExternal(blockPalette,
-                                Light.getNeighbors(chunk, point.blockY()),
-                                lightLookup, paletteLookup);
-                    };
-
-                    sections.add(light);
-
-                    light.flip();
-                    newQueue.addAll(toAdd);
-                } catch (Exception e) {
-                    MinecraftServer.getExceptionManager().handleException(e);
+            try {
+                switch (queueType) {
+                    case INTERNAL -> light.calculateInternal(palette,
+                            chunk.getChunkX(), sectionY, chunk.getChunkZ(),
+                            chunk.getOcclusionMap(), chunk.instance.getCachedDimensionType().maxY(),
+                            lightLookup, toUpdate);
+                    case EXTERNAL -> light.calculateExternal(palette,
+                            Light.getNeighbors(chunk, sectionY, neighbors),
+                            lightLookup, paletteLookup, toUpdate);
                 }
-            }, pool);
-
-            tasks.add(task);
-        }
-
-        tasks.forEach(CompletableFuture::join);
 
-        if (!newQueue.isEmpty()) {
-            var newResponse = flushQueue(instance, newQueue, type, QueueType.EXTERNAL);
-            responseChunks.addAll(newResponse);
+                light.flip();
+            } catch (Exception e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
         }
-
-        return responseChunks;
+        return toUpdate;
     }
 
     /**
@@ -436,55 +552,70 @@ public class LightingChunk extends DynamicChunk {
      * @return the chunks which have been relighted
      */
     public static List<Chunk> relight(Instance instance, Collection<Chunk> chunks) {
-        Set<Point> sections = new HashSet<>();
+        LongSet sections = new LongOpenHashSet();
 
-        synchronized (instance) {
+        final ReentrantLock lightLock = lightLock(instance);
+        lightLock.lock();
+        try {
             for (Chunk chunk : chunks) {
                 if (!(chunk instanceof LightingChunk lighting)) continue;
+                lighting.applyPendingInvalidation();
                 for (int sectionIndex = chunk.minSection; sectionIndex < chunk.maxSection; sectionIndex++) {
                     Section section = chunk.getSection(sectionIndex);
                     section.blockLight().invalidate();
                     section.skyLight().invalidate();
-                    sections.add(new Vec(chunk.getChunkX(), sectionIndex, chunk.getChunkZ()));
+                    sections.add(CoordConversion.sectionIndex(chunk.getChunkX(), sectionIndex, chunk.getChunkZ()));
                 }
-                lighting.invalidate();
+                lighting.invalidateLight();
             }
 
             // Expand the sections to include nearby sections
-            var blockSections = new HashSet<Point>();
-            for (Point point : sections) {
-                blockSections.addAll(getNearbyRequired(instance, point, LightType.BLOCK));
+            var blockSections = new LongOpenHashSet();
+            for (LongIterator iterator = sections.iterator(); iterator.hasNext(); ) {
+                getNearbyRequired(instance, iterator.nextLong(), LightType.BLOCK, blockSections);
             }
 
-            var skySections = new HashSet<Point>();
-            for (Point point : sections) {
-                skySections.addAll(getNearbyRequired(instance, point, LightType.SKY));
+            var skySections = new LongOpenHashSet();
+            for (LongIterator iterator = sections.iterator(); iterator.hasNext(); ) {
+                getNearbyRequired(instance, iterator.nextLong(), LightType.SKY, skySections);
             }
 
             relight(instance, blockSections, LightType.BLOCK);
             relight(instance, skySections, LightType.SKY);
 
             var chunksToRelight = new HashSet<Chunk>();
-            for (Point point : blockSections) {
-                chunksToRelight.add(instance.getChunk(point.blockX(), point.blockZ()));
+            for (LongIterator iterator = blockSections.iterator(); iterator.hasNext(); ) {
+                final long index = iterator.nextLong();
+                chunksToRelight.add(instance.getChunk(CoordConversion.sectionIndexGetX(index), CoordConversion.sectionIndexGetZ(index)));
             }
 
-            for (Point point : skySections) {
-                chunksToRelight.add(instance.getChunk(point.blockX(), point.blockZ()));
+            for (LongIterator iterator = skySections.iterator(); iterator.hasNext(); ) {
+                final long index = iterator.nextLong();
+                chunksToRelight.add(instance.getChunk(CoordConversion.sectionIndexGetX(index), CoordConversion.sectionIndexGetZ(index)));
             }
 
             return new ArrayList<>(chunksToRelight);
+        } finally {
+            lightLock.unlock();
         }
     }
 
-    private static Set<Point> getNearbyRequired(Instance instance, Point point, LightType type) {
-        Set<Point> collected = new HashSet<>();
+    // Shared instances relight the chunks of their container
+    private static ReentrantLock lightLock(Instance instance) {
+        if (instance instanceof SharedInstance shared) return shared.getInstanceContainer().lightLock;
+        return instance.lightLock;
+    }
+
+    private static void getNearbyRequired(Instance instance, long point, LightType type, LongCollection collected) {
+        final int pointX = CoordConversion.sectionIndexGetX(point);
+        final int pointY = CoordConversion.sectionIndexGetY(point);
+        final int pointZ = CoordConversion.sectionIndexGetZ(point);
         collected.add(point);
 
         int highestRegionPoint = instance.getCachedDimensionType().minY() - 1;
 
-        for (int x = point.blockX() - 1; x <= point.blockX() + 1; x++) {
-            for (int z = point.blockZ() - 1; z <= point.blockZ() + 1; z++) {
+        for (int x = pointX - 1; x <= pointX + 1; x++) {
+            for (int z = pointZ - 1; z <= pointZ + 1; z++) {
                 Chunk chunkCheck = instance.getChunk(x, z);
                 if (chunkCheck == null) continue;
 
@@ -496,46 +627,42 @@ public class LightingChunk extends DynamicChunk {
             }
         }
 
-        for (int x = point.blockX() - 1; x <= point.blockX() + 1; x++) {
-            for (int z = point.blockZ() - 1; z <= point.blockZ() + 1; z++) {
+        for (int x = pointX - 1; x <= pointX + 1; x++) {
+            for (int z = pointZ - 1; z <= pointZ + 1; z++) {
                 Chunk chunkCheck = instance.getChunk(x, z);
                 if (chunkCheck == null) continue;
 
-                for (int y = point.blockY() - 1; y <= point.blockY() + 1; y++) {
-                    Point sectionPosition = new Vec(x, y, z);
+                for (int y = pointY - 1; y <= pointY + 1; y++) {
                     int sectionHeight = instance.getCachedDimensionType().minY() + 16 * y;
                     if ((sectionHeight + 16) > highestRegionPoint && type == LightType.SKY) continue;
 
-                    if (sectionPosition.blockY() < chunkCheck.getMaxSection() && sectionPosition.blockY() >= chunkCheck.getMinSection()) {
-                        Section s = chunkCheck.getSection(sectionPosition.blockY());
+                    if (y < chunkCheck.getMaxSection() && y >= chunkCheck.getMinSection()) {
+                        Section s = chunkCheck.getSection(y);
                         if (type == LightType.BLOCK && !s.blockLight().requiresUpdate()) continue;
                         if (type == LightType.SKY && !s.skyLight().requiresUpdate()) continue;
 
-                        collected.add(sectionPosition);
+                        collected.add(CoordConversion.sectionIndex(x, y, z));
                     }
                 }
             }
         }
-
-        return collected;
     }
 
-    private static Set<Point> collectRequiredNearby(Instance instance, Point point, LightType type) {
-        final Set<Point> found = new HashSet<>();
-        final ArrayDeque<Point> toCheck = new ArrayDeque<>();
+    private static LongSet collectRequiredNearby(Instance instance, long point, LightType type) {
+        final LongSet found = new LongOpenHashSet();
+        final LongArrayFIFOQueue toCheck = new LongArrayFIFOQueue();
+        final LongArrayList nearby = new LongArrayList();
 
-        toCheck.add(point);
+        toCheck.enqueue(point);
         found.add(point);
 
         while (!toCheck.isEmpty()) {
-            final Point current = toCheck.poll();
-            final Set<Point> nearby = getNearbyRequired(instance, current, type);
-            nearby.forEach(p -> {
-                if (!found.contains(p)) {
-                    found.add(p);
-                    toCheck.add(p);
-                }
-            });
+            nearby.clear();
+            getNearbyRequired(instance, toCheck.dequeueLong(), type, nearby);
+            for (int i = 0; i < nearby.size(); i++) {
+                final long index = nearby.getLong(i);
+                if (found.add(index)) toCheck.enqueue(index);
+            }
         }
 
         return found;
@@ -552,14 +679,18 @@ public class LightingChunk extends DynamicChunk {
         if (c == null) return Set.of();
         if (!(c instanceof LightingChunk)) return Set.of();
 
-        synchronized (instance) {
-            Set<Point> collected = collectRequiredNearby(instance, new Vec(chunkX, sectionY, chunkZ), type);
+        final ReentrantLock lightLock = lightLock(instance);
+        lightLock.lock();
+        try {
+            LongSet collected = collectRequiredNearby(instance, CoordConversion.sectionIndex(chunkX, sectionY, chunkZ), type);
             return relight(instance, collected, type);
+        } finally {
+            lightLock.unlock();
         }
     }
 
-    private static Set<Chunk> relight(Instance instance, Set<Point> queue, LightType type) {
-        return flushQueue(instance, queue, type, QueueType.INTERNAL);
+    private static Set<Chunk> relight(Instance instance, LongSet queue, LightType type) {
+        return flushQueue(instance, queue, type);
     }
 
     @Override
@@ -567,6 +698,7 @@ public class LightingChunk extends DynamicChunk {
         var sections = this.sections.stream().map(Section::clone).toList();
         LightingChunk lightingChunk = new LightingChunk(instance, chunkX, chunkZ, sections);
         lightingChunk.entries.putAll(entries);
+        lightingChunk.storedLight = storedLight;
         return lightingChunk;
     }
 
@@ -2,6 +2,13 @@ package net.minestom.server.instance;
 
 import net.minestom.server.instance.light.Light;
 import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.network.NetworkBuffer;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+import static net.minestom.server.network.NetworkBuffer.SHORT;
 
 public final class Section {
     private final Palette blockPalette;
@@ -9,6 +16,9 @@ public final class Section {
     private final Light skyLight;
     private final Light blockLight;
 
+    // Encoded palettes as sent in the chunk data packet, cleared by any write to this section
+    private volatile @Nullable Encoded encoded;
+
     private Section(Palette blockPalette, Palette biomePalette, Light skyLight, Light blockLight) {
         this.blockPalette = blockPalette;
         this.biomePalette = biomePalette;
@@ -35,6 +45,56 @@ public final class Section {
     public void clear() {
         this.blockPalette.fill(0);
         this.biomePalette.fill(0);
+        invalidateCache();
+    }
+
+    /**
+     * Gets the block and biome palettes of this section, encoded for the chunk data packet.
+     * <p>
+     * The encoding is cached until {@link #invalidateCache()} is called,
+     * the returned array must not be modified.
+     *
+     * @param biomeCount the size of the biome registry, used to size the biome palette
+     * @return the encoded section
+     */
+    @ApiStatus.Internal
+    public byte[] networkData(int biomeCount) {
+        return encoded(biomeCount).data();
+    }
+
+    /**
+     * Gets the hash of {@link #networkData(int)}, cached along with the encoding.
+     *
+     * @param biomeCount the size of the biome registry, used to size the biome palette
+     * @return the hash of the encoded section
+     */
+    @ApiStatus.Internal
+    public int networkHash(int biomeCount) {
+        return encoded(biomeCount).hash();
+    }
+
+    private Encoded encoded(int biomeCount) {
+        Encoded encoded = this.encoded;
+        if (encoded != null && encoded.biomeCount() == biomeCount) return encoded;
+
+        final NetworkBuffer.Type<Palette> biomeSerializer = Palette.biomeSerializer(biomeCount);
+        final byte[] data = NetworkBuffer.makeArray(buffer -> {
+            buffer.write(SHORT, (short) blockPalette.count());
+            buffer.write(Palette.BLOCK_SERIALIZER, blockPalette);
+            buffer.write(biomeSerializer, biomePalette);
+        });
+        encoded = new Encoded(biomeCount, data, Arrays.hashCode(data));
+        this.encoded = encoded;
+        return encoded;
+    }
+
+    /**
+     * Drops the cached network encoding of this section.
+     * <p>
+     * Must be called after writing to {@link #blockPalette()} or {@link #biomePalette()} directly.
+     */
+    public void invalidateCache() {
+        this.encoded = null;
     }
 
     @Override
@@ -45,7 +105,9 @@ public final class Section {
         skyLight.set(this.skyLight.array());
         blockLight.set(this.blockLight.array());
 
-        return new Section(this.blockPalette.clone(), this.biomePalette.clone(), skyLight, blockLight);
+        final Section section = new Section(this.blockPalette.clone(), this.biomePalette.clone(), skyLight, blockLight);
+        section.encoded = this.encoded; // Same content, the encoding can be shared
+        return section;
     }
 
     public void setSkyLight(byte[] copyArray) {
@@ -63,4 +125,7 @@ public final class Section {
     public Light blockLight() {
         return blockLight;
     }
+
+    private record Encoded(int biomeCount, byte[] data, int hash) {
+    }
 }
@@ -51,6 +51,11 @@ public class SharedInstance extends Instance {
         return instanceContainer.loadOptionalChunk(chunkX, chunkZ);
     }
 
+    @Override
+    public CompletableFuture<Chunk> loadOptionalChunk(int chunkX, int chunkZ, Player viewer) {
+        return instanceContainer.loadOptionalChunk(chunkX, chunkZ, viewer);
+    }
+
     @Override
     public void unloadChunk(Chunk chunk) {
         instanceContainer.unloadChunk(chunk);
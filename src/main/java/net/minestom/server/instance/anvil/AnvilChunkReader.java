@@ -0,0 +1,376 @@
+package net.minestom.server.instance.anvil;
+
+import net.kyori.adventure.nbt.*;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.registry.DynamicRegistry;
+import net.minestom.server.registry.RegistryKey;
+import net.minestom.server.utils.validate.Check;
+import net.minestom.server.world.biome.Biome;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streaming reader of Anvil chunk NBT.
+ * <p>
+ * Sections are decoded straight into palette arrays without building their tag tree, block states are resolved
+ * through a cache keyed by their name and properties. Other fields of the chunk are read as regular tags.
+ */
+final class AnvilChunkReader {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AnvilChunkReader.class);
+    private static final DynamicRegistry<Biome> BIOME_REGISTRY = MinecraftServer.getBiomeRegistry();
+    private static final int PLAINS_ID = BIOME_REGISTRY.getId(Biome.PLAINS);
+
+    private static final int TAG_END = 0, TAG_BYTE = 1, TAG_SHORT = 2, TAG_INT = 3, TAG_LONG = 4, TAG_FLOAT = 5,
+            TAG_DOUBLE = 6, TAG_BYTE_ARRAY = 7, TAG_STRING = 8, TAG_LIST = 9, TAG_COMPOUND = 10, TAG_INT_ARRAY = 11,
+            TAG_LONG_ARRAY = 12;
+    private static final BinaryTagType<?>[] TYPES = {
+            BinaryTagTypes.END, BinaryTagTypes.BYTE, BinaryTagTypes.SHORT, BinaryTagTypes.INT, BinaryTagTypes.LONG,
+            BinaryTagTypes.FLOAT, BinaryTagTypes.DOUBLE, BinaryTagTypes.BYTE_ARRAY, BinaryTagTypes.STRING,
+            BinaryTagTypes.LIST, BinaryTagTypes.COMPOUND, BinaryTagTypes.INT_ARRAY, BinaryTagTypes.LONG_ARRAY
+    };
+
+    // "name[key=value,...]" -> state id, palette entries repeat across every section and chunk
+    private static final Map<String, Integer> BLOCK_STATE_CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Decoded chunk, fields missing from the data are empty.
+     *
+     * @param handlerData every field not decoded separately, including the status
+     */
+    record ChunkData(String status, List<SectionData> sections, CompoundBinaryTag heightmaps,
+                     ListBinaryTag blockEntities, CompoundBinaryTag handlerData) {
+    }
+
+    /**
+     * Decoded section, palettes are converted to state and biome ids.
+     */
+    record SectionData(int y, byte @Nullable [] skyLight, byte @Nullable [] blockLight,
+                       int[] biomePalette, long[] biomeData, int[] blockPalette, long[] blockData) {
+    }
+
+    private final DataInputStream input;
+    // Reused between the palette entries of a chunk
+    private final List<String> properties = new ArrayList<>();
+    private final StringBuilder stateKey = new StringBuilder();
+
+    private AnvilChunkReader(InputStream stream) {
+        this.input = new DataInputStream(stream);
+    }
+
+    /**
+     * Reads a chunk from its uncompressed NBT.
+     *
+     * @param stream the uncompressed chunk data
+     * @return the decoded chunk
+     * @throws IOException if the data is truncated or is not a chunk
+     */
+    static ChunkData read(InputStream stream) throws IOException {
+        return new AnvilChunkReader(stream).readChunk();
+    }
+
+    private ChunkData readChunk() throws IOException {
+        final int rootType = input.readByte();
+        if (rootType != TAG_COMPOUND) throw new IOException("Chunk data is not a compound: " + rootType);
+        input.readUTF(); // Root name
+
+        String status = "";
+        List<SectionData> sections = List.of();
+        CompoundBinaryTag heightmaps = CompoundBinaryTag.empty();
+        ListBinaryTag blockEntities = ListBinaryTag.empty();
+        final CompoundBinaryTag.Builder handlerData = CompoundBinaryTag.builder();
+        int type;
+        while ((type = input.readByte()) != TAG_END) {
+            final String name = input.readUTF();
+            switch (name) {
+                case "sections" -> {
+                    if (type == TAG_LIST) sections = readSections();
+                    else skip(type);
+                }
+                case "Heightmaps" -> {
+                    if (type == TAG_COMPOUND) heightmaps = readCompound();
+                    else skip(type);
+                }
+                case "block_entities" -> {
+                    if (type == TAG_LIST) blockEntities = readList();
+                    else skip(type);
+                }
+                default -> {
+                    final BinaryTag tag = readTag(type);
+                    if (name.equals("status") && tag instanceof StringBinaryTag statusTag) status = statusTag.value();
+                    handlerData.put(name, tag);
+                }
+            }
+        }
+        return new ChunkData(status, sections, heightmaps, blockEntities, handlerData.build());
+    }
+
+    private List<SectionData> readSections() throws IOException {
+        final int elementType = input.readByte();
+        final int length = input.readInt();
+        if (elementType != TAG_COMPOUND) {
+            if (length > 0) LOGGER.warn("Invalid sections tag in chunk data, expected compounds but got tag type {}", elementType);
+            for (int i = 0; i < length; i++) skip(elementType);
+            return List.of();
+        }
+        final List<SectionData> sections = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) sections.add(readSection());
+        return sections;
+    }
+
+    private SectionData readSection() throws IOException {
+        int y = Integer.MIN_VALUE;
+        byte[] skyLight = null, blockLight = null;
+        int[] biomePalette = new int[0], blockPalette = new int[0];
+        long[] biomeData = new long[0], blockData = new long[0];
+        int type;
+        while ((type = input.readByte()) != TAG_END) {
+            final String name = input.readUTF();
+            switch (name) {
+                case "Y" -> y = readInt(type);
+                case "SkyLight" -> skyLight = readByteArray(type);
+                case "BlockLight" -> blockLight = readByteArray(type);
+                case "biomes" -> {
+                    if (type != TAG_COMPOUND) {
+                        skip(type);
+                        continue;
+                    }
+                    while ((type = input.readByte()) != TAG_END) {
+                        switch (input.readUTF()) {
+                            case "palette" -> biomePalette = readBiomePalette(type);
+                            case "data" -> biomeData = readLongArray(type);
+                            default -> skip(type);
+                        }
+                    }
+                }
+                case "block_states" -> {
+                    if (type != TAG_COMPOUND) {
+                        skip(type);
+                        continue;
+                    }
+                    while ((type = input.readByte()) != TAG_END) {
+                        switch (input.readUTF()) {
+                            case "palette" -> blockPalette = readBlockPalette(type);
+                            case "data" -> blockData = readLongArray(type);
+                            default -> skip(type);
+                        }
+                    }
+                }
+                default -> skip(type);
+            }
+        }
+        Check.stateCondition(y == Integer.MIN_VALUE, "Missing section Y value");
+        return new SectionData(y, skyLight, blockLight, biomePalette, biomeData, blockPalette, blockData);
+    }
+
+    private int[] readBiomePalette(int type) throws IOException {
+        if (type != TAG_LIST) {
+            skip(type);
+            return new int[0];
+        }
+        final int elementType = input.readByte();
+        final int length = input.readInt();
+        final int[] palette = new int[elementType == TAG_STRING ? length : 0];
+        for (int i = 0; i < length; i++) {
+            if (elementType != TAG_STRING) {
+                skip(elementType);
+                continue;
+            }
+            int biomeId = BIOME_REGISTRY.getId(RegistryKey.unsafeOf(input.readUTF()));
+            if (biomeId == -1) biomeId = PLAINS_ID;
+            palette[i] = biomeId;
+        }
+        return palette;
+    }
+
+    private int[] readBlockPalette(int type) throws IOException {
+        if (type != TAG_LIST) {
+            skip(type);
+            return new int[0];
+        }
+        final int elementType = input.readByte();
+        final int length = input.readInt();
+        final int[] palette = new int[elementType == TAG_COMPOUND ? length : 0];
+        for (int i = 0; i < length; i++) {
+            if (elementType != TAG_COMPOUND) {
+                skip(elementType);
+                continue;
+            }
+            palette[i] = readBlockState();
+        }
+        return palette;
+    }
+
+    private int readBlockState() throws IOException {
+        final List<String> properties = this.properties;
+        properties.clear();
+        String blockName = null;
+        int type;
+        while ((type = input.readByte()) != TAG_END) {
+            final String name = input.readUTF();
+            if (name.equals("Name") && type == TAG_STRING) {
+                blockName = input.readUTF();
+            } else if (name.equals("Properties") && type == TAG_COMPOUND) {
+                while ((type = input.readByte()) != TAG_END) {
+                    final String key = input.readUTF();
+                    if (type != TAG_STRING) {
+                        LOGGER.warn("Fail to parse block state properties, expected a string tag for {}, but got tag type {}", key, type);
+                        skip(type);
+                        continue;
+                    }
+                    properties.add(key);
+                    properties.add(input.readUTF());
+                }
+            } else {
+                skip(type);
+            }
+        }
+        Objects.requireNonNull(blockName, "Missing block name in palette entry");
+        if (properties.isEmpty() && blockName.equals("minecraft:air")) return Block.AIR.stateId();
+
+        final StringBuilder stateKey = this.stateKey;
+        stateKey.setLength(0);
+        stateKey.append(blockName).append('[');
+        for (int i = 0; i < properties.size(); i += 2) {
+            if (i > 0) stateKey.append(',');
+            stateKey.append(properties.get(i)).append('=').append(properties.get(i + 1));
+        }
+        final String key = stateKey.append(']').toString();
+        final Integer cached = BLOCK_STATE_CACHE.get(key);
+        if (cached != null) return cached;
+
+        Block block = Objects.requireNonNull(Block.fromKey(blockName), "Unknown block " + blockName);
+        if (!properties.isEmpty()) {
+            final Map<String, String> propertyMap = HashMap.newHashMap(properties.size() / 2);
+            for (int i = 0; i < properties.size(); i += 2) propertyMap.put(properties.get(i), properties.get(i + 1));
+            block = block.withProperties(propertyMap);
+        }
+        final int stateId = block.stateId();
+        BLOCK_STATE_CACHE.put(key, stateId);
+        return stateId;
+    }
+
+    private int readInt(int type) throws IOException {
+        return switch (type) {
+            case TAG_BYTE -> input.readByte();
+            case TAG_SHORT -> input.readShort();
+            case TAG_INT -> input.readInt();
+            case TAG_LONG -> (int) input.readLong();
+            default -> {
+                skip(type);
+                yield Integer.MIN_VALUE;
+            }
+        };
+    }
+
+    private byte @Nullable [] readByteArray(int type) throws IOException {
+        if (type != TAG_BYTE_ARRAY) {
+            skip(type);
+            return null;
+        }
+        final byte[] array = new byte[input.readInt()];
+        input.readFully(array);
+        return array;
+    }
+
+    private long[] readLongArray(int type) throws IOException {
+        if (type != TAG_LONG_ARRAY) {
+            skip(type);
+            return new long[0];
+        }
+        final int length = input.readInt();
+        final byte[] bytes = new byte[length * Long.BYTES];
+        input.readFully(bytes);
+        final long[] array = new long[length];
+        ByteBuffer.wrap(bytes).asLongBuffer().get(array);
+        return array;
+    }
+
+    private CompoundBinaryTag readCompound() throws IOException {
+        final CompoundBinaryTag.Builder builder = CompoundBinaryTag.builder();
+        int type;
+        while ((type = input.readByte()) != TAG_END) {
+            final String name = input.readUTF();
+            builder.put(name, readTag(type));
+        }
+        return builder.build();
+    }
+
+    private ListBinaryTag readList() throws IOException {
+        final int elementType = input.readByte();
+        final int length = input.readInt();
+        if (length <= 0) return ListBinaryTag.empty();
+        final List<BinaryTag> elements = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) elements.add(readTag(elementType));
+        return ListBinaryTag.listBinaryTag(TYPES[elementType], elements);
+    }
+
+    private BinaryTag readTag(int type) throws IOException {
+        return switch (type) {
+            case TAG_BYTE -> ByteBinaryTag.byteBinaryTag(input.readByte());
+            case TAG_SHORT -> ShortBinaryTag.shortBinaryTag(input.readShort());
+            case TAG_INT -> IntBinaryTag.intBinaryTag(input.readInt());
+            case TAG_LONG -> LongBinaryTag.longBinaryTag(input.readLong());
+            case TAG_FLOAT -> FloatBinaryTag.floatBinaryTag(input.readFloat());
+            case TAG_DOUBLE -> DoubleBinaryTag.doubleBinaryTag(input.readDouble());
+            case TAG_BYTE_ARRAY -> ByteArrayBinaryTag.byteArrayBinaryTag(readByteArray(type));
+            case TAG_STRING -> StringBinaryTag.stringBinaryTag(input.readUTF());
+            case TAG_LIST -> readList();
+            case TAG_COMPOUND -> readCompound();
+            case TAG_INT_ARRAY -> {
+                final int[] array = new int[input.readInt()];
+                for (int i = 0; i < array.length; i++) array[i] = input.readInt();
+                yield IntArrayBinaryTag.intArrayBinaryTag(array);
+            }
+            case TAG_LONG_ARRAY -> LongArrayBinaryTag.longArrayBinaryTag(readLongArray(type));
+            default -> throw new IOException("Unknown tag type: " + type);
+        };
+    }
+
+    private void skip(int type) throws IOException {
+        switch (type) {
+            case TAG_BYTE -> skipFully(1);
+            case TAG_SHORT -> skipFully(2);
+            case TAG_INT, TAG_FLOAT -> skipFully(4);
+            case TAG_LONG, TAG_DOUBLE -> skipFully(8);
+            case TAG_BYTE_ARRAY -> skipFully(input.readInt());
+            case TAG_STRING -> skipFully(input.readUnsignedShort());
+            case TAG_LIST -> {
+                final int elementType = input.readByte();
+                final int length = input.readInt();
+                for (int i = 0; i < length; i++) skip(elementType);
+            }
+            case TAG_COMPOUND -> {
+                int elementType;
+                while ((elementType = input.readByte()) != TAG_END) {
+                    skipFully(input.readUnsignedShort()); // Name
+                    skip(elementType);
+                }
+            }
+            case TAG_INT_ARRAY -> skipFully((long) input.readInt() * Integer.BYTES);
+            case TAG_LONG_ARRAY -> skipFully((long) input.readInt() * Long.BYTES);
+            default -> throw new IOException("Unknown tag type: " + type);
+        }
+    }
+
+    private void skipFully(long count) throws IOException {
+        while (count > 0) {
+            final int skipped = input.skipBytes((int) Math.min(count, Integer.MAX_VALUE));
+            if (skipped <= 0) {
+                // skipBytes does not distinguish the end of the stream
+                input.readByte();
+                count--;
+            } else {
+                count -= skipped;
+            }
+        }
+    }
+}
@@ -2,12 +2,13 @@ package net.minestom.server.instance.anvil;
 
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongSet;
 import net.kyori.adventure.nbt.*;
 import net.minestom.server.MinecraftServer;
-import net.minestom.server.adventure.MinestomAdventure;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.ChunkLoader;
 import net.minestom.server.instance.Instance;
@@ -15,11 +16,11 @@ import net.minestom.server.instance.Section;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.instance.palette.Palettes;
-import net.minestom.server.registry.DynamicRegistry;
 import net.minestom.server.registry.RegistryKey;
 import net.minestom.server.utils.MathUtils;
 import net.minestom.server.utils.validate.Check;
 import net.minestom.server.world.biome.Biome;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +33,7 @@ import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -41,11 +43,8 @@ import static net.minestom.server.instance.Chunk.CHUNK_SIZE_Z;
 
 public class AnvilLoader implements ChunkLoader {
     private final static Logger LOGGER = LoggerFactory.getLogger(AnvilLoader.class);
-    private static final DynamicRegistry<Biome> BIOME_REGISTRY = MinecraftServer.getBiomeRegistry();
-    private final static int PLAINS_ID = BIOME_REGISTRY.getId(Biome.PLAINS);
     private static final CompoundBinaryTag[] BLOCK_STATE_ID_2_OBJECT_CACHE = new CompoundBinaryTag[Block.statesCount()];
 
-    private final ReentrantLock fileCreationLock = new ReentrantLock();
     private final Map<String, RegionFile> alreadyLoaded = new ConcurrentHashMap<>();
     private final Path path;
     private final Path levelPath;
@@ -58,6 +57,9 @@ public class AnvilLoader implements ChunkLoader {
      */
     private final Long2ObjectOpenHashMap<LongSet> perRegionLoadedChunks = new Long2ObjectOpenHashMap<>();
     private final ReentrantLock perRegionLoadedChunksLock = new ReentrantLock();
+    // RegionIndex = flushes writing to the region, guarded by perRegionLoadedChunksLock
+    private final Long2IntOpenHashMap regionWriters = new Long2IntOpenHashMap();
+    private final AnvilSaveQueue saveQueue = new AnvilSaveQueue(this, ServerFlag.CHUNK_SAVE_QUEUE_SIZE);
 
     public AnvilLoader(Path path) {
         this.path = path;
@@ -85,6 +87,8 @@ public class AnvilLoader implements ChunkLoader {
 
     @Override
     public @Nullable Chunk loadChunk(Instance instance, int chunkX, int chunkZ) {
+        // Tracked before reading, the region stays open while its chunks are read, loaded or generated
+        trackChunk(chunkX, chunkZ);
         if (!Files.exists(path)) {
             // No world folder
             return null;
@@ -100,45 +104,42 @@ public class AnvilLoader implements ChunkLoader {
     private @Nullable Chunk loadMCA(Instance instance, int chunkX, int chunkZ) throws IOException {
         final RegionFile mcaFile = getMCAFile(chunkX, chunkZ);
         if (mcaFile == null) return null;
-        final CompoundBinaryTag chunkData = mcaFile.readChunkData(chunkX, chunkZ);
-        if (chunkData == null) return null;
+        final AnvilChunkReader.ChunkData chunkData;
+        try (InputStream stream = mcaFile.readChunkData(chunkX, chunkZ)) {
+            if (stream == null) return null;
+            chunkData = AnvilChunkReader.read(stream);
+        }
 
         // Load the chunk data (assuming it is fully generated)
         final Chunk chunk = instance.getChunkSupplier().createChunk(instance, chunkX, chunkZ);
         synchronized (chunk) { // todo: boo, synchronized
-            final String status = chunkData.getString("status");
+            final String status = chunkData.status();
             // TODO: Should we handle other statuses?
             if (status.isEmpty() || "minecraft:full".equals(status)) {
                 // Blocks + Biomes
-                loadSections(chunk, chunkData);
+                loadSections(chunk, chunkData.sections());
                 // Block entities
-                loadBlockEntities(chunk, chunkData);
-                chunk.loadHeightmapsFromNBT(chunkData.getCompound("Heightmaps"));
+                loadBlockEntities(chunk, chunkData.blockEntities());
+                chunk.loadHeightmapsFromNBT(chunkData.heightmaps());
             } else {
                 LOGGER.warn("Skipping partially generated chunk at {}, {} with status {}", chunkX, chunkZ, status);
             }
-            CompoundBinaryTag handlerData = CompoundBinaryTag.builder()
-                    .put(chunkData)
-                    .remove("Heightmaps")
-                    .remove("sections")
-                    .remove("sections")
-                    .remove("block_entities")
-                    .build();
-            chunk.tagHandler().updateContent(handlerData);
+            chunk.tagHandler().updateContent(chunkData.handlerData());
         }
 
-        // Cache the index of the loaded chunk
+        return chunk;
+    }
+
+    private void trackChunk(int chunkX, int chunkZ) {
         perRegionLoadedChunksLock.lock();
         try {
             final int regionX = chunkToRegion(chunkX), regionZ = chunkToRegion(chunkZ);
             final long regionIndex = regionIndex(regionX, regionZ);
-            var chunks = perRegionLoadedChunks.computeIfAbsent(regionIndex, r -> new LongOpenHashSet()); // region cache may have been removed on another thread due to unloadChunk
-            final long chunkIndex = chunkIndex(chunkX, chunkZ);
-            chunks.add(chunkIndex);
+            var chunks = perRegionLoadedChunks.computeIfAbsent(regionIndex, r -> new LongOpenHashSet());
+            chunks.add(chunkIndex(chunkX, chunkZ));
         } finally {
             perRegionLoadedChunksLock.unlock();
         }
-        return chunk;
     }
 
     private @Nullable RegionFile getMCAFile(int chunkX, int chunkZ) {
@@ -157,9 +158,6 @@ public class AnvilLoader implements ChunkLoader {
                 }
 
                 try {
-                    final long regionIndex = regionIndex(regionX, regionZ);
-                    LongSet previousVersion = perRegionLoadedChunks.put(regionIndex, new LongOpenHashSet());
-                    assert previousVersion == null : "The AnvilLoader cache should not already have data for this region.";
                     return new RegionFile(regionPath);
                 } catch (IOException e) {
                     MinecraftServer.getExceptionManager().handleException(e);
@@ -171,15 +169,9 @@ public class AnvilLoader implements ChunkLoader {
         }
     }
 
-    private void loadSections(Chunk chunk, CompoundBinaryTag chunkData) {
-        for (BinaryTag sectionTag : chunkData.getList("sections", BinaryTagTypes.COMPOUND)) {
-            if (!(sectionTag instanceof CompoundBinaryTag sectionData)) {
-                LOGGER.warn("Invalid section tag in chunk data: {}", sectionTag);
-                continue;
-            }
-
-            final int sectionY = sectionData.getInt("Y", Integer.MIN_VALUE);
-            Check.stateCondition(sectionY == Integer.MIN_VALUE, "Missing section Y value");
+    private void loadSections(Chunk chunk, List<AnvilChunkReader.SectionData> sections) {
+        for (AnvilChunkReader.SectionData sectionData : sections) {
+            final int sectionY = sectionData.y();
             if (sectionY < chunk.getMinSection() || sectionY >= chunk.getMaxSection()) {
                 // Vanilla stores a section below and above the world for lighting, throw it out.
                 continue;
@@ -188,92 +180,39 @@ public class AnvilLoader implements ChunkLoader {
             final Section section = chunk.getSection(sectionY);
 
             // Lighting
-            if (sectionData.get("SkyLight") instanceof ByteArrayBinaryTag skyLightTag && skyLightTag.size() == 2048) {
-                section.skyLight().set(skyLightTag.value());
-            }
-            if (sectionData.get("BlockLight") instanceof ByteArrayBinaryTag blockLightTag && blockLightTag.size() == 2048) {
-                section.blockLight().set(blockLightTag.value());
-            }
+            final byte[] skyLight = sectionData.skyLight();
+            if (skyLight != null && skyLight.length == 2048) section.skyLight().set(skyLight);
+            final byte[] blockLight = sectionData.blockLight();
+            if (blockLight != null && blockLight.length == 2048) section.blockLight().set(blockLight);
 
             {   // Biomes
-                final CompoundBinaryTag biomesTag = sectionData.getCompound("biomes");
-                final ListBinaryTag biomePaletteTag = biomesTag.getList("palette", BinaryTagTypes.STRING);
-                int[] convertedBiomePalette = loadBiomePalette(biomePaletteTag);
-                if (convertedBiomePalette.length == 1) {
+                final int[] biomePalette = sectionData.biomePalette();
+                if (biomePalette.length == 1) {
                     // One solid block, no need to check the data
-                    section.biomePalette().fill(convertedBiomePalette[0]);
-                } else if (convertedBiomePalette.length > 1) {
-                    final long[] packedIndices = biomesTag.getLongArray("data");
+                    section.biomePalette().fill(biomePalette[0]);
+                } else if (biomePalette.length > 1) {
+                    final long[] packedIndices = sectionData.biomeData();
                     Check.stateCondition(packedIndices.length == 0, "Missing packed biomes data");
-                    section.biomePalette().load(convertedBiomePalette, packedIndices);
+                    section.biomePalette().load(biomePalette, packedIndices);
                 }
             }
 
             {   // Blocks
-                final CompoundBinaryTag blockStatesTag = sectionData.getCompound("block_states");
-                final ListBinaryTag blockPaletteTag = blockStatesTag.getList("palette", BinaryTagTypes.COMPOUND);
-                final int[] convertedPalette = loadBlockPalette(blockPaletteTag);
-                if (blockPaletteTag.size() == 1) {
+                final int[] blockPalette = sectionData.blockPalette();
+                if (blockPalette.length == 1) {
                     // One solid block, no need to check the data
-                    section.blockPalette().fill(convertedPalette[0]);
-                } else if (blockPaletteTag.size() > 1) {
-                    final long[] packedStates = blockStatesTag.getLongArray("data");
+                    section.blockPalette().fill(blockPalette[0]);
+                } else if (blockPalette.length > 1) {
+                    final long[] packedStates = sectionData.blockData();
                     Check.stateCondition(packedStates.length == 0, "Missing packed states data");
-                    section.blockPalette().load(convertedPalette, packedStates);
+                    section.blockPalette().load(blockPalette, packedStates);
                 }
             }
         }
     }
 
-    private int[] loadBlockPalette(ListBinaryTag paletteTag) {
-        final int length = paletteTag.size();
-        int[] convertedPalette = new int[length];
-        for (int i = 0; i < length; i++) {
-            CompoundBinaryTag paletteEntry = paletteTag.getCompound(i);
-            final String blockName = paletteEntry.getString("Name");
-            if (blockName.equals("minecraft:air")) {
-                convertedPalette[i] = Block.AIR.stateId();
-            } else {
-                Block block = Objects.requireNonNull(Block.fromKey(blockName), "Unknown block " + blockName);
-                // Properties
-                final CompoundBinaryTag propertiesNBT = paletteEntry.getCompound("Properties");
-                if (!propertiesNBT.isEmpty()) {
-                    final Map<String, String> properties = HashMap.newHashMap(propertiesNBT.size());
-                    for (var property : propertiesNBT) {
-                        if (property.getValue() instanceof StringBinaryTag propertyValue) {
-                            properties.put(property.getKey(), propertyValue.value());
-                        } else {
-                            try {
-                                LOGGER.warn("Fail to parse block state properties {}, expected a string tag for {}, but contents were {}",
-                                        propertiesNBT, property.getKey(), MinestomAdventure.tagStringIO().asString(property.getValue()));
-                            } catch (IOException e) {
-                                LOGGER.warn("Fail to parse block state properties {}, expected a string tag for {}, but contents were a {} tag", propertiesNBT, property.getKey(), property.getValue().examinableName());
-                            }
-                        }
-                    }
-                    block = block.withProperties(properties);
-                }
-
-                convertedPalette[i] = block.stateId();
-            }
-        }
-        return convertedPalette;
-    }
-
-    private int[] loadBiomePalette(ListBinaryTag paletteTag) {
-        final int length = paletteTag.size();
-        int[] convertedPalette = new int[length];
-        for (int i = 0; i < length; i++) {
-            final String name = paletteTag.getString(i);
-            int biomeId = BIOME_REGISTRY.getId(RegistryKey.unsafeOf(name));
-            if (biomeId == -1) biomeId = PLAINS_ID;
-            convertedPalette[i] = biomeId;
-        }
-        return convertedPalette;
-    }
-
-    private void loadBlockEntities(Chunk loadedChunk, CompoundBinaryTag chunkData) {
-        for (BinaryTag blockEntityTag : chunkData.getList("block_entities", BinaryTagTypes.COMPOUND)) {
+    private void loadBlockEntities(Chunk loadedChunk, ListBinaryTag blockEntities) {
+        for (BinaryTag blockEntityTag : blockEntities) {
             if (!(blockEntityTag instanceof CompoundBinaryTag blockEntity)) {
                 LOGGER.warn("Invalid block entity tag in chunk data: {}", blockEntityTag);
                 continue;
@@ -318,64 +257,101 @@ public class AnvilLoader implements ChunkLoader {
 
     @Override
     public void saveChunk(Chunk chunk) {
-        final int chunkX = chunk.getChunkX(), chunkZ = chunk.getChunkZ();
-        final int regionX = chunkToRegion(chunkX), regionZ = chunkToRegion(chunkZ);
-        final long chunkIndex = chunkIndex(chunkX, chunkZ);
-        final long regionIndex = regionIndex(regionX, regionZ);
+        saveChunks(List.of(chunk));
+    }
 
-        // Find the region file or create an empty one if missing
-        RegionFile mcaFile;
-        fileCreationLock.lock();
-        try {
-            mcaFile = getMCAFile(chunkX, chunkZ);
+    @Override
+    public void saveChunks(Collection<Chunk> chunks) {
+        // Failures are already handled by the save queue
+        saveQueue.submit(chunks).exceptionally(e -> null).join();
+    }
+
+    /**
+     * Copies the chunks and writes them in the background through the {@link #saveQueue()}.
+     *
+     * @param chunks the chunks to save
+     * @return a future completed once every chunk is written to its region file
+     */
+    @Override
+    public CompletableFuture<Void> saveChunksAsync(Collection<Chunk> chunks) {
+        final CompletableFuture<Void> future = saveQueue.submit(chunks);
+        // Saves are expected to be done once returning without parallel saving
+        if (!supportsParallelSaving()) future.exceptionally(e -> null).join();
+        return future;
+    }
+
+    @ApiStatus.Experimental
+    public AnvilSaveQueue saveQueue() {
+        return saveQueue;
+    }
+
+    /**
+     * Serializes a chunk copied by the {@link AnvilSaveQueue}, called outside of the tick thread.
+     * <p>
+     * {@code LastUpdate} is left out, so that the data of an unchanged chunk stays identical between saves.
+     */
+    CompoundBinaryTag serializeChunk(Chunk chunk, CompoundBinaryTag tags) {
+        final CompoundBinaryTag.Builder chunkData = CompoundBinaryTag.builder();
+
+        chunkData.put(tags);
+
+        chunkData.putInt("DataVersion", MinecraftServer.DATA_VERSION);
+        chunkData.putInt("xPos", chunk.getChunkX());
+        chunkData.putInt("zPos", chunk.getChunkZ());
+        chunkData.putInt("yPos", chunk.getMinSection());
+        chunkData.putString("status", "minecraft:full");
 
+        saveSectionData(chunk, chunkData);
+        return chunkData.build();
+    }
+
+    /**
+     * Opens a region file for writing, creating it if missing.
+     * The region is not closed before a matching call to {@link #releaseRegion(int, int)}.
+     */
+    RegionFile acquireRegion(int regionX, int regionZ) throws IOException {
+        final String fileName = RegionFile.getFileName(regionX, regionZ);
+        perRegionLoadedChunksLock.lock();
+        try {
+            RegionFile mcaFile = alreadyLoaded.get(fileName);
             if (mcaFile == null) {
-                final String regionFileName = RegionFile.getFileName(regionX, regionZ);
-                try {
-                    Path regionFile = regionPath.resolve(regionFileName);
-                    if (!Files.exists(regionFile)) {
-                        Files.createDirectories(regionFile.getParent());
-                        Files.createFile(regionFile);
-                    }
-
-                    mcaFile = new RegionFile(regionFile);
-                    alreadyLoaded.put(regionFileName, mcaFile);
-                } catch (IOException e) {
-                    LOGGER.error("Failed to create region file for {}, {}", chunkX, chunkZ, e);
-                    MinecraftServer.getExceptionManager().handleException(e);
-                    return;
-                }
+                final Path regionFile = regionPath.resolve(fileName);
+                Files.createDirectories(regionFile.getParent());
+                mcaFile = new RegionFile(regionFile);
+                alreadyLoaded.put(fileName, mcaFile);
             }
+            regionWriters.addTo(regionIndex(regionX, regionZ), 1);
+            return mcaFile;
         } finally {
-            fileCreationLock.unlock();
-
-            this.perRegionLoadedChunksLock.lock();
-            try {
-                this.perRegionLoadedChunks.computeIfAbsent(regionIndex, k -> new LongOpenHashSet())
-                        .add(chunkIndex);
-            } finally {
-                this.perRegionLoadedChunksLock.unlock();
-            }
+            perRegionLoadedChunksLock.unlock();
         }
+    }
 
+    /**
+     * Releases a region acquired for writing, closing it if none of its chunks are loaded.
+     */
+    void releaseRegion(int regionX, int regionZ) {
+        final long regionIndex = regionIndex(regionX, regionZ);
+        perRegionLoadedChunksLock.lock();
         try {
-            final CompoundBinaryTag.Builder chunkData = CompoundBinaryTag.builder();
-
-            chunkData.put(chunk.tagHandler().asCompound());
-
-            chunkData.putInt("DataVersion", MinecraftServer.DATA_VERSION);
-            chunkData.putInt("xPos", chunkX);
-            chunkData.putInt("zPos", chunkZ);
-            chunkData.putInt("yPos", chunk.getMinSection());
-            chunkData.putString("status", "minecraft:full");
-            chunkData.putLong("LastUpdate", chunk.getInstance().getWorldAge());
-
-            saveSectionData(chunk, chunkData);
+            if (regionWriters.addTo(regionIndex, -1) > 1) return;
+            regionWriters.remove(regionIndex);
+            final LongSet chunks = perRegionLoadedChunks.get(regionIndex);
+            if (chunks == null || chunks.isEmpty()) closeRegion(regionX, regionZ);
+        } finally {
+            perRegionLoadedChunksLock.unlock();
+        }
+    }
 
-            mcaFile.writeChunkData(chunkX, chunkZ, chunkData.build());
-        } catch (IOException e) {
-            LOGGER.error("Failed to save chunk {}, {}", chunkX, chunkZ, e);
-            MinecraftServer.getExceptionManager().handleException(e);
+    private void closeRegion(int regionX, int regionZ) {
+        perRegionLoadedChunks.remove(regionIndex(regionX, regionZ));
+        RegionFile regionFile = alreadyLoaded.remove(RegionFile.getFileName(regionX, regionZ));
+        if (regionFile != null) {
+            try {
+                regionFile.close();
+            } catch (IOException e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
         }
     }
 
@@ -529,6 +505,7 @@ public class AnvilLoader implements ChunkLoader {
         final int regionX = chunkToRegion(chunk.getChunkX()), regionZ = chunkToRegion(chunk.getChunkZ());
         final long regionIndex = regionIndex(regionX, regionZ);
 
+        saveQueue.forget(chunkIndex(chunk.getChunkX(), chunk.getChunkZ()));
         perRegionLoadedChunksLock.lock();
         try {
             LongSet chunks = perRegionLoadedChunks.get(regionIndex);
@@ -537,16 +514,9 @@ public class AnvilLoader implements ChunkLoader {
                 final long chunkIndex = chunkIndex(chunk.getChunkX(), chunk.getChunkZ());
                 chunks.remove(chunkIndex);
 
-                if (chunks.isEmpty()) {
-                    perRegionLoadedChunks.remove(regionIndex);
-                    RegionFile regionFile = alreadyLoaded.remove(RegionFile.getFileName(regionX, regionZ));
-                    if (regionFile != null) {
-                        try {
-                            regionFile.close();
-                        } catch (IOException e) {
-                            MinecraftServer.getExceptionManager().handleException(e);
-                        }
-                    }
+                // Regions being written are closed once released
+                if (chunks.isEmpty() && !regionWriters.containsKey(regionIndex)) {
+                    closeRegion(regionX, regionZ);
                 }
             }
         } finally {
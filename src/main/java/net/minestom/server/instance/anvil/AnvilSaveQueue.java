@@ -0,0 +1,243 @@
+package net.minestom.server.instance.anvil;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.Chunk;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static net.minestom.server.coordinate.CoordConversion.*;
+
+/**
+ * Write-behind queue of the chunks saved by an {@link AnvilLoader}.
+ * <p>
+ * Chunks are copied on the saving thread, serialization and compression then run in parallel in the background.
+ * A chunk saved again before being written only keeps its latest copy, and a chunk identical to what was last
+ * written is not written again. Each flush writes the chunks of a region file in a single batch, forced to the disk once.
+ * <p>
+ * Saves block once too many copies are waiting to be written.
+ */
+@ApiStatus.Experimental
+public final class AnvilSaveQueue {
+    private final AnvilLoader loader;
+    private final Semaphore capacity;
+
+    // Chunk index -> waiting save
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    // Chunk index -> digest of the data last written by this queue
+    private final Map<Long, byte[]> writtenDigests = new ConcurrentHashMap<>();
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder unchanged = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder writtenBytes = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+
+    AnvilSaveQueue(AnvilLoader loader, int capacity) {
+        this.loader = loader;
+        this.capacity = new Semaphore(capacity);
+    }
+
+    /**
+     * Copies the chunks and queues them to be written.
+     *
+     * @param chunks the chunks to save
+     * @return a future completed once every chunk is stored
+     */
+    public CompletableFuture<Void> submit(Collection<Chunk> chunks) {
+        final List<CompletableFuture<Void>> futures = new ArrayList<>(chunks.size());
+        for (Chunk chunk : chunks) {
+            // Wait before copying, the copy is what the capacity bounds
+            capacity.acquireUninterruptibly();
+            final Snapshot snapshot;
+            try {
+                synchronized (chunk) {
+                    snapshot = new Snapshot(chunk.copy(chunk.getInstance(), chunk.getChunkX(), chunk.getChunkZ()),
+                            chunk.tagHandler().asCompound(), chunk.getInstance().getWorldAge());
+                }
+            } catch (Throwable e) {
+                // Nothing was queued, the permit is not released by a flush
+                capacity.release();
+                futures.add(CompletableFuture.failedFuture(e));
+                continue;
+            }
+            final Pending entry = pending.compute(chunkIndex(chunk.getChunkX(), chunk.getChunkZ()), (index, existing) -> {
+                if (existing == null) return new Pending(snapshot);
+                existing.snapshot = snapshot;
+                return existing;
+            });
+            submitted.increment();
+            if (entry.created != snapshot) {
+                // Replaced the copy of a waiting save
+                capacity.release();
+                coalesced.increment();
+            }
+            futures.add(entry.future);
+            // Start flushing before the next copy, which may wait for this one to be written
+            if (flushing.compareAndSet(false, true)) Thread.startVirtualThread(this::drain);
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+
+    private void drain() {
+        while (true) {
+            final List<Map.Entry<Long, Pending>> batch = new ArrayList<>();
+            for (Long index : pending.keySet()) {
+                final Pending entry = pending.remove(index);
+                if (entry != null) batch.add(Map.entry(index, entry));
+            }
+            if (batch.isEmpty()) {
+                flushing.set(false);
+                // A save may have been queued after the last check
+                if (pending.isEmpty() || !flushing.compareAndSet(false, true)) return;
+                continue;
+            }
+            try {
+                flush(batch);
+            } finally {
+                capacity.release(batch.size());
+            }
+        }
+    }
+
+    private void flush(List<Map.Entry<Long, Pending>> batch) {
+        // Serialize and compress in parallel, then group the chunks by region
+        final List<Encoded> encoded = batch.parallelStream().map(entry -> encode(entry.getKey(), entry.getValue())).toList();
+        final Long2ObjectOpenHashMap<List<Encoded>> regions = new Long2ObjectOpenHashMap<>();
+        for (Encoded chunk : encoded) {
+            if (chunk.error() != null) {
+                chunk.pending().future.completeExceptionally(chunk.error());
+                continue;
+            }
+            if (chunk.compressed() == null) {
+                unchanged.increment();
+                chunk.pending().future.complete(null);
+                continue;
+            }
+            final int chunkX = chunkIndexGetX(chunk.index()), chunkZ = chunkIndexGetZ(chunk.index());
+            regions.computeIfAbsent(regionIndex(chunkToRegion(chunkX), chunkToRegion(chunkZ)), r -> new ArrayList<>()).add(chunk);
+        }
+
+        for (var region : regions.long2ObjectEntrySet()) {
+            final List<Encoded> chunks = region.getValue();
+            final int regionX = regionIndexGetX(region.getLongKey()), regionZ = regionIndexGetZ(region.getLongKey());
+            try {
+                final RegionFile file = loader.acquireRegion(regionX, regionZ);
+                try {
+                    file.writeChunks(chunks.stream().map(Encoded::compressed).toList());
+                } finally {
+                    loader.releaseRegion(regionX, regionZ);
+                }
+                for (Encoded chunk : chunks) {
+                    writtenDigests.put(chunk.index(), chunk.digest());
+                    written.increment();
+                    writtenBytes.add(chunk.compressed().data().length);
+                    chunk.pending().future.complete(null);
+                }
+            } catch (Throwable e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+                for (Encoded chunk : chunks) chunk.pending().future.completeExceptionally(e);
+            }
+        }
+        flushes.increment();
+    }
+
+    private Encoded encode(long index, Pending entry) {
+        final Snapshot snapshot = entry.snapshot;
+        try {
+            final Chunk chunk = snapshot.chunk();
+            final CompoundBinaryTag data = loader.serializeChunk(chunk, snapshot.tags());
+            // Digest without LastUpdate, which changes on every save
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(RegionFile.serializeChunkData(data));
+            final byte[] previous = writtenDigests.get(index);
+            if (previous != null && Arrays.equals(previous, digest)) {
+                return new Encoded(index, entry, null, digest, null);
+            }
+            final byte[] serialized = RegionFile.serializeChunkData(data.putLong("LastUpdate", snapshot.worldAge()));
+            final RegionFile.CompressedChunk compressed = new RegionFile.CompressedChunk(chunk.getChunkX(), chunk.getChunkZ(),
+                    RegionFile.compressChunkData(serialized));
+            return new Encoded(index, entry, compressed, digest, null);
+        } catch (IOException | NoSuchAlgorithmException | RuntimeException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+            return new Encoded(index, entry, null, null, e);
+        }
+    }
+
+    /**
+     * Forgets the last written data of a chunk, called when the chunk is unloaded.
+     */
+    void forget(long chunkIndex) {
+        writtenDigests.remove(chunkIndex);
+    }
+
+    /**
+     * @return the amount of chunks waiting to be written
+     */
+    public int queueDepth() {
+        return pending.size();
+    }
+
+    public long submittedCount() {
+        return submitted.sum();
+    }
+
+    /**
+     * @return the amount of saves merged into a save still waiting to be written
+     */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * @return the amount of saves skipped because the chunk did not change since it was last written
+     */
+    public long unchangedCount() {
+        return unchanged.sum();
+    }
+
+    public long writtenCount() {
+        return written.sum();
+    }
+
+    /**
+     * @return the amount of compressed bytes written to the region files
+     */
+    public long writtenBytes() {
+        return writtenBytes.sum();
+    }
+
+    public long flushCount() {
+        return flushes.sum();
+    }
+
+    private record Snapshot(Chunk chunk, CompoundBinaryTag tags, long worldAge) {
+    }
+
+    private static final class Pending {
+        private final Snapshot created;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private volatile Snapshot snapshot;
+
+        private Pending(Snapshot snapshot) {
+            this.created = snapshot;
+            this.snapshot = snapshot;
+        }
+    }
+
+    private record Encoded(long index, Pending pending, RegionFile.@Nullable CompressedChunk compressed,
+                           byte @Nullable [] digest, @Nullable Throwable error) {
+    }
+}
@@ -6,15 +6,18 @@ import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.RandomAccessFile;
+import java.io.*;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.BitSet;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 /**
  * Implements a thread-safe reader and writer for Minecraft region files.
@@ -32,15 +35,15 @@ final class RegionFile implements AutoCloseable {
 
     private static final int COMPRESSION_ZLIB = 2;
 
-    private static final BinaryTagIO.Reader TAG_READER = BinaryTagIO.unlimitedReader();
     private static final BinaryTagIO.Writer TAG_WRITER = BinaryTagIO.writer();
 
     public static String getFileName(int regionX, int regionZ) {
         return "r." + regionX + "." + regionZ + ".mca";
     }
 
-    private final ReentrantLock lock = new ReentrantLock();
-    private final RandomAccessFile file;
+    // Reads share the lock, writes move sectors around and need it exclusively
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final FileChannel file;
 
     private final int[] locations = new int[MAX_ENTRY_COUNT];
     private final int[] timestamps = new int[MAX_ENTRY_COUNT];
@@ -51,87 +54,140 @@ final class RegionFile implements AutoCloseable {
     private boolean headerDirty = false;
 
     public RegionFile(Path path) throws IOException {
-        this.file = new RandomAccessFile(path.toFile(), "rw");
+        this.file = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
         readHeader();
     }
 
     public boolean hasChunkData(int chunkX, int chunkZ) {
-        lock.lock();
+        lock.readLock().lock();
         try {
             return locations[getChunkIndex(chunkX, chunkZ)] != 0;
         } finally {
-            lock.unlock();
+            lock.readLock().unlock();
         }
     }
 
-    public @Nullable CompoundBinaryTag readChunkData(int chunkX, int chunkZ) throws IOException {
-        lock.lock();
+    /**
+     * Reads the data of a chunk, reads of different chunks run concurrently.
+     *
+     * @return a stream of the uncompressed NBT data, or null if the chunk is not present
+     */
+    public @Nullable InputStream readChunkData(int chunkX, int chunkZ) throws IOException {
+        final byte[] data;
+        final int compressionType;
+        // Sectors are only reused by writes, which cannot run while reading
+        lock.readLock().lock();
         try {
-            if (!hasChunkData(chunkX, chunkZ)) return null;
-
-            int location = locations[getChunkIndex(chunkX, chunkZ)];
-            file.seek((long) (location >> 8) * SECTOR_SIZE); // Move to start of first sector
-            int length = file.readInt();
-            int compressionType = file.readByte();
-            BinaryTagIO.Compression compression = switch (compressionType) {
-                case 1 -> BinaryTagIO.Compression.GZIP;
-                case COMPRESSION_ZLIB -> BinaryTagIO.Compression.ZLIB;
-                case 3 -> BinaryTagIO.Compression.NONE;
-                default -> throw new IOException("Unsupported compression type: " + compressionType);
-            };
-
-            // Read the raw content
-            byte[] data = new byte[length - 1];
-            file.read(data);
-
-            // Parse it as a compound tag
-            return TAG_READER.read(new ByteArrayInputStream(data), compression);
+            final int location = locations[getChunkIndex(chunkX, chunkZ)];
+            if (location == 0) return null;
+
+            final long position = (long) (location >> 8) * SECTOR_SIZE; // Start of first sector
+            final ByteBuffer header = readFully(ByteBuffer.allocate(CHUNK_HEADER_LENGTH), position);
+            final int length = header.getInt();
+            compressionType = header.get();
+            Check.stateCondition(length <= 1 || length > (location & 0xFF) * SECTOR_SIZE,
+                    "Invalid chunk length {0} at {1}, {2}", length, chunkX, chunkZ);
+            data = readFully(ByteBuffer.allocate(length - 1), position + CHUNK_HEADER_LENGTH).array();
         } finally {
-            lock.unlock();
+            lock.readLock().unlock();
         }
+
+        final InputStream stream = new ByteArrayInputStream(data);
+        return switch (compressionType) {
+            case 1 -> new BufferedInputStream(new GZIPInputStream(stream));
+            case COMPRESSION_ZLIB -> new BufferedInputStream(new InflaterInputStream(stream));
+            case 3 -> stream;
+            default -> throw new IOException("Unsupported compression type: " + compressionType);
+        };
     }
 
-    public void writeChunkData(int chunkX, int chunkZ, CompoundBinaryTag data) throws IOException {
-        // Write the data (compressed)
+    /**
+     * Serializes chunk data without compression, can be called from any thread.
+     */
+    static byte[] serializeChunkData(CompoundBinaryTag data) throws IOException {
         ByteArrayOutputStream out = new ByteArrayOutputStream();
-        TAG_WRITER.writeNamed(Map.entry("", data), out, BinaryTagIO.Compression.ZLIB);
-        byte[] dataBytes = out.toByteArray();
-        int chunkLength = CHUNK_HEADER_LENGTH + dataBytes.length;
+        TAG_WRITER.writeNamed(Map.entry("", data), out, BinaryTagIO.Compression.NONE);
+        return out.toByteArray();
+    }
 
-        int sectorCount = (int) Math.ceil(chunkLength / (double) SECTOR_SIZE);
-        Check.stateCondition(sectorCount >= SECTOR_1MB, "Chunk data is too large to fit in a region file");
+    /**
+     * Compresses serialized chunk data for {@link #writeChunks(List)}, can be called from any thread.
+     */
+    static byte[] compressChunkData(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4);
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(out)) {
+            deflater.write(data);
+        }
+        return out.toByteArray();
+    }
 
-        lock.lock();
+    /**
+     * Writes a batch of compressed chunks, the header is written and the file forced to the disk once per batch.
+     *
+     * @param chunks the chunks to write, compressed with {@link #compressChunkData(byte[])}
+     */
+    public void writeChunks(List<CompressedChunk> chunks) throws IOException {
+        if (chunks.isEmpty()) return;
+        lock.writeLock().lock();
         try {
-            // We don't attempt to reuse the current allocation, just write it to a new position and free the old one.
-            int chunkIndex = getChunkIndex(chunkX, chunkZ);
-            int oldLocation = locations[chunkIndex];
-
-            // Find a new location
-            int firstSector = findFreeSectors(sectorCount);
-            if (firstSector == -1) {
-                firstSector = allocSectors(sectorCount);
+            // store timestamps in seconds since epoch
+            final int timestamp = (int) (System.currentTimeMillis() / 1000);
+            // The header on disk still points to the old sectors until the batch is forced, they cannot be reused before
+            final int[] oldLocations = new int[chunks.size()];
+            for (int i = 0; i < oldLocations.length; i++) {
+                final CompressedChunk chunk = chunks.get(i);
+                oldLocations[i] = writeChunk(chunk.chunkX(), chunk.chunkZ(), chunk.data(), timestamp);
             }
-            int newLocation = (firstSector << 8) | sectorCount;
+            writeHeader();
+            file.force(true);
+            for (int oldLocation : oldLocations) {
+                if (oldLocation != 0) markLocationInBitSet(oldLocation, true);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes a chunk to new sectors, the sectors it used before are left marked as used.
+     *
+     * @return the previous location of the chunk, to free once the header is on the disk
+     */
+    private int writeChunk(int chunkX, int chunkZ, byte[] dataBytes, int timestamp) throws IOException {
+        int chunkLength = CHUNK_HEADER_LENGTH + dataBytes.length;
 
-            // Mark the sectors as used & free the old sectors
-            markLocation(oldLocation, true);
-            markLocation(newLocation, false);
+        int sectorCount = (int) Math.ceil(chunkLength / (double) SECTOR_SIZE);
+        Check.stateCondition(sectorCount >= SECTOR_1MB, "Chunk data is too large to fit in a region file");
 
-            // Write the chunk data
-            file.seek((long) firstSector * SECTOR_SIZE);
-            file.writeInt(chunkLength);
-            file.writeByte(COMPRESSION_ZLIB);
-            file.write(dataBytes);
+        // We don't attempt to reuse the current allocation, just write it to a new position and free the old one.
+        int chunkIndex = getChunkIndex(chunkX, chunkZ);
+        int oldLocation = locations[chunkIndex];
 
-            // Update the header and write it
-            locations[chunkIndex] = newLocation;
-            // store timestamps in seconds since epoch
-            timestamps[chunkIndex] = (int) (System.currentTimeMillis() / 1000);
-            writeHeader();
-        } finally {
-            lock.unlock();
+        // Find a new location
+        int firstSector = findFreeSectors(sectorCount);
+        if (firstSector == -1) {
+            firstSector = allocSectors(sectorCount);
         }
+        int newLocation = (firstSector << 8) | sectorCount;
+
+        // Mark the sectors as used, the old sectors are freed by the caller
+        markLocation(newLocation, false);
+
+        // Write the chunk data
+        final ByteBuffer buffer = ByteBuffer.allocate(CHUNK_HEADER_LENGTH + dataBytes.length);
+        buffer.putInt(chunkLength).put((byte) COMPRESSION_ZLIB).put(dataBytes).flip();
+        writeFully(buffer, (long) firstSector * SECTOR_SIZE);
+
+        // Update the header, written once the whole batch is done
+        locations[chunkIndex] = newLocation;
+        timestamps[chunkIndex] = timestamp;
+        return oldLocation;
+    }
+
+    /**
+     * Chunk data compressed by {@link #compressChunkData(byte[])}.
+     */
+    record CompressedChunk(int chunkX, int chunkZ, byte[] data) {
     }
 
     @Override
@@ -139,29 +195,38 @@ final class RegionFile implements AutoCloseable {
         file.close();
     }
 
+    private ByteBuffer readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            final int read = file.read(buffer, position + buffer.position());
+            if (read == -1) throw new EOFException("Unexpected end of region file at " + (position + buffer.position()));
+        }
+        return buffer.flip();
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            file.write(buffer, position + buffer.position());
+        }
+    }
+
     private int getChunkIndex(int chunkX, int chunkZ) {
         return (CoordConversion.chunkToRegionLocal(chunkZ) << 5) | CoordConversion.chunkToRegionLocal(chunkX);
     }
 
     private void readHeader() throws IOException {
-        file.seek(0);
-        if (file.length() < HEADER_LENGTH) {
+        if (file.size() < HEADER_LENGTH) {
             // new file, fill in data
-            file.write(new byte[HEADER_LENGTH]);
+            writeFully(ByteBuffer.allocate(HEADER_LENGTH), 0);
         }
 
-        final long totalSectors = ((file.length() - 1) / SECTOR_SIZE) + 1; // Round up, last sector does not need to be full size
+        final long totalSectors = ((file.size() - 1) / SECTOR_SIZE) + 1; // Round up, last sector does not need to be full size
         freeSectors.set(0, (int) totalSectors); // Set all sectors as free initially
         freeSectors.clear(0); // First sector is locations
         freeSectors.clear(1); // Second sector is timestamps
 
         // Read entire header in one operation
-        file.seek(0);
-        byte[] headerData = new byte[HEADER_LENGTH];
-        file.readFully(headerData);
         headerBuffer.clear();
-        headerBuffer.put(headerData);
-        headerBuffer.flip();
+        readFully(headerBuffer, 0);
 
         // Parse locations from buffer
         for (int i = 0; i < MAX_ENTRY_COUNT; i++) {
@@ -195,8 +260,7 @@ final class RegionFile implements AutoCloseable {
         }
 
         // Write entire header in one operation
-        file.seek(0);
-        file.write(headerBuffer.array());
+        writeFully(headerBuffer.flip(), 0);
         headerDirty = false;
     }
 
@@ -214,15 +278,11 @@ final class RegionFile implements AutoCloseable {
     }
 
     private int allocSectors(int count) throws IOException {
-        var eof = file.length();
-        file.seek(eof);
+        var eof = file.size();
 
-        byte[] emptySector = new byte[SECTOR_SIZE];
         int startSector = (int) (eof / SECTOR_SIZE);
-        for (int i = 0; i < count; i++) {
-            freeSectors.set(startSector + i, true);
-            file.write(emptySector);
-        }
+        freeSectors.set(startSector, startSector + count, true);
+        writeFully(ByteBuffer.allocate(count * SECTOR_SIZE), eof);
         return startSector;
     }
 
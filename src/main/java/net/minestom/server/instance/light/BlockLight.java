@@ -1,15 +1,13 @@
 package net.minestom.server.instance.light;
 
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.shorts.ShortArrayFIFOQueue;
-import net.minestom.server.coordinate.BlockVec;
-import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.palette.Palette;
 import org.jetbrains.annotations.ApiStatus;
 
-import java.util.HashSet;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static net.minestom.server.coordinate.CoordConversion.SECTION_BLOCK_COUNT;
@@ -31,22 +29,23 @@ final class BlockLight implements Light {
     }
 
     static ShortArrayFIFOQueue buildInternalQueue(Palette blockPalette) {
-        if (blockPalette.isEmpty()) return new ShortArrayFIFOQueue(0); // Avoid state id lookup for air
+        return buildInternalQueue(blockPalette, new ShortArrayFIFOQueue());
+    }
+
+    static ShortArrayFIFOQueue buildInternalQueue(Palette blockPalette, ShortArrayFIFOQueue lightSources) {
+        if (blockPalette.isEmpty()) return lightSources; // Avoid state id lookup for air
 
         int singleValue = blockPalette.singleValue();
         if (singleValue != -1) {
             Block block = Block.fromStateId(singleValue);
             assert block != null;
             int lightEmission = block.registry().lightEmission();
-            if (lightEmission <= 0) return new ShortArrayFIFOQueue(0);
-            ShortArrayFIFOQueue lightSources = new ShortArrayFIFOQueue(SECTION_BLOCK_COUNT);
+            if (lightEmission <= 0) return lightSources;
             final int prefix = lightEmission << 12;
             for (int index = 0; index < SECTION_BLOCK_COUNT; index++) {
                 lightSources.enqueue((short) (index | prefix));
             }
-            return lightSources;
         } else {
-            ShortArrayFIFOQueue lightSources = new ShortArrayFIFOQueue();
             // Apply section light
             blockPalette.getAllPresent((x, y, z, stateId) -> {
                 final Block block = Block.fromStateId(stateId);
@@ -56,8 +55,8 @@ final class BlockLight implements Light {
                 final int index = x | (z << 4) | (y << 8);
                 lightSources.enqueue((short) (index | (lightEmission << 12)));
             });
-            return lightSources;
         }
+        return lightSources;
     }
 
     @Override
@@ -104,13 +103,14 @@ final class BlockLight implements Light {
     }
 
     @Override
-    public Set<Point> calculateInternal(Palette blockPalette,
-                                        int chunkX, int chunkY, int chunkZ,
-                                        int[] heightmap, int maxY,
-                                        LightLookup lightLookup) {
+    public void calculateInternal(Palette blockPalette,
+                                  int chunkX, int chunkY, int chunkZ,
+                                  int[] heightmap, int maxY,
+                                  LightLookup lightLookup,
+                                  LongSet toUpdate) {
         this.isValidBorders = true;
         // Update single section with base lighting changes
-        ShortArrayFIFOQueue queue = buildInternalQueue(blockPalette);
+        ShortArrayFIFOQueue queue = buildInternalQueue(blockPalette, LightCompute.scratchQueue());
         this.content = LightCompute.compute(blockPalette, queue);
         // Propagate changes to neighbors and self
         for (int i = -1; i <= 1; i++) {
@@ -125,28 +125,29 @@ final class BlockLight implements Light {
                 }
             }
         }
-        return Set.of(new BlockVec(chunkX, chunkY, chunkZ));
+        toUpdate.add(CoordConversion.sectionIndex(chunkX, chunkY, chunkZ));
     }
 
     @Override
-    public Set<Point> calculateExternal(Palette blockPalette,
-                                        Point[] neighbors,
-                                        LightLookup lightLookup,
-                                        PaletteLookup paletteLookup) {
-        if (!isValidBorders) return Set.of();
+    public void calculateExternal(Palette blockPalette,
+                                  long[] neighbors,
+                                  LightLookup lightLookup,
+                                  PaletteLookup paletteLookup,
+                                  LongSet toUpdate) {
+        if (!isValidBorders) return;
         ShortArrayFIFOQueue queue = buildExternalQueue(blockPalette, neighbors, content, lightLookup, paletteLookup);
-        final byte[] contentPropagationTemp = LightCompute.compute(blockPalette, queue);
-        this.contentPropagationSwap = LightCompute.bake(contentPropagationSwap, contentPropagationTemp);
+        final byte[] contentPropagationTemp = LightCompute.computeScratch(blockPalette, queue);
+        byte[] baked = LightCompute.bake(contentPropagationSwap, contentPropagationTemp);
+        if (baked == contentPropagationTemp && baked != EMPTY_CONTENT) baked = baked.clone(); // Do not keep the scratch array
+        this.contentPropagationSwap = baked;
         // Propagate changes to neighbors and self
-        Set<Point> toUpdate = new HashSet<>();
         for (int i = 0; i < neighbors.length; i++) {
-            final Point neighbor = neighbors[i];
-            if (neighbor == null) continue;
+            final long neighbor = neighbors[i];
+            if (neighbor == NO_SECTION) continue;
             final BlockFace face = FACES[i];
             if (!LightCompute.compareBorders(content, contentPropagation, contentPropagationTemp, face)) {
                 toUpdate.add(neighbor);
             }
         }
-        return toUpdate;
     }
 }
@@ -1,15 +1,13 @@
 package net.minestom.server.instance.light;
 
-import net.minestom.server.coordinate.BlockVec;
-import net.minestom.server.coordinate.Point;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.palette.Palette;
 import net.minestom.server.utils.Direction;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Set;
-
 public interface Light {
     static Light sky() {
         return new SkyLight();
@@ -34,36 +32,50 @@ public interface Light {
 
     void set(byte[] copyArray);
 
+    /**
+     * Computes the light emitted inside the section.
+     *
+     * @param toUpdate receives the packed indexes ({@link CoordConversion#sectionIndex(int, int, int)})
+     *                 of the sections which must be propagated next
+     */
     @ApiStatus.Internal
-    Set<Point> calculateInternal(Palette blockPalette,
-                                 int chunkX, int chunkY, int chunkZ,
-                                 int[] heightmap, int maxY,
-                                 LightLookup lightLookup);
-
+    void calculateInternal(Palette blockPalette,
+                           int chunkX, int chunkY, int chunkZ,
+                           int[] heightmap, int maxY,
+                           LightLookup lightLookup,
+                           LongSet toUpdate);
+
+    /**
+     * Computes the light entering the section from its neighbors.
+     *
+     * @param neighbors the neighbor section indexes filled by {@link #getNeighbors(Chunk, int, long[])}
+     * @param toUpdate  receives the packed indexes of the sections which must be propagated next
+     */
     @ApiStatus.Internal
-    Set<Point> calculateExternal(Palette blockPalette,
-                                 Point[] neighbors,
-                                 LightLookup lightLookup,
-                                 PaletteLookup paletteLookup);
+    void calculateExternal(Palette blockPalette,
+                           long[] neighbors,
+                           LightLookup lightLookup,
+                           PaletteLookup paletteLookup,
+                           LongSet toUpdate);
 
     @ApiStatus.Internal
-    static Point[] getNeighbors(Chunk chunk, int sectionY) {
+    static long[] getNeighbors(Chunk chunk, int sectionY, long[] neighbors) {
         final int chunkX = chunk.getChunkX(), chunkZ = chunk.getChunkZ();
 
-        Point[] links = new BlockVec[LightCompute.DIRECTIONS.length];
         for (Direction direction : LightCompute.DIRECTIONS) {
             final int x = chunkX + direction.normalX();
             final int z = chunkZ + direction.normalZ();
             final int y = sectionY + direction.normalY();
 
+            neighbors[direction.ordinal()] = LightCompute.NO_SECTION;
             Chunk foundChunk = chunk.getInstance().getChunk(x, z);
             if (foundChunk == null) continue;
             if (y - foundChunk.getMinSection() > foundChunk.getMaxSection() || y - foundChunk.getMinSection() < 0)
                 continue;
 
-            links[direction.ordinal()] = new BlockVec(foundChunk.getChunkX(), y, foundChunk.getChunkZ());
+            neighbors[direction.ordinal()] = CoordConversion.sectionIndex(x, y, z);
         }
-        return links;
+        return neighbors;
     }
 
     @FunctionalInterface
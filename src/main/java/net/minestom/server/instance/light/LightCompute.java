@@ -2,7 +2,7 @@ package net.minestom.server.instance.light;
 
 import it.unimi.dsi.fastutil.shorts.ShortArrayFIFOQueue;
 import net.minestom.server.collision.Shape;
-import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.palette.Palette;
@@ -19,6 +19,15 @@ public final class LightCompute {
     static final int LIGHT_LENGTH = SECTION_BLOCK_COUNT / 2;
     static final int SECTION_SIZE = 16;
 
+    /**
+     * Marks a missing neighbor in the arrays filled by {@link Light#getNeighbors(net.minestom.server.instance.Chunk, int, long[])},
+     * never a valid {@link CoordConversion#sectionIndex(int, int, int)}.
+     */
+    public static final long NO_SECTION = -1L;
+
+    // Reused by every computation made on the thread, light is computed one section at a time
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
     public static final byte[] UNSET_CONTENT = new byte[0];
     public static final byte[] EMPTY_CONTENT = new byte[LIGHT_LENGTH];
     public static final byte[] CONTENT_FULLY_LIT = new byte[LIGHT_LENGTH];
@@ -34,17 +43,31 @@ public final class LightCompute {
         else return content.clone();
     }
 
+    /**
+     * Gets the thread scratch queue, emptied.
+     * <p>
+     * The queue is only valid until the next computation made on the current thread.
+     */
+    static ShortArrayFIFOQueue scratchQueue() {
+        final ShortArrayFIFOQueue queue = SCRATCH.get().sources;
+        queue.clear();
+        return queue;
+    }
+
     static ShortArrayFIFOQueue buildExternalQueue(Palette blockPalette,
-                                                  Point[] neighbors, byte[] content,
+                                                  long[] neighbors, byte[] content,
                                                   Light.LightLookup lightLookup,
                                                   Light.PaletteLookup paletteLookup) {
-        ShortArrayFIFOQueue lightSources = new ShortArrayFIFOQueue();
+        final ShortArrayFIFOQueue lightSources = scratchQueue();
         for (int i = 0; i < neighbors.length; i++) {
-            Point neighborSection = neighbors[i];
-            if (neighborSection == null) continue;
-            Palette otherPalette = paletteLookup.palette(neighborSection.blockX(), neighborSection.blockY(), neighborSection.blockZ());
+            final long neighborSection = neighbors[i];
+            if (neighborSection == NO_SECTION) continue;
+            final int neighborX = CoordConversion.sectionIndexGetX(neighborSection);
+            final int neighborY = CoordConversion.sectionIndexGetY(neighborSection);
+            final int neighborZ = CoordConversion.sectionIndexGetZ(neighborSection);
+            Palette otherPalette = paletteLookup.palette(neighborX, neighborY, neighborZ);
             if (otherPalette == null) continue;
-            Light otherLight = lightLookup.light(neighborSection.blockX(), neighborSection.blockY(), neighborSection.blockZ());
+            Light otherLight = lightLookup.light(neighborX, neighborY, neighborZ);
             if (otherLight == null) continue;
 
             final BlockFace face = FACES[i];
@@ -112,12 +135,28 @@ public final class LightCompute {
      * @param lightPre     shorts queue in format: [4bit light level][4bit y][4bit z][4bit x]
      * @return lighting wrapped in Result
      */
-    static byte [] compute(Palette blockPalette, ShortArrayFIFOQueue lightPre) {
+    static byte[] compute(Palette blockPalette, ShortArrayFIFOQueue lightPre) {
         if (lightPre.isEmpty()) return EMPTY_CONTENT;
+        return compute(blockPalette, lightPre, new byte[LIGHT_LENGTH]);
+    }
 
-        final byte[] lightArray = new byte[LIGHT_LENGTH];
+    /**
+     * Computes light in one section into the thread scratch array.
+     * <p>
+     * The result must be copied if kept, it is only valid until the next computation made on the current thread.
+     *
+     * @see #compute(Palette, ShortArrayFIFOQueue)
+     */
+    static byte[] computeScratch(Palette blockPalette, ShortArrayFIFOQueue lightPre) {
+        if (lightPre.isEmpty()) return EMPTY_CONTENT;
+        final byte[] lightArray = SCRATCH.get().light;
+        Arrays.fill(lightArray, (byte) 0);
+        return compute(blockPalette, lightPre, lightArray);
+    }
 
-        final ShortArrayFIFOQueue lightSources = new ShortArrayFIFOQueue();
+    private static byte[] compute(Palette blockPalette, ShortArrayFIFOQueue lightPre, byte[] lightArray) {
+        final ShortArrayFIFOQueue lightSources = SCRATCH.get().propagation;
+        lightSources.clear();
 
         while (!lightPre.isEmpty()) {
             final int index = lightPre.dequeueShort();
@@ -258,4 +297,10 @@ public final class LightCompute {
         }
         return true;
     }
+
+    private static final class Scratch {
+        final ShortArrayFIFOQueue sources = new ShortArrayFIFOQueue(SECTION_BLOCK_COUNT);
+        final ShortArrayFIFOQueue propagation = new ShortArrayFIFOQueue(SECTION_BLOCK_COUNT);
+        final byte[] light = new byte[LIGHT_LENGTH];
+    }
 }
@@ -1,14 +1,12 @@
 package net.minestom.server.instance.light;
 
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.shorts.ShortArrayFIFOQueue;
-import net.minestom.server.coordinate.BlockVec;
-import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.palette.Palette;
 import org.jetbrains.annotations.ApiStatus;
 
-import java.util.HashSet;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static net.minestom.server.coordinate.CoordConversion.SECTION_BLOCK_COUNT;
@@ -32,7 +30,10 @@ final class SkyLight implements Light {
     }
 
     static ShortArrayFIFOQueue buildInternalQueue(int[] heightmap, int maxY, int sectionY) {
-        ShortArrayFIFOQueue lightSources = new ShortArrayFIFOQueue();
+        return buildInternalQueue(heightmap, maxY, sectionY, new ShortArrayFIFOQueue());
+    }
+
+    static ShortArrayFIFOQueue buildInternalQueue(int[] heightmap, int maxY, int sectionY, ShortArrayFIFOQueue lightSources) {
         final int sectionMaxY = (sectionY + 1) * 16 - 1;
         final int sectionMinY = sectionY * 16;
         for (int x = 0; x < 16; x++) {
@@ -91,17 +92,18 @@ final class SkyLight implements Light {
     }
 
     @Override
-    public Set<Point> calculateInternal(Palette blockPalette,
-                                        int chunkX, int chunkY, int chunkZ,
-                                        int[] heightmap, int maxY,
-                                        LightLookup lightLookup) {
+    public void calculateInternal(Palette blockPalette,
+                                  int chunkX, int chunkY, int chunkZ,
+                                  int[] heightmap, int maxY,
+                                  LightLookup lightLookup,
+                                  LongSet toUpdate) {
         this.isValidBorders = true;
 
         // Update single section with base lighting changes
         int queueSize = SECTION_BLOCK_COUNT;
-        ShortArrayFIFOQueue queue = new ShortArrayFIFOQueue(0);
+        ShortArrayFIFOQueue queue = LightCompute.scratchQueue();
         if (!fullyLit) {
-            queue = buildInternalQueue(heightmap, maxY, chunkY);
+            buildInternalQueue(heightmap, maxY, chunkY, queue);
             queueSize = queue.size();
         }
 
@@ -113,7 +115,6 @@ final class SkyLight implements Light {
         }
 
         // Propagate changes to neighbors and self
-        Set<Point> toUpdate = new HashSet<>();
         for (int i = -1; i <= 1; i++) {
             for (int j = -1; j <= 1; j++) {
                 for (int k = -1; k <= 1; k++) {
@@ -123,38 +124,38 @@ final class SkyLight implements Light {
                     if (!(lightLookup.light(neighborX, neighborY, neighborZ) instanceof SkyLight skyLight))
                         continue;
                     skyLight.contentPropagation = null;
-                    toUpdate.add(new BlockVec(neighborX, neighborY, neighborZ));
+                    toUpdate.add(CoordConversion.sectionIndex(neighborX, neighborY, neighborZ));
                 }
             }
         }
-        toUpdate.add(new BlockVec(chunkX, chunkY, chunkZ));
-        return toUpdate;
+        toUpdate.add(CoordConversion.sectionIndex(chunkX, chunkY, chunkZ));
     }
 
     @Override
-    public Set<Point> calculateExternal(Palette blockPalette,
-                                        Point[] neighbors,
-                                        LightLookup lightLookup,
-                                        PaletteLookup paletteLookup) {
-        if (!isValidBorders) return Set.of();
+    public void calculateExternal(Palette blockPalette,
+                                  long[] neighbors,
+                                  LightLookup lightLookup,
+                                  PaletteLookup paletteLookup,
+                                  LongSet toUpdate) {
+        if (!isValidBorders) return;
         byte[] contentPropagationTemp = CONTENT_FULLY_LIT;
         if (!fullyLit) {
             ShortArrayFIFOQueue queue = buildExternalQueue(blockPalette, neighbors, content, lightLookup, paletteLookup);
-            contentPropagationTemp = LightCompute.compute(blockPalette, queue);
-            this.contentPropagationSwap = LightCompute.bake(contentPropagationSwap, contentPropagationTemp);
+            contentPropagationTemp = LightCompute.computeScratch(blockPalette, queue);
+            byte[] baked = LightCompute.bake(contentPropagationSwap, contentPropagationTemp);
+            if (baked == contentPropagationTemp && baked != EMPTY_CONTENT) baked = baked.clone(); // Do not keep the scratch array
+            this.contentPropagationSwap = baked;
         } else {
             this.contentPropagationSwap = null;
         }
         // Propagate changes to neighbors and self
-        Set<Point> toUpdate = new HashSet<>();
         for (int i = 0; i < neighbors.length; i++) {
-            final Point neighbor = neighbors[i];
-            if (neighbor == null) continue;
+            final long neighbor = neighbors[i];
+            if (neighbor == NO_SECTION) continue;
             final BlockFace face = FACES[i];
             if (!LightCompute.compareBorders(content, contentPropagation, contentPropagationTemp, face)) {
                 toUpdate.add(neighbor);
             }
         }
-        return toUpdate;
     }
 }
@@ -27,6 +27,8 @@ final class PaletteImpl implements Palette {
     @UnknownNullability IntArrayList paletteToValueList; // null when using direct mode (bitsPerEntry > maxBitsPerEntry)
     // value = palette index
     @UnknownNullability Int2IntOpenHashMap valueToPaletteMap; // null when using direct mode (bitsPerEntry > maxBitsPerEntry)
+    // Whether the storage above may be referenced by a clone, must be detached before any in-place write
+    boolean shared = false;
 
     PaletteImpl(byte dimension, byte minBitsPerEntry, byte maxBitsPerEntry, byte directBits) {
         validateDimension(dimension);
@@ -105,6 +107,7 @@ final class PaletteImpl implements Palette {
     @Override
     public void set(int x, int y, int z, int value) {
         validateCoord(dimension, x, y, z);
+        detach();
         final int paletteIndex = valueToPaletteIndex(value);
         final int oldValue = Palettes.write(dimension(), bitsPerEntry, values, x, y, z, paletteIndex);
         // Check if block count needs to be updated
@@ -114,6 +117,7 @@ final class PaletteImpl implements Palette {
 
     @Override
     public void fill(int value) {
+        this.shared = false;
         this.bitsPerEntry = 0;
         this.count = value;
         this.values = null;
@@ -128,6 +132,7 @@ final class PaletteImpl implements Palette {
         boolean useDirectMode = bpe > maxBitsPerEntry;
         if (useDirectMode) bpe = directBits;
         this.bitsPerEntry = (byte) bpe;
+        this.shared = false;
 
         if (useDirectMode) {
             // Direct mode: convert from palette indices to direct values
@@ -191,6 +196,7 @@ final class PaletteImpl implements Palette {
         if (bitsPerEntry == 0) {
             if (oldValue == count) fill(newValue);
         } else {
+            detach();
             if (hasPalette()) {
                 final int index = valueToPaletteMap.get(oldValue);
                 if (index == -1) return; // Old value not present in palette
@@ -241,6 +247,7 @@ final class PaletteImpl implements Palette {
         assert index == maxSize();
         // Update palette content
         if (fillValue < 0) {
+            detach();
             makeDirect();
             updateAll(cache);
             this.count = count;
@@ -271,6 +278,7 @@ final class PaletteImpl implements Palette {
         });
         assert arrayIndex.getPlain() == maxSize();
         // Update palette content
+        detach();
         makeDirect();
         updateAll(cache);
         this.count = count.getPlain();
@@ -300,6 +308,7 @@ final class PaletteImpl implements Palette {
         if (maxX <= 0 || maxY <= 0 || maxZ <= 0) {
             return;
         }
+        detach();
 
         // Fast path: if source is single-value palette
         if (sourcePalette.bitsPerEntry == 0) {
@@ -409,6 +418,7 @@ final class PaletteImpl implements Palette {
         }
 
         // Copy
+        this.shared = false;
         this.bitsPerEntry = sourcePalette.bitsPerEntry;
         this.count = sourcePalette.count;
 
@@ -513,6 +523,7 @@ final class PaletteImpl implements Palette {
             // Already optimized (single value)
             return;
         }
+        detach();
 
         // Count unique values
         IntSet uniqueValues = new IntOpenHashSet();
@@ -555,6 +566,8 @@ final class PaletteImpl implements Palette {
         return true;
     }
 
+    /// Clones are copy-on-write: both palettes share their storage until one of them is written to,
+    /// making chunk copies (e.g. from a world template) cheap for sections that are never modified.
     @SuppressWarnings("MethodDoesntCallSuperMethod")
     @Override
     public Palette clone() {
@@ -562,12 +575,23 @@ final class PaletteImpl implements Palette {
         clone.bitsPerEntry = this.bitsPerEntry;
         clone.count = this.count;
         if (bitsPerEntry == 0) return clone;
-        clone.values = values.clone();
-        if (paletteToValueList != null) clone.paletteToValueList = paletteToValueList.clone();
-        if (valueToPaletteMap != null) clone.valueToPaletteMap = valueToPaletteMap.clone();
+        clone.values = values;
+        clone.paletteToValueList = paletteToValueList;
+        clone.valueToPaletteMap = valueToPaletteMap;
+        clone.shared = true;
+        this.shared = true;
         return clone;
     }
 
+    /// Gives this palette its own copy of the storage if it may still be referenced by a clone.
+    void detach() {
+        if (!shared) return;
+        this.shared = false;
+        if (values != null) this.values = values.clone();
+        if (paletteToValueList != null) this.paletteToValueList = paletteToValueList.clone();
+        if (valueToPaletteMap != null) this.valueToPaletteMap = valueToPaletteMap.clone();
+    }
+
     private void retrieveAll(EntryConsumer consumer, boolean consumeEmpty) {
         if (!consumeEmpty && count == 0) return;
         final long[] values = this.values;
@@ -699,6 +723,7 @@ final class PaletteImpl implements Palette {
     public int valueToPaletteIndex(int value) {
         if (!hasPalette()) return value;
         if (values == null) initIndirect();
+        else detach();
 
         final int lastPaletteIndex = this.paletteToValueList.size();
         final int lookup = valueToPaletteMap.putIfAbsent(value, lastPaletteIndex);
@@ -317,8 +317,11 @@ public sealed interface ItemStack extends TagReadable, DataComponent.Holder, Hov
     sealed interface Hash permits ItemStackHashImpl.Air, ItemStackHashImpl.Item {
         Hash AIR = new ItemStackHashImpl.Air();
 
+        /**
+         * Gets the hash of a stack, cached for every stack and component value already hashed.
+         */
         static Hash of(ItemStack itemStack) {
-            return ItemStackHashImpl.of(new RegistryTranscoder<>(Transcoder.CRC32_HASH, MinecraftServer.process()), itemStack);
+            return ItemStackHashImpl.cached(itemStack);
         }
 
         NetworkBuffer.Type<Hash> NETWORK_TYPE = ItemStackHashImpl.NETWORK_TYPE;
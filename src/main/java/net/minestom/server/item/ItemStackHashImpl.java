@@ -1,39 +1,132 @@
 package net.minestom.server.item;
 
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerProcess;
 import net.minestom.server.codec.Transcoder;
 import net.minestom.server.component.DataComponent;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.NetworkBufferTemplate;
+import net.minestom.server.registry.RegistryTranscoder;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 
-//TODO(1.21.5) hashes of components should be cached. Vanilla does it on a per player basis, could also do it globally perhaps.
 final class ItemStackHashImpl {
+    private static volatile @Nullable Cache cache;
 
     public static ItemStack.Hash of(Transcoder<Integer> hashCoder, ItemStack itemStack) {
-        if (itemStack.isAir()) return net.minestom.server.item.ItemStack.Hash.AIR;
+        return of(itemStack, (component, value) -> component.encode(hashCoder, value).orElseThrow());
+    }
+
+    /**
+     * Hashes a stack with the registries of the current process.
+     * Hashes are cached per stack instance, component hashes are shared by every equal component.
+     */
+    public static ItemStack.Hash cached(ItemStack itemStack) {
+        if (itemStack.isAir()) return ItemStack.Hash.AIR;
+        final Cache cache = cache();
+        ItemStack.Hash hash = cache.stacks.get(new StackKey(itemStack, null));
+        if (hash != null) return hash;
+        hash = of(itemStack, cache::componentHash);
+        cache.expungeStaleStacks();
+        cache.stacks.put(new StackKey(itemStack, cache.queue), hash);
+        return hash;
+    }
+
+    private static Cache cache() {
+        final ServerProcess process = MinecraftServer.process();
+        Cache cache = ItemStackHashImpl.cache;
+        // Hashes depend on the registries, the cache is dropped along with the process
+        if (cache == null || cache.process != process) {
+            ItemStackHashImpl.cache = cache = new Cache(process);
+        }
+        return cache;
+    }
+
+    private static ItemStack.Hash of(ItemStack itemStack, BiFunction<DataComponent<Object>, Object, Integer> hasher) {
+        if (itemStack.isAir()) return ItemStack.Hash.AIR;
 
         final Map<DataComponent<?>, Integer> addedComponents = new HashMap<>();
         final Set<DataComponent<?>> removedComponents = new HashSet<>();
         for (var entry : itemStack.componentPatch().entrySet()) {
             if (entry.value() != null) {
-                addedComponents.put(entry.component(), ((DataComponent<Object>) entry.component()).encode(hashCoder, entry.value()).orElseThrow());
+                //noinspection unchecked
+                addedComponents.put(entry.component(), hasher.apply((DataComponent<Object>) entry.component(), entry.value()));
             } else {
                 removedComponents.add(entry.component());
             }
 
         }
+        // Cached hashes are shared, keep them immutable
         return new ItemStackHashImpl.Item(
                 itemStack.material(),
                 itemStack.amount(),
-                addedComponents,
-                removedComponents
+                Map.copyOf(addedComponents),
+                Set.copyOf(removedComponents)
         );
     }
 
+    private static final class Cache {
+        private final ServerProcess process;
+        private final Transcoder<Integer> hashCoder;
+        // Stacks are immutable and usually hashed again as the same instance (cursor, slot contents),
+        // keys are compared by identity so a lookup never walks the components of the stack
+        private final Map<StackKey, ItemStack.Hash> stacks = new ConcurrentHashMap<>();
+        private final ReferenceQueue<ItemStack> queue = new ReferenceQueue<>();
+        private final Map<DataComponent<?>, Map<Object, Integer>> components = new ConcurrentHashMap<>();
+
+        private Cache(ServerProcess process) {
+            this.process = process;
+            this.hashCoder = new RegistryTranscoder<>(Transcoder.CRC32_HASH, process);
+        }
+
+        private void expungeStaleStacks() {
+            Reference<? extends ItemStack> reference;
+            while ((reference = queue.poll()) != null) {
+                stacks.remove((StackKey) reference);
+            }
+        }
+
+        private Integer componentHash(DataComponent<Object> component, Object value) {
+            final Map<Object, Integer> hashes = components.computeIfAbsent(component, c -> new WeakHashMap<>());
+            synchronized (hashes) {
+                Integer hash = hashes.get(value);
+                if (hash == null) {
+                    hash = component.encode(hashCoder, value).orElseThrow();
+                    hashes.put(value, hash);
+                }
+                return hash;
+            }
+        }
+    }
+
+    private static final class StackKey extends WeakReference<ItemStack> {
+        private final int hash;
+
+        private StackKey(ItemStack itemStack, @Nullable ReferenceQueue<ItemStack> queue) {
+            super(itemStack, queue);
+            this.hash = System.identityHashCode(itemStack);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof StackKey other)) return false;
+            final ItemStack itemStack = get();
+            return itemStack != null && itemStack == other.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
     public static final NetworkBuffer.Type<ItemStack.Hash> NETWORK_TYPE = new NetworkBuffer.Type<>() {
         @Override
         public void write(NetworkBuffer buffer, ItemStack.Hash value) {
@@ -57,15 +57,15 @@ public final class ConnectionManager {
     // Players waiting to be (re) configured
     private final MessagePassingQueue<Player> configWaitingPlayers = ConcurrentMessageQueues.mpscUnboundedArrayQueue(64);
     // Players in configuration state
-    private final Set<Player> configurationPlayers = new CopyOnWriteArraySet<>();
-    // Players in play state
-    private final Set<Player> playPlayers = new CopyOnWriteArraySet<>();
+    private final PlayerSet configurationPlayers = new PlayerSet(false);
+    // Players in play state, indexed for the online player lookups
+    private final PlayerSet playPlayers = new PlayerSet(true);
 
     // The players who need keep alive ticks. This was added because we may not send a keep alive in
     // the time after sending finish configuration but before receiving configuration end (to swap to play).
     // I(mattw) could not come up with a better way to express this besides completely splitting client/server
     // states. Perhaps there will be an improvement in the future.
-    private final Set<Player> keepAlivePlayers = new CopyOnWriteArraySet<>();
+    private final PlayerSet keepAlivePlayers = new PlayerSet(false);
 
     private final Set<Player> unmodifiableConfigurationPlayers = Collections.unmodifiableSet(configurationPlayers);
     private final Set<Player> unmodifiablePlayPlayers = Collections.unmodifiableSet(playPlayers);
@@ -118,11 +118,7 @@ public final class ConnectionManager {
      * @return the first player who validate the username condition, null if none was found
      */
     public @Nullable Player getOnlinePlayerByUsername(String username) {
-        for (Player player : getOnlinePlayers()) {
-            if (player.getUsername().equalsIgnoreCase(username))
-                return player;
-        }
-        return null;
+        return playPlayers.byUsername(username);
     }
 
     /**
@@ -134,11 +130,7 @@ public final class ConnectionManager {
      * @return the first player who validate the UUID condition, null if none was found
      */
     public @Nullable Player getOnlinePlayerByUuid(UUID uuid) {
-        for (Player player : getOnlinePlayers()) {
-            if (player.getUuid().equals(uuid))
-                return player;
-        }
-        return null;
+        return playPlayers.byUuid(uuid);
     }
 
     /**
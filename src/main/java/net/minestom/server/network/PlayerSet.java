@@ -0,0 +1,142 @@
+package net.minestom.server.network;
+
+import net.minestom.server.entity.Player;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Concurrent set of players, optionally indexed by UUID and lower-cased username.
+ * <p>
+ * Modifications are O(1), reads never lock. Iteration goes through an array snapshot rebuilt lazily
+ * after modifications, a burst of logins only copies the players once per iteration instead of once per login.
+ */
+final class PlayerSet extends AbstractSet<Player> {
+    private static final Snapshot EMPTY = new Snapshot(0, new Player[0]);
+
+    private final Set<Player> players = ConcurrentHashMap.newKeySet();
+    private final @Nullable Map<UUID, Player> uuids;
+    private final @Nullable Map<String, Player> usernames;
+    // Index entries hidden by another player with the same key, guarded by the set monitor
+    private int shadowed;
+
+    private volatile long version;
+    private volatile Snapshot snapshot = EMPTY;
+
+    PlayerSet(boolean indexed) {
+        this.uuids = indexed ? new ConcurrentHashMap<>() : null;
+        this.usernames = indexed ? new ConcurrentHashMap<>() : null;
+    }
+
+    @Override
+    public synchronized boolean add(Player player) {
+        if (!players.add(player)) return false;
+        if (uuids != null && usernames != null) {
+            if (uuids.putIfAbsent(player.getUuid(), player) != null) this.shadowed++;
+            if (usernames.putIfAbsent(usernameKey(player.getUsername()), player) != null) this.shadowed++;
+        }
+        this.version++;
+        return true;
+    }
+
+    @Override
+    public synchronized boolean remove(Object o) {
+        if (!(o instanceof Player player) || !players.remove(player)) return false;
+        if (uuids != null && usernames != null) {
+            final UUID uuid = player.getUuid();
+            final String username = usernameKey(player.getUsername());
+            if (!uuids.remove(uuid, player)) this.shadowed--;
+            else if (shadowed > 0) promote(uuids, uuid, p -> p.getUuid().equals(uuid));
+            if (!usernames.remove(username, player)) this.shadowed--;
+            else if (shadowed > 0) promote(usernames, username, p -> usernameKey(p.getUsername()).equals(username));
+        }
+        this.version++;
+        return true;
+    }
+
+    @Override
+    public synchronized void clear() {
+        this.players.clear();
+        if (uuids != null) uuids.clear();
+        if (usernames != null) usernames.clear();
+        this.shadowed = 0;
+        this.version++;
+    }
+
+    // Gives a freed key to another player sharing it, only scans when duplicates exist
+    private <K> void promote(Map<K, Player> index, K key, Predicate<Player> matches) {
+        for (Player player : players) {
+            if (matches.test(player)) {
+                index.put(key, player);
+                this.shadowed--;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets a player by UUID, the set must be indexed.
+     */
+    @Nullable Player byUuid(UUID uuid) {
+        assert uuids != null : "Set is not indexed";
+        return uuids.get(uuid);
+    }
+
+    /**
+     * Gets a player by username, case-insensitive, the set must be indexed.
+     */
+    @Nullable Player byUsername(String username) {
+        assert usernames != null : "Set is not indexed";
+        return usernames.get(usernameKey(username));
+    }
+
+    private static String usernameKey(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private Player[] snapshot() {
+        final long version = this.version;
+        final Snapshot snapshot = this.snapshot;
+        if (snapshot.version == version) return snapshot.players;
+        // Read after the version, the array contains at least every modification up to it
+        final Player[] players = this.players.toArray(Player[]::new);
+        this.snapshot = new Snapshot(version, players);
+        return players;
+    }
+
+    @Override
+    public Iterator<Player> iterator() {
+        return Arrays.asList(snapshot()).iterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super Player> action) {
+        for (Player player : snapshot()) action.accept(player);
+    }
+
+    @Override
+    public int size() {
+        return players.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return players.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return players.contains(o);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return snapshot().clone();
+    }
+
+    private record Snapshot(long version, Player[] players) {
+    }
+}
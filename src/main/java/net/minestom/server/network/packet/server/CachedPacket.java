@@ -15,16 +15,27 @@ import java.util.function.Supplier;
  * Represents a packet that is only computed when required (either due to memory demand or invalidated data)
  * <p>
  * The cache is stored in a {@link SoftReference} and is invalidated when {@link #invalidate()} is called.
+ * When backed by a {@link FramedPacketCache}, the frame is looked up by content before framing the packet again.
  * <p>
  * Packet supplier must be thread-safe.
  */
 @ApiStatus.Internal
 public final class CachedPacket implements SendablePacket {
     private final Supplier<ServerPacket> packetSupplier;
+    private final @Nullable FramedPacketCache sharedCache;
+    private final @Nullable Supplier<FramedPacketCache.Content> contentSupplier;
     private volatile SoftReference<FramedPacket> packet;
 
     public CachedPacket(Supplier<ServerPacket> packetSupplier) {
         this.packetSupplier = packetSupplier;
+        this.sharedCache = null;
+        this.contentSupplier = null;
+    }
+
+    public CachedPacket(FramedPacketCache sharedCache, Supplier<FramedPacketCache.Content> contentSupplier) {
+        this.packetSupplier = () -> contentSupplier.get().packet();
+        this.sharedCache = sharedCache;
+        this.contentSupplier = contentSupplier;
     }
 
     public CachedPacket(ServerPacket packet) {
@@ -51,10 +62,15 @@ public final class CachedPacket implements SendablePacket {
         SoftReference<FramedPacket> ref = packet;
         FramedPacket cache;
         if (ref == null || (cache = ref.get()) == null) {
-            final ServerPacket packet = packetSupplier.get();
-            final NetworkBuffer buffer = PacketWriting.allocateTrimmedPacket(state, packet,
-                    MinecraftServer.getCompressionThreshold());
-            cache = new FramedPacket(packet, buffer);
+            if (sharedCache != null && contentSupplier != null) {
+                final FramedPacketCache.Content content = contentSupplier.get();
+                cache = sharedCache.frame(state, content.packet(), content.key(), content.retainedSize());
+            } else {
+                final ServerPacket packet = packetSupplier.get();
+                final NetworkBuffer buffer = PacketWriting.allocateTrimmedPacket(state, packet,
+                        MinecraftServer.getCompressionThreshold());
+                cache = new FramedPacket(packet, buffer);
+            }
             this.packet = new SoftReference<>(cache);
         }
         return cache;
@@ -0,0 +1,168 @@
+package net.minestom.server.network.packet.server;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.PacketWriting;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Content-addressed cache of {@link FramedPacket}s, shared between every {@link CachedPacket} using it.
+ * <p>
+ * Packets with equal content keys are framed (and compressed) once, the least recently used frames
+ * are evicted when the total size of the cached entries goes over the configured limit.
+ * The size of an entry is its frame plus the size of the packet content kept alive by the entry,
+ * which is usually much larger than the compressed frame.
+ * <p>
+ * Content keys must implement {@link Object#equals(Object)} by comparing the actual packet content,
+ * the hash is only used to find candidates.
+ */
+@ApiStatus.Internal
+public final class FramedPacketCache {
+    private final long maxSize;
+
+    // Access ordered, the eldest entry is the least recently used
+    private final LinkedHashMap<Key, Entry> frames = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxSize the maximum amount of bytes held by the cached entries
+     */
+    public FramedPacketCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the frame of a packet, framing it only if no packet with the same content is cached.
+     *
+     * @param state      the state the packet is framed for
+     * @param packet     the packet
+     * @param contentKey the key identifying the packet content
+     * @return the shared frame
+     */
+    public FramedPacket frame(ConnectionState state, ServerPacket packet, Object contentKey) {
+        return frame(state, packet, contentKey, 0);
+    }
+
+    /**
+     * Gets the frame of a packet, framing it only if no packet with the same content is cached.
+     *
+     * @param state        the state the packet is framed for
+     * @param packet       the packet
+     * @param contentKey   the key identifying the packet content
+     * @param retainedSize the amount of bytes of packet content kept alive by the cached entry
+     * @return the shared frame
+     */
+    public FramedPacket frame(ConnectionState state, ServerPacket packet, Object contentKey, long retainedSize) {
+        final int compressionThreshold = MinecraftServer.getCompressionThreshold();
+        final Key key = new Key(state, compressionThreshold, contentKey);
+        synchronized (this) {
+            final Entry entry = frames.get(key);
+            if (entry != null) {
+                hits.increment();
+                return entry.frame();
+            }
+        }
+        misses.increment();
+        // Compress outside the lock, concurrent misses for the same content keep the first frame
+        final NetworkBuffer buffer = PacketWriting.allocateTrimmedPacket(state, packet, compressionThreshold);
+        final FramedPacket frame = new FramedPacket(packet, buffer);
+        final Entry entry = new Entry(frame, buffer.capacity() + retainedSize);
+        synchronized (this) {
+            final Entry previous = frames.putIfAbsent(key, entry);
+            if (previous != null) return previous.frame();
+            this.size += entry.size();
+            evict();
+        }
+        return frame;
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<Key, Entry>> iterator = frames.entrySet().iterator();
+        // Always keep the most recent frame, even when it is larger than the limit
+        while (size > maxSize && frames.size() > 1 && iterator.hasNext()) {
+            final Entry entry = iterator.next().getValue();
+            iterator.remove();
+            this.size -= entry.size();
+            evictions.increment();
+        }
+    }
+
+    public synchronized void clear() {
+        this.frames.clear();
+        this.size = 0;
+    }
+
+    /**
+     * @return the amount of lookups served from the cache
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the amount of lookups which required framing the packet
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the amount of frames evicted to stay under the size limit
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the amount of frames currently cached
+     */
+    public synchronized int count() {
+        return frames.size();
+    }
+
+    /**
+     * @return the amount of bytes held by the cached entries, frames and retained packet content
+     */
+    public synchronized long size() {
+        return size;
+    }
+
+    public long maxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("FramedPacketCache{count=%d, size=%d, hits=%d, misses=%d, evictions=%d}",
+                frames.size(), size, hits(), misses(), evictions());
+    }
+
+    /**
+     * A packet along with the key identifying its content.
+     *
+     * @param packet       the packet
+     * @param key          the content key, compared by {@link Object#equals(Object)}
+     * @param retainedSize the amount of bytes of packet content kept alive by the key and the frame
+     */
+    public record Content(ServerPacket packet, Object key, long retainedSize) {
+        public Content(ServerPacket packet, Object key) {
+            this(packet, key, 0);
+        }
+    }
+
+    private record Key(ConnectionState state, int compressionThreshold, Object content) {
+    }
+
+    private record Entry(FramedPacket frame, long size) {
+    }
+}
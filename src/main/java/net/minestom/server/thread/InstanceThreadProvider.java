@@ -0,0 +1,66 @@
+package net.minestom.server.thread;
+
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.SharedInstance;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps every chunk of an instance on the same thread, so that its entities never change thread when moving
+ * between chunks and the instance itself can be ticked on that thread, see
+ * {@link ThreadDispatcher#updateAndAwait(long, java.util.Collection, java.util.function.ToIntFunction)}.
+ * <p>
+ * A {@link SharedInstance} shares the thread of its container. New instances are placed on the thread
+ * holding the fewest instances, a server running many small instances ticks them in parallel.
+ */
+@ApiStatus.Experimental
+public final class InstanceThreadProvider implements ThreadProvider<Chunk> {
+    private final int threadCount;
+    // Instance -> thread index, entries are removed once the instance is unregistered
+    private final Map<Instance, Integer> threads = new HashMap<>();
+
+    public InstanceThreadProvider(int threadCount) {
+        if (threadCount < 1) throw new IllegalArgumentException("Thread count must be positive: " + threadCount);
+        this.threadCount = threadCount;
+    }
+
+    @Override
+    public int findThread(Chunk partition) {
+        return threadOf(partition.getInstance());
+    }
+
+    /**
+     * Gets the thread of an instance, placing it if not already done.
+     *
+     * @param instance the instance
+     * @return the thread id of the instance and its chunks
+     */
+    public synchronized int threadOf(Instance instance) {
+        if (instance instanceof SharedInstance shared) instance = shared.getInstanceContainer();
+        final Integer thread = threads.get(instance);
+        if (thread != null) return thread;
+        final int[] counts = new int[threadCount];
+        for (int index : threads.values()) counts[index]++;
+        int best = 0;
+        for (int i = 1; i < threadCount; i++) {
+            if (counts[i] < counts[best]) best = i;
+        }
+        this.threads.put(instance, best);
+        return best;
+    }
+
+    /**
+     * Frees the thread slot of an unregistered instance.
+     * <p>
+     * A {@link SharedInstance} does not hold a slot, removing one does nothing.
+     *
+     * @param instance the instance
+     */
+    public synchronized void remove(Instance instance) {
+        if (instance instanceof SharedInstance) return;
+        this.threads.remove(instance);
+    }
+}
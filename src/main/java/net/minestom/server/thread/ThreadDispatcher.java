@@ -5,8 +5,10 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.Unmodifiable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
 
 /**
  * ThreadDispatcher can be used to dispatch updates (ticks) across a number of "partitions" (such as chunks) that
@@ -84,6 +86,18 @@ public sealed interface ThreadDispatcher<P, E extends Tickable> permits ThreadDi
      */
     void updateAndAwait(long time);
 
+    /**
+     * Prepares the update like {@link #updateAndAwait(long)}, also ticking additional tickables on the dispatcher threads.
+     * <p>
+     * Each tickable is ticked by the thread matching its id, in the same way as {@link ThreadProvider#findThread(Object)},
+     * before the partitions of this thread.
+     *
+     * @param time      the tick time in nanos
+     * @param tickables the tickables to tick along with the partitions
+     * @param threadId  the thread id of a tickable
+     */
+    <T extends Tickable> void updateAndAwait(long time, Collection<? extends T> tickables, ToIntFunction<? super T> threadId);
+
     /**
      * Called at the end of each tick to clear removed tickables, refresh the partition linked to a tickable, and
      * partition threads based on {@link ThreadProvider#findThread(Object)}.
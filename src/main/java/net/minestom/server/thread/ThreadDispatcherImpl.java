@@ -1,5 +1,6 @@
 package net.minestom.server.thread;
 
+import net.minestom.server.ServerFlag;
 import net.minestom.server.Tickable;
 import net.minestom.server.utils.collection.ConcurrentMessageQueues;
 import org.jctools.queues.MessagePassingQueue;
@@ -9,8 +10,16 @@ import org.jetbrains.annotations.Unmodifiable;
 import java.util.*;
 import java.util.concurrent.CountDownLatch;
 import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
 
 final class ThreadDispatcherImpl<P, E extends Tickable> implements ThreadDispatcher<P, E> {
+    // Only rebalance when the slowest thread would get at least this much faster, avoids moving partitions for noise
+    private static final double BALANCE_THRESHOLD = 0.1;
+    // Partitions cheaper than this are not worth measuring precisely, they are spread by count instead
+    private static final long MIN_PARTITION_COST = 1_000;
+    // Measured costs are smoothed over several ticks, there is no point in rebalancing on every refresh
+    private static final int BALANCE_INTERVAL = ServerFlag.DISPATCHER_BALANCING_INTERVAL;
+
     private final ThreadProvider<P> provider;
     private final List<TickThread> threads;
 
@@ -21,6 +30,8 @@ final class ThreadDispatcherImpl<P, E extends Tickable> implements ThreadDispatc
     private final Map<Tickable, Partition> elements = new WeakHashMap<>();
     // Queue to update partition linked thread
     private final ArrayDeque<P> partitionUpdateQueue = new ArrayDeque<>();
+    // Refreshes left before the next rebalancing attempt, the first refresh always attempts it
+    private int refreshesUntilBalance;
 
     // Requests consumed at the end of each tick
     private final MessagePassingQueue<Update<P, E>> updates = ConcurrentMessageQueues.mpscUnboundedArrayQueue(1024);
@@ -41,7 +52,13 @@ final class ThreadDispatcherImpl<P, E extends Tickable> implements ThreadDispatc
     }
 
     @Override
-    public synchronized void updateAndAwait(long time) {
+    public void updateAndAwait(long time) {
+        updateAndAwait(time, List.of(), tickable -> 0);
+    }
+
+    @Override
+    public synchronized <T extends Tickable> void updateAndAwait(long time, Collection<? extends T> tickables,
+                                                                 ToIntFunction<? super T> threadId) {
         // Update dispatcher
         this.updates.drain(update -> {
             switch (update) {
@@ -55,6 +72,10 @@ final class ThreadDispatcherImpl<P, E extends Tickable> implements ThreadDispatc
                         (update == null ? "null" : update.getClass().getSimpleName()));
             }
         });
+        for (T tickable : tickables) {
+            final int index = Math.abs(threadId.applyAsInt(tickable)) % threads.size();
+            threads.get(index).tickables.add(tickable);
+        }
         // Tick all partitions
         CountDownLatch latch = new CountDownLatch(threads.size());
         for (TickThread thread : threads) thread.startTick(latch, time);
@@ -62,6 +83,8 @@ final class ThreadDispatcherImpl<P, E extends Tickable> implements ThreadDispatc
             latch.await();
         } catch (InterruptedException e) {
             throw new RuntimeException(e);
+        } finally {
+            for (TickThread thread : threads) thread.tickables.clear();
         }
     }
 
@@ -82,17 +105,88 @@ final class ThreadDispatcherImpl<P, E extends Tickable> implements ThreadDispatc
                     assert partitionEntry != null;
                     final TickThread previous = partitionEntry.thread;
                     final TickThread next = retrieveThread(partition);
-                    if (next != previous) {
-                        partitionEntry.thread = next;
-                        previous.entries.remove(partitionEntry);
-                        next.entries.add(partitionEntry);
-                    }
+                    if (next != previous) migrate(partitionEntry, next);
                     this.partitionUpdateQueue.addLast(partition);
                     if (--counter <= 0 || System.nanoTime() - currentTime >= nanoTimeout) {
                         break;
                     }
                 }
             }
+            case BALANCED -> {
+                if (--refreshesUntilBalance > 0) return;
+                this.refreshesUntilBalance = BALANCE_INTERVAL;
+                rebalance();
+            }
+        }
+    }
+
+    /**
+     * Bin-packs the partitions across the threads using their measured cost, heaviest first on the least loaded thread.
+     * <p>
+     * The new layout is only applied when it makes the slowest thread noticeably faster.
+     * Attempts are limited to one every {@link ServerFlag#DISPATCHER_BALANCING_INTERVAL} refreshes.
+     */
+    private void rebalance() {
+        final int threadCount = threads.size();
+        if (threadCount <= 1 || partitions.size() <= 1) return;
+
+        long currentMax = 0;
+        long total = 0;
+        long heaviest = 0;
+        for (TickThread thread : threads) {
+            long load = 0;
+            for (Partition partition : thread.entries) {
+                final long cost = partition.cost();
+                load += cost;
+                heaviest = Math.max(heaviest, cost);
+            }
+            currentMax = Math.max(currentMax, load);
+            total += load;
+        }
+        if (currentMax == 0) return;
+        // No layout can beat the average load nor the heaviest partition, skip the sort when the gain is out of reach
+        final long bestCase = Math.max(heaviest, total / threadCount);
+        if (bestCase > currentMax * (1 - BALANCE_THRESHOLD)) return;
+
+        final Partition[] sorted = partitions.values().toArray(Partition[]::new);
+        Arrays.sort(sorted, (a, b) -> Long.compare(b.cost(), a.cost()));
+        final long[] loads = new long[threadCount];
+        final int[] counts = new int[threadCount];
+        final TickThread[] targets = new TickThread[sorted.length];
+        long newMax = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            final long cost = sorted[i].cost();
+            // Least loaded thread, ties broken by partition count then by keeping the current thread
+            int best = -1;
+            for (int t = 0; t < threadCount; t++) {
+                if (best == -1 || loads[t] < loads[best] ||
+                        (loads[t] == loads[best] && counts[t] < counts[best]) ||
+                        (loads[t] == loads[best] && counts[t] == counts[best] && threads.get(t) == sorted[i].thread)) {
+                    best = t;
+                }
+            }
+            loads[best] += cost;
+            counts[best]++;
+            targets[i] = threads.get(best);
+            newMax = Math.max(newMax, loads[best]);
+        }
+
+        if (newMax > currentMax * (1 - BALANCE_THRESHOLD)) return;
+        for (int i = 0; i < sorted.length; i++) {
+            if (sorted[i].thread != targets[i]) migrate(sorted[i], targets[i]);
+        }
+    }
+
+    private void migrate(Partition partitionEntry, TickThread next) {
+        final TickThread previous = partitionEntry.thread;
+        partitionEntry.thread = next;
+        previous.entries.remove(partitionEntry);
+        next.entries.add(partitionEntry);
+        // Elements must follow their partition, otherwise they would be acquired from the wrong thread
+        for (Tickable element : partitionEntry.elements) {
+            if (element instanceof AcquirableSource<?> acquirableSource) {
+                ((AcquirableImpl<?>) acquirableSource.acquirable()).assign(next);
+            }
         }
     }
 
@@ -186,6 +280,8 @@ final class ThreadDispatcherImpl<P, E extends Tickable> implements ThreadDispatc
     public static final class Partition {
         private TickThread thread;
         private final List<Tickable> elements = new ArrayList<>();
+        // Smoothed tick cost in nanoseconds, written by the owning thread and read between ticks
+        private long cost;
 
         private Partition(TickThread thread) {
             this.thread = thread;
@@ -203,6 +299,19 @@ final class ThreadDispatcherImpl<P, E extends Tickable> implements ThreadDispatc
             return thread;
         }
 
+        void recordCost(long nanos) {
+            this.cost += (Math.max(nanos, MIN_PARTITION_COST) - this.cost) >> 2;
+        }
+
+        /**
+         * The smoothed time spent ticking this partition.
+         *
+         * @return the partition cost in nanoseconds
+         */
+        public long cost() {
+            return cost;
+        }
+
         /**
          * The {@link Tickable}s assigned to this partition.
          *
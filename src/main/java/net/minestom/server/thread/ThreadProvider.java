@@ -18,6 +18,27 @@ public interface ThreadProvider<T> {
         };
     }
 
+    /**
+     * Places partitions with a counter, then moves them around based on their measured tick cost.
+     *
+     * @see RefreshType#BALANCED
+     */
+    static <T> ThreadProvider<T> balanced() {
+        return new ThreadProvider<>() {
+            private final AtomicInteger counter = new AtomicInteger();
+
+            @Override
+            public int findThread(T partition) {
+                return counter.getAndIncrement();
+            }
+
+            @Override
+            public RefreshType refreshType() {
+                return RefreshType.BALANCED;
+            }
+        };
+    }
+
     /**
      * Performs a server tick for all chunks based on their linked thread.
      *
@@ -49,6 +70,13 @@ public interface ThreadProvider<T> {
          * <p>
          * Means that {@link #findThread(Object)} may be called multiple time for each partition.
          */
-        ALWAYS
+        ALWAYS,
+        /**
+         * Thread is updated based on the measured tick cost of each partition.
+         * <p>
+         * Means that {@link #findThread(Object)} is only used for the initial placement,
+         * partitions are then bin-packed across threads between ticks so that the slowest thread is as fast as possible.
+         */
+        BALANCED
     }
 }
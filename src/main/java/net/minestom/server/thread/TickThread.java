@@ -29,6 +29,8 @@ public class TickThread extends MinestomThread {
 
     private long tickNum = 0;
     final List<ThreadDispatcherImpl.Partition> entries = new ArrayList<>();
+    // Ticked before the partitions, only for the current tick
+    final List<Tickable> tickables = new ArrayList<>();
 
     public TickThread(int number) {
         super(MinecraftServer.THREAD_NAME_TICK + "-" + number);
@@ -67,10 +69,26 @@ public class TickThread extends MinestomThread {
     protected void tick() {
         final ReentrantLock lock = this.lock;
         final long tickTime = TimeUnit.NANOSECONDS.toMillis(this.tickTimeNanos);
+        for (Tickable tickable : tickables) {
+            if (lock.hasQueuedThreads()) {
+                lock.unlock();
+                // #acquire() callbacks
+                lock.lock();
+            }
+            try {
+                tickable.tick(tickTime);
+            } catch (Throwable e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        }
         for (ThreadDispatcherImpl.Partition entry : entries) {
             assert entry.thread() == this;
             final List<Tickable> elements = entry.elements();
-            if (elements.isEmpty()) continue;
+            if (elements.isEmpty()) {
+                entry.recordCost(0);
+                continue;
+            }
+            final long start = System.nanoTime();
             for (Tickable element : elements) {
                 if (lock.hasQueuedThreads()) {
                     lock.unlock();
@@ -84,6 +102,7 @@ public class TickThread extends MinestomThread {
                     MinecraftServer.getExceptionManager().handleException(e);
                 }
             }
+            entry.recordCost(System.nanoTime() - start);
         }
     }
 
@@ -106,7 +125,7 @@ public class TickThread extends MinestomThread {
             startTick(latch, tickTimeNanos);
             return;
         }
-        if (stop || entries.isEmpty()) {
+        if (stop || (entries.isEmpty() && tickables.isEmpty())) {
             // Nothing to tick
             latch.countDown();
             return;
@@ -1,6 +1,5 @@
 package net.minestom.server.timer;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectAVLTreeMap;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerFlag;
 import org.jctools.queues.MessagePassingQueue;
@@ -8,12 +7,11 @@ import org.jctools.queues.MpscUnboundedArrayQueue;
 import org.jctools.queues.atomic.MpscUnboundedAtomicArrayQueue;
 
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 final class SchedulerImpl implements Scheduler {
@@ -27,10 +25,10 @@ final class SchedulerImpl implements Scheduler {
     private final MessagePassingQueue<TaskImpl> tasksToExecute = ServerFlag.UNSAFE_COLLECTIONS ? new MpscUnboundedArrayQueue<>(64) : new MpscUnboundedAtomicArrayQueue<>(64);
     private final MessagePassingQueue<TaskImpl> tickEndTasksToExecute = ServerFlag.UNSAFE_COLLECTIONS ? new MpscUnboundedArrayQueue<>(64) : new MpscUnboundedAtomicArrayQueue<>(64);
     // Tasks scheduled on a certain tick/tick end
-    private final Int2ObjectAVLTreeMap<List<TaskImpl>> tickStartTaskQueue = new Int2ObjectAVLTreeMap<>();
-    private final Int2ObjectAVLTreeMap<List<TaskImpl>> tickEndTaskQueue = new Int2ObjectAVLTreeMap<>();
+    private final TickWheel tickStartWheel = new TickWheel();
+    private final TickWheel tickEndWheel = new TickWheel();
 
-    private int tickState;
+    private final AtomicLong tickState = new AtomicLong();
 
     @Override
     public void process() {
@@ -43,23 +41,17 @@ final class SchedulerImpl implements Scheduler {
     }
 
     private void processTick(int tickDelta) {
-        processTickTasks(tickStartTaskQueue, tasksToExecute, tickDelta);
+        final long tick = tickDelta != 0 ? tickState.addAndGet(tickDelta) : tickState.get();
+        processTickTasks(tickStartWheel, tasksToExecute, tick);
     }
 
     @Override
     public void processTickEnd() {
-        processTickTasks(tickEndTaskQueue, tickEndTasksToExecute, 0);
+        processTickTasks(tickEndWheel, tickEndTasksToExecute, tickState.get());
     }
 
-    private void processTickTasks(Int2ObjectAVLTreeMap<List<TaskImpl>> targetTaskQueue, MessagePassingQueue<TaskImpl> targetTasksToExecute, int tickDelta) {
-        synchronized (this) {
-            this.tickState += tickDelta;
-            int tickToProcess;
-            while (!targetTaskQueue.isEmpty() && (tickToProcess = targetTaskQueue.firstIntKey()) <= tickState) {
-                final List<TaskImpl> tickScheduledTasks = targetTaskQueue.remove(tickToProcess);
-                if (tickScheduledTasks != null) tickScheduledTasks.forEach(targetTasksToExecute::relaxedOffer);
-            }
-        }
+    private void processTickTasks(TickWheel wheel, MessagePassingQueue<TaskImpl> targetTasksToExecute, long tick) {
+        wheel.advance(tick, targetTasksToExecute);
         runTasks(targetTasksToExecute);
     }
 
@@ -111,13 +103,10 @@ final class SchedulerImpl implements Scheduler {
                 SCHEDULER.schedule(() -> safeExecute(task), duration.toMillis(), TimeUnit.MILLISECONDS);
             }
             case TaskScheduleImpl.TickSchedule tickSchedule -> {
-                synchronized (this) {
-                    final int target = tickState + tickSchedule.tick();
-                    var targetTaskQueue = switch (task.executionType()) {
-                        case TICK_START -> tickStartTaskQueue;
-                        case TICK_END -> tickEndTaskQueue;
-                    };
-                    targetTaskQueue.computeIfAbsent(target, i -> new ArrayList<>()).add(task);
+                task.wheelTarget = tickState.get() + tickSchedule.tick();
+                switch (task.executionType()) {
+                    case TICK_START -> tickStartWheel.submit(task);
+                    case TICK_END -> tickEndWheel.submit(task);
                 }
             }
             case TaskScheduleImpl.FutureSchedule futureSchedule ->
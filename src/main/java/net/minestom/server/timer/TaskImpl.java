@@ -25,6 +25,10 @@ final class TaskImpl implements Task {
     volatile boolean alive;
     volatile boolean parked;
 
+    // Timing wheel state, published to the wheel through its submission queue
+    long wheelTarget;
+    TaskImpl wheelNext;
+
     TaskImpl(int id,
              Supplier<TaskSchedule> task,
              ExecutionType executionType,
@@ -0,0 +1,105 @@
+package net.minestom.server.timer;
+
+import net.minestom.server.ServerFlag;
+import org.jctools.queues.MessagePassingQueue;
+import org.jctools.queues.MpscUnboundedArrayQueue;
+import org.jctools.queues.atomic.MpscUnboundedAtomicArrayQueue;
+
+/**
+ * Hierarchical timing wheel holding the tasks scheduled for a future tick.
+ * <p>
+ * Tasks are submitted lock-free from any thread and moved into the wheel by the thread advancing it.
+ * Each level has 64 slots, a task is placed on the level of the highest bits in which its target tick differs
+ * from the current one, and moved down once the wheel reaches its slot. Both insertion and expiration are O(1).
+ * <p>
+ * Cancelled tasks are not removed eagerly, they are dropped the next time the wheel reaches them.
+ */
+final class TickWheel {
+    private static final int LEVEL_BITS = 6;
+    private static final int SLOT_COUNT = 1 << LEVEL_BITS;
+    private static final int SLOT_MASK = SLOT_COUNT - 1;
+    private static final int LEVEL_COUNT = 6;
+
+    private final MessagePassingQueue<TaskImpl> submissions = ServerFlag.UNSAFE_COLLECTIONS ? new MpscUnboundedArrayQueue<>(64) : new MpscUnboundedAtomicArrayQueue<>(64);
+
+    // Slot lists linked through TaskImpl#wheelNext, guarded by the wheel monitor
+    private final TaskImpl[] heads = new TaskImpl[LEVEL_COUNT * SLOT_COUNT];
+    private final TaskImpl[] tails = new TaskImpl[LEVEL_COUNT * SLOT_COUNT];
+    private long tick;
+    private int size;
+
+    /**
+     * Submits a task for the tick stored in {@link TaskImpl#wheelTarget}.
+     */
+    void submit(TaskImpl task) {
+        this.submissions.offer(task);
+    }
+
+    /**
+     * Moves the wheel to a tick, handing every task due at or before it to the queue.
+     *
+     * @param targetTick the tick to reach, never lower than a previous one
+     * @param due        the queue receiving the expired tasks
+     */
+    synchronized void advance(long targetTick, MessagePassingQueue<TaskImpl> due) {
+        // Insert before moving, submissions may already be late
+        this.submissions.drain(task -> insert(task, due));
+        while (tick < targetTick) {
+            if (size == 0) {
+                this.tick = targetTick;
+                break;
+            }
+            final long current = ++this.tick;
+            // Move down the tasks of every level whose slot has been reached, highest first
+            final int levels = Math.min(Long.numberOfTrailingZeros(current) / LEVEL_BITS, LEVEL_COUNT - 1);
+            for (int level = levels; level > 0; level--) {
+                TaskImpl task = detach(level, current);
+                while (task != null) {
+                    final TaskImpl next = task.wheelNext;
+                    task.wheelNext = null;
+                    this.size--;
+                    insert(task, due);
+                    task = next;
+                }
+            }
+            // Every task left in the first level slot targets this exact tick
+            TaskImpl task = detach(0, current);
+            while (task != null) {
+                final TaskImpl next = task.wheelNext;
+                task.wheelNext = null;
+                this.size--;
+                if (task.isAlive()) due.relaxedOffer(task);
+                task = next;
+            }
+        }
+    }
+
+    private void insert(TaskImpl task, MessagePassingQueue<TaskImpl> due) {
+        if (!task.isAlive()) return;
+        final long target = task.wheelTarget;
+        if (target <= tick) {
+            due.relaxedOffer(task);
+            return;
+        }
+        // Tasks past the last level come back to the same slot until their higher bits match
+        final int level = Math.min((63 - Long.numberOfLeadingZeros(target ^ tick)) / LEVEL_BITS, LEVEL_COUNT - 1);
+        final int slot = slot(level, target);
+        final TaskImpl tail = tails[slot];
+        if (tail == null) this.heads[slot] = task;
+        else tail.wheelNext = task;
+        this.tails[slot] = task;
+        this.size++;
+    }
+
+    private TaskImpl detach(int level, long tick) {
+        final int slot = slot(level, tick);
+        final TaskImpl head = heads[slot];
+        this.heads[slot] = null;
+        this.tails[slot] = null;
+        return head;
+    }
+
+    private static int slot(int level, long tick) {
+        return level * SLOT_COUNT + (int) ((tick >>> (level * LEVEL_BITS)) & SLOT_MASK);
+    }
+}
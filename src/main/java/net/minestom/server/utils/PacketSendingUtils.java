@@ -14,12 +14,16 @@ import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.SendablePacket;
 import net.minestom.server.network.packet.server.ServerPacket;
+import org.jetbrains.annotations.ApiStatus;
 
-import java.util.Collection;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
 
 public final class PacketSendingUtils {
+    private static final LongAdder TRANSLATED_PACKET_HITS = new LongAdder();
+    private static final LongAdder TRANSLATED_PACKET_MISSES = new LongAdder();
+
     /**
      * Sends a packet to an audience. This method performs the following steps in the
      * following order:
@@ -65,6 +69,10 @@ public final class PacketSendingUtils {
      */
     public static void sendGroupedPacket(Collection<Player> players, ServerPacket packet,
                                          Predicate<Player> predicate) {
+        if (ServerFlag.GROUPED_PACKET && requiresTranslation(packet)) {
+            sendTranslatedPacket(players, (ServerPacket.ComponentHolding) packet, predicate);
+            return;
+        }
         final SendablePacket sendablePacket = groupedPacket(packet);
         players.forEach(player -> {
             if (predicate.test(player)) player.sendPacket(sendablePacket);
@@ -78,6 +86,10 @@ public final class PacketSendingUtils {
      * @see #sendGroupedPacket(Collection, ServerPacket, Predicate)
      */
     public static void sendGroupedPacket(Collection<Player> players, ServerPacket packet) {
+        if (ServerFlag.GROUPED_PACKET && requiresTranslation(packet)) {
+            sendTranslatedPacket(players, (ServerPacket.ComponentHolding) packet, player -> true);
+            return;
+        }
         final SendablePacket sendablePacket = groupedPacket(packet);
         players.forEach(player -> player.sendPacket(sendablePacket));
     }
@@ -86,6 +98,49 @@ public final class PacketSendingUtils {
         sendGroupedPacket(MinecraftServer.getConnectionManager().getOnlinePlayers(), packet);
     }
 
+    /**
+     * Sends a packet containing translatable components, rendered and framed once per locale of the players.
+     */
+    private static void sendTranslatedPacket(Collection<Player> players, ServerPacket.ComponentHolding packet,
+                                             Predicate<Player> predicate) {
+        // Few locales are expected among the players, a map allocated per broadcast is fine
+        final Map<Locale, SendablePacket> translatedPackets = new HashMap<>(4);
+        for (Player player : players) {
+            if (!predicate.test(player)) continue;
+            final Locale locale = Objects.requireNonNullElseGet(player.getLocale(), MinestomAdventure::getDefaultLocale);
+            SendablePacket translated = translatedPackets.get(locale);
+            if (translated == null) {
+                translated = new CachedPacket(packet.copyWithOperator(component ->
+                        MinestomAdventure.COMPONENT_TRANSLATOR.apply(component, locale)));
+                translatedPackets.put(locale, translated);
+                TRANSLATED_PACKET_MISSES.increment();
+            } else {
+                TRANSLATED_PACKET_HITS.increment();
+            }
+            player.sendPacket(translated);
+        }
+    }
+
+    /**
+     * Gets the amount of players sent a translated packet already rendered for their locale.
+     *
+     * @return the translated packet cache hits
+     */
+    @ApiStatus.Experimental
+    public static long translatedPacketHits() {
+        return TRANSLATED_PACKET_HITS.sum();
+    }
+
+    /**
+     * Gets the amount of translated packets rendered, once per locale of every grouped send.
+     *
+     * @return the translated packet cache misses
+     */
+    @ApiStatus.Experimental
+    public static long translatedPacketMisses() {
+        return TRANSLATED_PACKET_MISSES.sum();
+    }
+
     static SendablePacket groupedPacket(ServerPacket packet) {
         return shouldUseCachePacket(packet) ? new CachedPacket(packet) : packet;
     }
@@ -97,9 +152,17 @@ public final class PacketSendingUtils {
      * @see CachedPacket#body(ConnectionState)
      */
     static boolean shouldUseCachePacket(final ServerPacket packet) {
-        if (!MinestomAdventure.AUTOMATIC_COMPONENT_TRANSLATION) return ServerFlag.GROUPED_PACKET;
-        if (!(packet instanceof ServerPacket.ComponentHolding holder)) return ServerFlag.GROUPED_PACKET;
-        return !containsTranslatableComponents(holder);
+        if (requiresTranslation(packet)) return false;
+        return ServerFlag.GROUPED_PACKET;
+    }
+
+    /**
+     * Checks if the {@link ServerPacket} has to be translated for each player locale.
+     */
+    static boolean requiresTranslation(final ServerPacket packet) {
+        if (!MinestomAdventure.AUTOMATIC_COMPONENT_TRANSLATION) return false;
+        if (!(packet instanceof ServerPacket.ComponentHolding holder)) return false;
+        return containsTranslatableComponents(holder);
     }
 
     private static boolean containsTranslatableComponents(final ComponentHolder<?> holder) {
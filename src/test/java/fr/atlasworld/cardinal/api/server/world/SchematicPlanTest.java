@@ -0,0 +1,79 @@
+package fr.atlasworld.cardinal.api.server.world;
+
+import net.hollowcube.schem.Rotation;
+import net.hollowcube.schem.Schematic;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SchematicPlanTest {
+    private static final Block STAIRS = Block.OAK_STAIRS.withProperty("facing", "north");
+
+    // 3x1x1 row along X: stairs, stone, air.
+    private static final Schematic ROW = new Schematic(new Vec(3, 1, 1), Vec.ZERO,
+            new Block[]{STAIRS, Block.STONE, Block.AIR}, new byte[]{0, 1, 2});
+
+    @Test
+    public void keepsAir() {
+        SchematicPlan plan = SchematicPlan.compile(ROW, Rotation.NONE);
+        assertEquals(3, plan.blockCount());
+        assertEquals(Block.AIR, place(plan).get(new Vec(2, 0, 0)));
+
+        SchematicPlan skipped = SchematicPlan.compile(ROW, Rotation.NONE, true);
+        assertEquals(2, skipped.blockCount());
+        assertEquals(2, place(skipped).size());
+    }
+
+    @Test
+    public void mergesRuns() {
+        Schematic schematic = new Schematic(new Vec(4, 1, 1), Vec.ZERO, new Block[]{Block.STONE}, new byte[]{0, 0, 0, 0});
+        SchematicPlan plan = SchematicPlan.compile(schematic, Rotation.NONE);
+        assertEquals(4, plan.blockCount());
+        assertEquals(1, plan.runCount());
+        assertEquals(Vec.ZERO, plan.min());
+        assertEquals(new Vec(4, 1, 1), plan.max());
+    }
+
+    @Test
+    public void rotatesPositionsAndStates() {
+        Map<Vec, Block> placed = place(SchematicPlan.compile(ROW, Rotation.CLOCKWISE_90));
+        assertEquals(STAIRS.withProperty("facing", "east"), placed.get(Vec.ZERO));
+        assertEquals(Block.STONE, placed.get(new Vec(0, 0, 1)));
+        assertEquals(Block.AIR, placed.get(new Vec(0, 0, 2)));
+
+        placed = place(SchematicPlan.compile(ROW, Rotation.CLOCKWISE_180));
+        assertEquals(STAIRS.withProperty("facing", "south"), placed.get(Vec.ZERO));
+        assertEquals(Block.STONE, placed.get(new Vec(-1, 0, 0)));
+    }
+
+    @Test
+    public void rotatesBlockStates() {
+        assertEquals(Block.OAK_LOG.withProperty("axis", "z"),
+                SchematicPlan.rotate(Block.OAK_LOG.withProperty("axis", "x"), Rotation.CLOCKWISE_90));
+        assertEquals(Block.OAK_LOG.withProperty("axis", "y"),
+                SchematicPlan.rotate(Block.OAK_LOG.withProperty("axis", "y"), Rotation.CLOCKWISE_90));
+        assertEquals(Block.OAK_FENCE.withProperty("east", "true"),
+                SchematicPlan.rotate(Block.OAK_FENCE.withProperty("north", "true"), Rotation.CLOCKWISE_90));
+        assertEquals(Block.OAK_SIGN.withProperty("rotation", "6"),
+                SchematicPlan.rotate(Block.OAK_SIGN.withProperty("rotation", "14"), Rotation.CLOCKWISE_180));
+        assertEquals(Block.RAIL.withProperty("shape", "south_west"),
+                SchematicPlan.rotate(Block.RAIL.withProperty("shape", "south_east"), Rotation.CLOCKWISE_90));
+        assertEquals(Block.RAIL.withProperty("shape", "east_west"),
+                SchematicPlan.rotate(Block.RAIL.withProperty("shape", "north_south"), Rotation.CLOCKWISE_270));
+        assertEquals(Block.RAIL.withProperty("shape", "ascending_south"),
+                SchematicPlan.rotate(Block.RAIL.withProperty("shape", "ascending_east"), Rotation.CLOCKWISE_90));
+        assertEquals(STAIRS.withProperty("shape", "inner_left").withProperty("facing", "west"),
+                SchematicPlan.rotate(STAIRS.withProperty("shape", "inner_left"), Rotation.CLOCKWISE_270));
+    }
+
+    private static Map<Vec, Block> place(SchematicPlan plan) {
+        Map<Vec, Block> placed = new HashMap<>();
+        plan.apply((x, y, z, block) -> placed.put(new Vec(x, y, z), block), Vec.ZERO);
+        return placed;
+    }
+}
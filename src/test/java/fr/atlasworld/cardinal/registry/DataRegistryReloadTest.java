@@ -0,0 +1,56 @@
+package fr.atlasworld.cardinal.registry;
+
+import fr.atlasworld.cardinal.api.registry.DataRegistry;
+import fr.atlasworld.cardinal.api.registry.RegistryHolder;
+import net.kyori.adventure.key.Key;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DataRegistryReloadTest {
+    private static final Key OLD_WORLD = Key.key("test", "old_world");
+    private static final Key NEW_WORLD = Key.key("test", "new_world");
+
+    @Test
+    public void mapReferencesWorldAddedInReload() {
+        DataRegistry<String> worlds = new DataRegistry<>(Key.key("test", "worlds"));
+        DataRegistry<TestMap> maps = new DataRegistry<>(Key.key("test", "maps"));
+        worlds.register(OLD_WORLD, "old");
+        worlds.freezeRegistry();
+        maps.freezeRegistry();
+
+        worlds.reload();
+        maps.reload();
+
+        // Worlds are a higher priority tier, loaded before maps.
+        DataRegistry.load(() -> worlds.register(NEW_WORLD, "new"));
+        DataRegistry.load(() -> {
+            assertTrue(worlds.retrieveHolder(NEW_WORLD).referencePresent(), "World added in the reload is not visible");
+            assertFalse(worlds.retrieveHolder(OLD_WORLD).referencePresent(), "World removed in the reload is still visible");
+            maps.register(Key.key("test", "map"), new TestMap(worlds.retrieveHolder(NEW_WORLD)));
+        });
+
+        // Other readers keep the published entries until the registries are frozen again.
+        assertTrue(worlds.containsKey(OLD_WORLD));
+        assertFalse(worlds.containsKey(NEW_WORLD));
+
+        worlds.freezeRegistry();
+        maps.freezeRegistry();
+
+        assertFalse(worlds.containsKey(OLD_WORLD));
+        TestMap map = maps.retrieveValue(Key.key("test", "map")).orElseThrow();
+        assertEquals("new", map.world().get());
+    }
+
+    @Test
+    public void loadingReadsFrozenSnapshot() {
+        DataRegistry<String> worlds = new DataRegistry<>(Key.key("test", "worlds"));
+        worlds.register(OLD_WORLD, "old");
+        worlds.freezeRegistry();
+
+        DataRegistry.load(() -> assertTrue(worlds.containsKey(OLD_WORLD)));
+    }
+
+    private record TestMap(RegistryHolder<String> world) {
+    }
+}
@@ -0,0 +1,55 @@
+package fr.atlasworld.cardinal.resource.server.embedded;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResourcePackHandlerTest {
+    private static final int SIZE = 1000;
+
+    @Test
+    public void closedRange() {
+        assertArrayEquals(new long[]{0, 499}, ResourcePackHandler.parseRange("bytes=0-499", SIZE));
+        assertArrayEquals(new long[]{500, 999}, ResourcePackHandler.parseRange("bytes= 500 - 999 ", SIZE));
+    }
+
+    @Test
+    public void closedRangeClampedToSize() {
+        assertArrayEquals(new long[]{900, 999}, ResourcePackHandler.parseRange("bytes=900-5000", SIZE));
+    }
+
+    @Test
+    public void openEndedRange() {
+        assertArrayEquals(new long[]{200, 999}, ResourcePackHandler.parseRange("bytes=200-", SIZE));
+        assertArrayEquals(new long[]{999, 999}, ResourcePackHandler.parseRange("bytes=999-", SIZE));
+    }
+
+    @Test
+    public void suffixRange() {
+        assertArrayEquals(new long[]{900, 999}, ResourcePackHandler.parseRange("bytes=-100", SIZE));
+        assertArrayEquals(new long[]{0, 999}, ResourcePackHandler.parseRange("bytes=-5000", SIZE), "Suffix longer than the resource must cover it entirely");
+    }
+
+    @Test
+    public void multipleRangesRejected() {
+        assertNull(ResourcePackHandler.parseRange("bytes=0-99,200-299", SIZE));
+        assertNull(ResourcePackHandler.parseRange("bytes=-100,0-", SIZE));
+    }
+
+    @Test
+    public void unsatisfiableRanges() {
+        assertNull(ResourcePackHandler.parseRange("bytes=1000-", SIZE), "Start past the end");
+        assertNull(ResourcePackHandler.parseRange("bytes=500-100", SIZE), "Start after end");
+        assertNull(ResourcePackHandler.parseRange("bytes=-0", SIZE), "Empty suffix");
+        assertNull(ResourcePackHandler.parseRange("bytes=0-", 0), "Empty resource");
+    }
+
+    @Test
+    public void malformedRanges() {
+        assertNull(ResourcePackHandler.parseRange("items=0-99", SIZE), "Unknown unit");
+        assertNull(ResourcePackHandler.parseRange("bytes=100", SIZE), "Missing separator");
+        assertNull(ResourcePackHandler.parseRange("bytes=a-b", SIZE), "Not a number");
+        assertNull(ResourcePackHandler.parseRange("bytes=-", SIZE), "No bounds");
+        assertNull(ResourcePackHandler.parseRange("bytes=-5-10", SIZE), "Negative start");
+    }
+}
@@ -10,6 +10,7 @@ import net.minestom.server.item.Material;
 import org.junit.jupiter.api.Test;
 
 import java.lang.ref.WeakReference;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -270,6 +271,73 @@ public class EventNodeTest {
         waitUntilCleared(ref);
     }
 
+    @Test
+    public void router() {
+        var diamond = ItemStack.of(Material.DIAMOND);
+        var gold = ItemStack.of(Material.GOLD_INGOT);
+
+        var diamondNode = EventNode.all("diamond");
+        var goldNode = EventNode.all("gold");
+        Map<ItemStack, EventNode<Event>> routes = Map.of(diamond, diamondNode, gold, goldNode);
+
+        var node = EventNode.all("main");
+        var router = EventNode.router("router", EventFilter.ITEM, event -> {
+            var route = routes.get(event.getItemStack());
+            if (route != null) route.call(event);
+        });
+        router.addRoute(diamondNode).addRoute(goldNode);
+        node.addChild(router);
+
+        AtomicInteger diamondCount = new AtomicInteger();
+        AtomicInteger goldCount = new AtomicInteger();
+        diamondNode.addListener(ItemTestEvent.class, event -> diamondCount.incrementAndGet());
+        goldNode.addListener(ItemTestEvent.class, event -> goldCount.incrementAndGet());
+
+        node.call(new ItemTestEvent(diamond));
+        assertEquals(1, diamondCount.get());
+        assertEquals(0, goldCount.get());
+
+        node.call(new ItemTestEvent(gold));
+        node.call(new ItemTestEvent(ItemStack.AIR));
+        assertEquals(1, diamondCount.get());
+        assertEquals(1, goldCount.get());
+
+        // Events outside the router filter should not be routed
+        node.call(new EventTest());
+
+        // Listeners added after the first call must be picked up
+        AtomicBoolean late = new AtomicBoolean(false);
+        goldNode.addListener(ItemTestEvent.class, event -> late.set(true));
+        node.call(new ItemTestEvent(gold));
+        assertTrue(late.get());
+        assertEquals(2, goldCount.get());
+    }
+
+    @Test
+    public void routerWithoutListener() {
+        var route = EventNode.all("route");
+        var router = EventNode.router("router", EventFilter.ALL, event -> route.call(event));
+        router.addRoute(route);
+        var node = EventNode.all("main");
+        node.addChild(router);
+
+        var handle = node.getHandle(EventTest.class);
+        assertFalse(handle.hasListener(), "No route listens to the event");
+
+        route.addListener(ItemTestEvent.class, event -> {
+        });
+        assertFalse(handle.hasListener(), "No route listens to the event");
+        assertTrue(node.getHandle(ItemTestEvent.class).hasListener());
+
+        route.addListener(EventTest.class, event -> {
+        });
+        assertTrue(handle.hasListener(), "Listener added to a route must be picked up");
+
+        router.removeRoute(route);
+        assertFalse(handle.hasListener(), "Removed routes must not be reached");
+        assertFalse(node.getHandle(ItemTestEvent.class).hasListener());
+    }
+
 //    @Test
 //    public void nodeChildGC() {
 //        var node = EventNode.all("main");
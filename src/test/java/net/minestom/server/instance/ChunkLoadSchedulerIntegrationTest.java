@@ -0,0 +1,103 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ChunkLoadSchedulerIntegrationTest {
+    // Callbacks run on the scheduler workers, where assertion errors would only reach the exception manager
+    private final List<String> failures = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void closestFirst(Env env) throws InterruptedException {
+        var instance = env.createEmptyInstance();
+        var player = env.createPlayer(instance, new Pos(0, 40, 0));
+        var scheduler = new ChunkLoadScheduler(1);
+
+        // Occupy the only worker while queueing the other tasks
+        CountDownLatch blocker = new CountDownLatch(1);
+        scheduler.submit(instance, 0, 0, null, () -> await(blocker), unexpected("blocker cancelled"));
+
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        for (int x : new int[]{3, 1, 2}) {
+            scheduler.submit(instance, x, 0, player, () -> {
+                order.add(x);
+                done.countDown();
+            }, unexpected("chunk " + x + " cancelled"));
+        }
+        assertEquals(3, scheduler.queueDepth());
+
+        blocker.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(1, 2, 3), order);
+        assertEquals(0, scheduler.queueDepth());
+        assertEquals(4, scheduler.completedCount());
+        assertEquals(List.of(), failures);
+    }
+
+    @Test
+    public void cancelOutOfView(Env env) throws InterruptedException {
+        var instance = env.createEmptyInstance();
+        var player = env.createPlayer(instance, new Pos(0, 40, 0));
+        var scheduler = new ChunkLoadScheduler(1);
+
+        CountDownLatch blocker = new CountDownLatch(1);
+        scheduler.submit(instance, 0, 0, null, () -> await(blocker), unexpected("blocker cancelled"));
+
+        final int far = player.effectiveViewDistance() + 1;
+        AtomicBoolean ran = new AtomicBoolean();
+        CountDownLatch cancelled = new CountDownLatch(1);
+        var stale = scheduler.submit(instance, far, 0, player, () -> ran.set(true), cancelled::countDown);
+
+        blocker.countDown();
+        assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+        assertFalse(ran.get());
+        assertEquals(1, scheduler.cancelledCount());
+        // A cancelled task cannot be joined anymore
+        assertFalse(scheduler.join(stale, null));
+        assertEquals(List.of(), failures);
+    }
+
+    @Test
+    public void requiredJoinPreventsCancel(Env env) throws InterruptedException {
+        var instance = env.createEmptyInstance();
+        var player = env.createPlayer(instance, new Pos(0, 40, 0));
+        var scheduler = new ChunkLoadScheduler(1);
+
+        CountDownLatch blocker = new CountDownLatch(1);
+        scheduler.submit(instance, 0, 0, null, () -> await(blocker), unexpected("blocker cancelled"));
+
+        final int far = player.effectiveViewDistance() + 1;
+        CountDownLatch ran = new CountDownLatch(1);
+        var task = scheduler.submit(instance, far, 0, player, ran::countDown, unexpected("required chunk cancelled"));
+        assertTrue(scheduler.join(task, null));
+
+        blocker.countDown();
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        assertEquals(0, scheduler.cancelledCount());
+        assertEquals(List.of(), failures);
+    }
+
+    private Runnable unexpected(String failure) {
+        return () -> failures.add(failure);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) failures.add("blocker timed out");
+        } catch (InterruptedException e) {
+            failures.add("blocker interrupted");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package net.minestom.server.instance;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SectionTest {
+
+    @Test
+    public void networkDataCached() {
+        Section section = new Section();
+        byte[] data = section.networkData(64);
+        assertSame(data, section.networkData(64));
+        // Biome palette size depends on the registry size
+        assertNotSame(data, section.networkData(128));
+    }
+
+    @Test
+    public void networkDataInvalidated() {
+        Section section = new Section();
+        byte[] empty = section.networkData(64);
+
+        section.blockPalette().set(0, 0, 0, 1);
+        section.invalidateCache();
+        byte[] updated = section.networkData(64);
+        assertNotSame(empty, updated);
+        assertFalse(Arrays.equals(empty, updated));
+
+        section.clear();
+        assertArrayEquals(empty, section.networkData(64));
+    }
+
+    @Test
+    public void networkDataSharedWithClone() {
+        Section section = new Section();
+        section.blockPalette().set(1, 2, 3, 5);
+        byte[] data = section.networkData(64);
+
+        Section clone = section.clone();
+        assertSame(data, clone.networkData(64));
+
+        clone.blockPalette().set(1, 2, 3, 6);
+        clone.invalidateCache();
+        assertNotSame(data, clone.networkData(64));
+        assertSame(data, section.networkData(64));
+    }
+}
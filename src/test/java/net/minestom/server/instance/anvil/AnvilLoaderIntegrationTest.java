@@ -27,14 +27,18 @@ import org.junit.jupiter.params.provider.ValueSources;
 import java.io.IOException;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import static net.minestom.server.network.NetworkBuffer.SHORT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @EnvTest
 public class AnvilLoaderIntegrationTest {
@@ -318,6 +322,45 @@ public class AnvilLoaderIntegrationTest {
         instance.loadChunk(point).join();
     }
 
+    @Test
+    public void saveQueueCoalescesChunks(Env env) throws IOException {
+        var worldFolder = Files.createTempDirectory("minestom-test-world-save-queue");
+        final CountDownLatch flushing = new CountDownLatch(1);
+        AnvilLoader chunkLoader = new AnvilLoader(worldFolder) {
+            @Override
+            CompoundBinaryTag serializeChunk(Chunk chunk, CompoundBinaryTag tags) {
+                // Hold the first flush so the next saves wait in the queue
+                try {
+                    flushing.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                return super.serializeChunk(chunk, tags);
+            }
+        };
+        Instance instance = env.createFlatInstance(chunkLoader);
+        Chunk chunk = instance.loadChunk(0, 0).join();
+
+        List<CompletableFuture<Void>> saves = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            chunk.setBlock(0, 100, 0, i % 2 == 0 ? Block.STONE : Block.DIRT);
+            saves.add(instance.saveChunkToStorage(chunk));
+        }
+        flushing.countDown();
+        CompletableFuture.allOf(saves.toArray(CompletableFuture[]::new)).join();
+
+        final AnvilSaveQueue queue = chunkLoader.saveQueue();
+        assertEquals(0, queue.queueDepth());
+        assertEquals(16, queue.submittedCount());
+        assertTrue(queue.coalescedCount() > 0);
+        assertEquals(16, queue.writtenCount() + queue.coalescedCount() + queue.unchangedCount());
+
+        // Only the last copy is expected on disk
+        final Instance secondInstance = env.createEmptyInstance(new AnvilLoader(worldFolder));
+        secondInstance.loadChunk(0, 0).join();
+        assertEquals(Block.DIRT, secondInstance.getBlock(0, 100, 0));
+    }
+
     @Test
     public void saveChunks(Env env) throws IOException {
         // load a full vanilla region, not checking any content just making sure it loads without issues.
@@ -4,15 +4,20 @@ import net.minestom.server.ServerProcess;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.LightingChunk;
+import net.minestom.server.instance.Section;
 import net.minestom.server.instance.block.Block;
 import net.minestom.testing.Env;
 import net.minestom.testing.EnvTest;
 import org.junit.jupiter.api.Test;
 
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.util.Map.entry;
 import static net.minestom.server.instance.BlockLightMergeIntegrationTest.assertLightInstance;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 @EnvTest
 public class WorldRelightIntegrationTest {
@@ -65,4 +70,61 @@ public class WorldRelightIntegrationTest {
         );
         assertLightInstance(instance, expectedLights);
     }
+
+    @Test
+    public void concurrentWritesDuringRelight(Env env) throws InterruptedException {
+        Instance instance = env.createFlatInstance();
+        instance.setChunkSupplier(LightingChunk::new);
+        for (int x = -1; x <= 1; x++) {
+            for (int z = -1; z <= 1; z++) {
+                instance.loadChunk(x, z).join();
+            }
+        }
+
+        // Block writes only lock their chunk, relighting must not read the palettes while they are written
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread writer = Thread.startVirtualThread(() -> {
+            try {
+                for (int i = 0; i < 2_000; i++) {
+                    instance.setBlock(i & 15, 70 + (i >> 4) % 8, 8, i % 2 == 0 ? Block.GLOWSTONE : Block.STONE);
+                }
+                instance.setBlock(8, 80, 8, Block.GLOWSTONE);
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        while (writer.isAlive()) {
+            LightingChunk.relight(instance, instance.getChunks());
+        }
+        writer.join();
+        assertNull(failure.get());
+
+        LightingChunk.relight(instance, instance.getChunks());
+        assertLightInstance(instance, Map.ofEntries(
+                entry(new Vec(8, 81, 8), 14),
+                entry(new Vec(8, 80, 11), 12)
+        ));
+    }
+
+    @Test
+    public void blockChangeKeepsNeighborSectionEncoding(Env env) {
+        Instance instance = env.createFlatInstance();
+        instance.setChunkSupplier(LightingChunk::new);
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(1, 0).join();
+
+        Section written = instance.getChunk(0, 0).getSectionAt(70);
+        Section other = instance.getChunk(0, 0).getSectionAt(0);
+        Section neighbor = instance.getChunk(1, 0).getSectionAt(70);
+        byte[] writtenData = written.networkData(64);
+        byte[] otherData = other.networkData(64);
+        byte[] neighborData = neighbor.networkData(64);
+
+        instance.setBlock(15, 70, 0, Block.GLOWSTONE);
+
+        // Only the light of the neighbors changed, their palettes are still valid
+        assertNotSame(writtenData, written.networkData(64));
+        assertSame(otherData, other.networkData(64));
+        assertSame(neighborData, neighbor.networkData(64));
+    }
 }
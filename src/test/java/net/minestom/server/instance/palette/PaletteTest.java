@@ -561,6 +561,31 @@ public class PaletteTest {
         }
     }
 
+    @Test
+    public void cloneCopyOnWrite() {
+        for (Palette palette : testPalettes()) {
+            palette.set(0, 0, 0, 1);
+            palette.set(1, 0, 0, 2);
+            Palette clone = palette.clone();
+            assertTrue(palette.compare(clone));
+
+            clone.set(0, 0, 0, 3);
+            assertEquals(1, palette.get(0, 0, 0), "Original should not see clone writes");
+            assertEquals(3, clone.get(0, 0, 0));
+
+            palette.set(1, 0, 0, 4);
+            assertEquals(4, palette.get(1, 0, 0));
+            assertEquals(2, clone.get(1, 0, 0), "Clone should not see original writes");
+
+            Palette second = clone.clone();
+            second.replace(3, 5);
+            assertEquals(3, clone.get(0, 0, 0));
+            assertEquals(5, second.get(0, 0, 0));
+            assertEquals(2, clone.count());
+            assertEquals(2, second.count());
+        }
+    }
+
     @Test
     public void dimension() {
         assertThrows(Exception.class, () -> Palette.empty(-4, 5, 3, 15));
@@ -5,12 +5,14 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.adventure.MinestomAdventure;
+import net.minestom.server.codec.Transcoder;
 import net.minestom.server.component.DataComponent;
 import net.minestom.server.component.DataComponents;
 import net.minestom.server.entity.EntityType;
 import net.minestom.server.instance.block.jukebox.JukeboxSong;
 import net.minestom.server.item.component.EnchantmentList;
 import net.minestom.server.item.enchant.Enchantment;
+import net.minestom.server.registry.RegistryTranscoder;
 import net.minestom.testing.Env;
 import net.minestom.testing.EnvTest;
 import org.junit.jupiter.api.Test;
@@ -176,4 +178,22 @@ public class ItemTest {
                 .set(DataComponents.ENCHANTMENTS, new EnchantmentList(Map.of(Enchantment.EFFICIENCY, 10)))
                 .build();
     }
+
+    @Test
+    public void hashCache() {
+        var item = ItemStack.of(Material.DIAMOND_SWORD)
+                .with(DataComponents.CUSTOM_NAME, Component.text("Sword"))
+                .with(DataComponents.LORE, List.of(Component.text("Line 1")));
+        var hash = ItemStack.Hash.of(item);
+        assertSame(hash, ItemStack.Hash.of(item));
+        // Stacks are cached by identity, equal ones still hash the same
+        var equalItem = ItemStack.of(Material.DIAMOND_SWORD)
+                .with(DataComponents.CUSTOM_NAME, Component.text("Sword"))
+                .with(DataComponents.LORE, List.of(Component.text("Line 1")));
+        assertEquals(hash, ItemStack.Hash.of(equalItem));
+        assertSame(ItemStack.Hash.of(equalItem), ItemStack.Hash.of(equalItem));
+        assertEquals(ItemStackHashImpl.of(new RegistryTranscoder<>(Transcoder.CRC32_HASH, MinecraftServer.process()), item), hash);
+        assertNotEquals(hash, ItemStack.Hash.of(item.withAmount(2)));
+        assertNotEquals(hash, ItemStack.Hash.of(item.with(DataComponents.CUSTOM_NAME, Component.text("Other"))));
+    }
 }
@@ -0,0 +1,51 @@
+package net.minestom.server.network;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.player.GameProfile;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ConnectionManagerIntegrationTest {
+
+    @Test
+    public void onlinePlayerLookup(Env env) {
+        var instance = env.createFlatInstance();
+        var manager = env.process().connection();
+        Player first = env.createConnection(new GameProfile(UUID.randomUUID(), "First")).connect(instance, new Pos(0, 40, 0));
+        Player second = env.createConnection(new GameProfile(UUID.randomUUID(), "Second")).connect(instance, new Pos(0, 40, 0));
+
+        assertSame(first, manager.getOnlinePlayerByUuid(first.getUuid()));
+        assertSame(second, manager.getOnlinePlayerByUuid(second.getUuid()));
+        assertSame(first, manager.getOnlinePlayerByUsername("first"));
+        assertSame(second, manager.getOnlinePlayerByUsername("SECOND"));
+        assertNull(manager.getOnlinePlayerByUsername("Third"));
+        assertNull(manager.getOnlinePlayerByUuid(UUID.randomUUID()));
+        assertEquals(2, manager.getOnlinePlayerCount());
+
+        manager.removePlayer(first.getPlayerConnection());
+        assertNull(manager.getOnlinePlayerByUuid(first.getUuid()));
+        assertNull(manager.getOnlinePlayerByUsername("First"));
+        assertSame(second, manager.getOnlinePlayerByUsername("Second"));
+        assertFalse(manager.getOnlinePlayers().contains(first));
+    }
+
+    @Test
+    public void duplicateUsername(Env env) {
+        var instance = env.createFlatInstance();
+        var manager = env.process().connection();
+        Player first = env.createConnection(new GameProfile(UUID.randomUUID(), "Same")).connect(instance, new Pos(0, 40, 0));
+        Player second = env.createConnection(new GameProfile(UUID.randomUUID(), "same")).connect(instance, new Pos(0, 40, 0));
+
+        // The first player keeps the username until it leaves
+        assertSame(first, manager.getOnlinePlayerByUsername("SAME"));
+        manager.removePlayer(first.getPlayerConnection());
+        assertSame(second, manager.getOnlinePlayerByUsername("SAME"));
+    }
+}
@@ -8,6 +8,7 @@ import net.minestom.server.network.packet.PacketWriting;
 import net.minestom.server.network.packet.client.ClientPacket;
 import net.minestom.server.network.packet.client.play.ClientAnimationPacket;
 import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.FramedPacketCache;
 import net.minestom.server.network.packet.server.LazyPacket;
 import net.minestom.server.network.packet.server.play.SystemChatPacket;
 import org.junit.jupiter.api.Test;
@@ -49,6 +50,58 @@ public class SendablePacketTest {
         assertSame(packet, cached.packet(ConnectionState.PLAY));
     }
 
+    @Test
+    public void cachedShared() {
+        var frames = new FramedPacketCache(Long.MAX_VALUE);
+        var first = new CachedPacket(frames, () -> new FramedPacketCache.Content(
+                new SystemChatPacket(Component.text("Hello World!"), false), "hello"));
+        var second = new CachedPacket(frames, () -> new FramedPacketCache.Content(
+                new SystemChatPacket(Component.text("Hello World!"), false), "hello"));
+
+        var firstBuffer = first.body(ConnectionState.PLAY);
+        assertSame(firstBuffer, second.body(ConnectionState.PLAY));
+        assertEquals(1, frames.misses());
+        assertEquals(1, frames.hits());
+        assertEquals(1, frames.count());
+    }
+
+    @Test
+    public void sharedEviction() {
+        var frames = new FramedPacketCache(0);
+        var hello = new SystemChatPacket(Component.text("Hello"), false);
+        var world = new SystemChatPacket(Component.text("World"), false);
+
+        frames.frame(ConnectionState.PLAY, hello, "hello");
+        frames.frame(ConnectionState.PLAY, world, "world");
+        // The most recent frame is always kept
+        assertEquals(1, frames.count());
+        assertEquals(1, frames.evictions());
+
+        frames.frame(ConnectionState.PLAY, world, "world");
+        assertEquals(1, frames.hits());
+        frames.frame(ConnectionState.PLAY, hello, "hello");
+        assertEquals(3, frames.misses());
+    }
+
+    @Test
+    public void sharedRetainedSize() {
+        var frames = new FramedPacketCache(Long.MAX_VALUE);
+        var packet = new SystemChatPacket(Component.text("Hello"), false);
+
+        var frame = frames.frame(ConnectionState.PLAY, packet, "hello", 1000);
+        assertEquals(frame.body().capacity() + 1000, frames.size());
+        // Hits do not count the content again
+        frames.frame(ConnectionState.PLAY, packet, "hello", 1000);
+        assertEquals(frame.body().capacity() + 1000, frames.size());
+
+        // The retained content counts towards the limit
+        var bounded = new FramedPacketCache(1500);
+        bounded.frame(ConnectionState.PLAY, packet, "hello", 1000);
+        bounded.frame(ConnectionState.PLAY, new SystemChatPacket(Component.text("World"), false), "world", 1000);
+        assertEquals(1, bounded.count());
+        assertEquals(1, bounded.evictions());
+    }
+
     @Test
     public void trimmed() throws DataFormatException {
         var packet = new ClientAnimationPacket(PlayerHand.MAIN);
@@ -3,6 +3,8 @@ package net.minestom.server.thread;
 import net.minestom.server.Tickable;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -279,4 +281,101 @@ public class ThreadDispatcherTest {
 
         dispatcher.shutdown();
     }
+
+    @Test
+    public void balancedUpdate() {
+        // Ensure that heavy partitions pinned to the same thread are spread
+        // when RefreshType.BALANCED is used
+        final int threadCount = 2;
+        ThreadDispatcher<Element, Element> dispatcher = ThreadDispatcher.dispatcher(new ThreadProvider<>() {
+            @Override
+            public int findThread(Element partition) {
+                return 0;
+            }
+
+            @Override
+            public RefreshType refreshType() {
+                return RefreshType.BALANCED;
+            }
+        }, threadCount);
+        dispatcher.start();
+
+        Map<Element, Thread> threads = new ConcurrentHashMap<>();
+        Set<Element> partitions = IntStream.range(0, threadCount)
+                .mapToObj(value -> new Element() {
+                    @Override
+                    public void tick(long time) {
+                        final long start = System.nanoTime();
+                        while (System.nanoTime() - start < 500_000) Thread.onSpinWait();
+                        threads.put(this, Thread.currentThread());
+                        assertSame(Thread.currentThread(), acquirable().assignedThread());
+                    }
+                }).collect(Collectors.toUnmodifiableSet());
+        partitions.forEach(partition -> {
+            dispatcher.createPartition(partition);
+            dispatcher.updateElement(partition, partition);
+        });
+
+        for (int i = 0; i < 5; i++) dispatcher.updateAndAwait(System.nanoTime());
+        assertEquals(1, Set.copyOf(threads.values()).size(), "Partitions should start on the same thread");
+
+        dispatcher.refreshThreads();
+        dispatcher.updateAndAwait(System.nanoTime());
+        assertEquals(threadCount, Set.copyOf(threads.values()).size(), "Partitions have not been spread");
+
+        // Balanced layout should be stable
+        final Map<Element, Thread> balanced = Map.copyOf(threads);
+        for (int i = 0; i < 5; i++) {
+            dispatcher.refreshThreads();
+            dispatcher.updateAndAwait(System.nanoTime());
+        }
+        assertEquals(balanced, threads);
+
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void tickablesOnPartitionThread() {
+        record Group(int id) {
+        }
+        final int threadCount = 4;
+        ThreadDispatcher<Group, Tickable> dispatcher = ThreadDispatcher.dispatcher(Group::id, threadCount);
+        dispatcher.start();
+
+        Map<Integer, Thread> partitionThreads = new ConcurrentHashMap<>();
+        Map<Integer, Thread> tickableThreads = new ConcurrentHashMap<>();
+        record GroupTickable(int id, Map<Integer, Thread> threads) implements Tickable {
+            @Override
+            public void tick(long time) {
+                threads.put(id, Thread.currentThread());
+            }
+        }
+        AtomicInteger outOfOrder = new AtomicInteger();
+        List<GroupTickable> tickables = new ArrayList<>();
+        for (int i = 0; i < threadCount * 2; i++) {
+            final int id = i;
+            Group group = new Group(id);
+            dispatcher.createPartition(group);
+            dispatcher.updateElement(time -> {
+                // Tickables run before the partitions of their thread
+                if (tickableThreads.get(id) != Thread.currentThread()) outOfOrder.incrementAndGet();
+                partitionThreads.put(id, Thread.currentThread());
+            }, group);
+            tickables.add(new GroupTickable(id, tickableThreads));
+        }
+
+        dispatcher.updateAndAwait(System.nanoTime(), tickables, GroupTickable::id);
+        assertEquals(threadCount * 2, partitionThreads.size());
+        assertEquals(partitionThreads, tickableThreads);
+        assertEquals(0, outOfOrder.get());
+        assertEquals(threadCount, Set.copyOf(tickableThreads.values()).size());
+
+        // Tickables are only ticked for a single update
+        tickableThreads.clear();
+        partitionThreads.clear();
+        dispatcher.updateAndAwait(System.nanoTime(), List.of(), GroupTickable::id);
+        assertTrue(tickableThreads.isEmpty());
+
+        dispatcher.shutdown();
+    }
 }
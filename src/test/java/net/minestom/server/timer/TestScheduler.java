@@ -43,6 +43,23 @@ public class TestScheduler {
         assertTrue(result.get(), "Tick task must be executed after 1 second");
     }
 
+    @Test
+    public void longTickTask() {
+        Scheduler scheduler = Scheduler.newScheduler();
+        AtomicInteger result = new AtomicInteger(-1);
+        AtomicInteger tick = new AtomicInteger();
+        // Crosses multiple levels of the timing wheel
+        scheduler.buildTask(() -> result.set(tick.get()))
+                .delay(TaskSchedule.tick(300_000))
+                .schedule();
+        for (int i = 1; i <= 300_000; i++) {
+            tick.set(i);
+            scheduler.processTick();
+            if (i < 300_000) assertEquals(-1, result.get(), "Task executed too early");
+        }
+        assertEquals(300_000, result.get(), "Task must be executed on its exact tick");
+    }
+
     @Test
     public void immediateTask() {
         Scheduler scheduler = Scheduler.newScheduler();
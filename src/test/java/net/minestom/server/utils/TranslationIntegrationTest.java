@@ -2,6 +2,7 @@ package net.minestom.server.utils;
 
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import net.kyori.adventure.translation.GlobalTranslator;
 import net.kyori.adventure.translation.TranslationRegistry;
 import net.minestom.server.adventure.MinestomAdventure;
@@ -33,6 +34,7 @@ public class TranslationIntegrationTest {
         final var translator = TranslationRegistry.create(Key.key("test.reg"));
         // Have to use US as default language because the default ClientSettings are in US :)
         translator.register("test.key", Locale.US, new MessageFormat("This is a test message", MinestomAdventure.getDefaultLocale()));
+        translator.register("test.key", Locale.FRANCE, new MessageFormat("Ceci est un message de test", Locale.FRANCE));
 
         GlobalTranslator.translator().addSource(translator);
     }
@@ -119,4 +121,33 @@ public class TranslationIntegrationTest {
         });
 
     }
+
+    @Test
+    public void testTranslationPerLocale(final Env env) {
+        final var instance = env.createFlatInstance();
+        final var usConnection = env.createConnection();
+        final var usPlayer = usConnection.connect(instance, new Pos(0, 40, 0));
+        final var frConnection = env.createConnection();
+        final var frPlayer = frConnection.connect(instance, new Pos(0, 40, 0));
+        frPlayer.setLocale(Locale.FRANCE);
+        final var secondFrConnection = env.createConnection();
+        final var secondFrPlayer = secondFrConnection.connect(instance, new Pos(0, 40, 0));
+        secondFrPlayer.setLocale(Locale.FRANCE);
+        final var usCollector = usConnection.trackIncoming(SystemChatPacket.class);
+        final var frCollector = frConnection.trackIncoming(SystemChatPacket.class);
+        final var secondFrCollector = secondFrConnection.trackIncoming(SystemChatPacket.class);
+
+        MinestomAdventure.AUTOMATIC_COMPONENT_TRANSLATION = true;
+        final long hits = PacketSendingUtils.translatedPacketHits();
+        final long misses = PacketSendingUtils.translatedPacketMisses();
+        final var packet = new SystemChatPacket(Component.translatable("test.key"), false);
+        PacketSendingUtils.sendGroupedPacket(List.of(usPlayer, frPlayer, secondFrPlayer), packet);
+
+        // Rendered once for each locale
+        assertEquals(2, PacketSendingUtils.translatedPacketMisses() - misses);
+        assertEquals(1, PacketSendingUtils.translatedPacketHits() - hits);
+        usCollector.assertSingle(received -> assertEquals("This is a test message", PlainTextComponentSerializer.plainText().serialize(received.message())));
+        frCollector.assertSingle(received -> assertEquals("Ceci est un message de test", PlainTextComponentSerializer.plainText().serialize(received.message())));
+        secondFrCollector.assertSingle(received -> assertEquals("Ceci est un message de test", PlainTextComponentSerializer.plainText().serialize(received.message())));
+    }
 }